@@ -0,0 +1,112 @@
+package com.anton.tsarenko.shortener.auth.bulkhead;
+
+import com.anton.tsarenko.shortener.exceptions.custom.LoginRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded executor for login verification. Password hashing is CPU-bound by design, so logins
+ * are verified on a small dedicated pool with a bounded queue instead of the servlet threads.
+ * When the queue is full, or a queued login is not verified in time, the login is rejected
+ * right away, so a burst of login attempts cannot take CPU and threads from redirects.
+ */
+@Component
+public class LoginBulkhead {
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Counter rejectedLogins;
+    private final Timer verificationTimer;
+
+    /**
+     * Constructs a LoginBulkhead with the specified limits.
+     *
+     * @param poolSize      the number of threads verifying logins
+     * @param queueCapacity the maximum number of logins waiting for a verification thread
+     * @param timeout       the maximum time a login waits for its verification
+     * @param meterRegistry the registry to publish bulkhead metrics to
+     */
+    public LoginBulkhead(
+            @Value("${security.login.bulkhead.pool-size}") int poolSize,
+            @Value("${security.login.bulkhead.queue-capacity}") int queueCapacity,
+            @Value("${security.login.bulkhead.timeout}") Duration timeout,
+            MeterRegistry meterRegistry
+    ) {
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("login-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.timeout = timeout;
+        this.rejectedLogins = meterRegistry.counter("shortener.login.bulkhead.rejected");
+        this.verificationTimer = meterRegistry.timer("shortener.login.verification");
+        Gauge.builder("shortener.login.bulkhead.queued", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("shortener.login.bulkhead.active", executor,
+                        ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the login verification on the bulkhead and waits for its result.
+     *
+     * @param verification the login verification
+     * @param <T>          the type of the verification result
+     * @return the verification result
+     * @throws LoginRejectedException if the bulkhead is saturated or the verification is not
+     *                                completed in time
+     */
+    public <T> T execute(Supplier<T> verification) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> verificationTimer.record(verification));
+        } catch (RejectedExecutionException e) {
+            rejectedLogins.increment();
+            throw new LoginRejectedException();
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedLogins.increment();
+            throw new LoginRejectedException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new LoginRejectedException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Stops the verification threads on shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
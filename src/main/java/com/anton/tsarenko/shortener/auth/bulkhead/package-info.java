@@ -0,0 +1,5 @@
+/**
+ * This package contains the bulkhead that isolates login password verification from the rest of
+ * the request traffic.
+ */
+package com.anton.tsarenko.shortener.auth.bulkhead;
@@ -0,0 +1,29 @@
+package com.anton.tsarenko.shortener.auth.cache;
+
+import com.anton.tsarenko.shortener.auth.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener evicting users from {@link UserDetailsCache} once they are updated or
+ * deleted.
+ * Changes made by bulk or native statements bypass it and are only dropped by the cache TTL.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheEvictionListener {
+    private final UserDetailsCache userDetailsCache;
+
+    /**
+     * Evicts the changed user from the cache.
+     *
+     * @param user the updated or deleted user
+     */
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        userDetailsCache.removeUserFromCache(user.getUsername());
+    }
+}
@@ -0,0 +1,73 @@
+package com.anton.tsarenko.shortener.auth.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived in-process cache of login credentials by username, so that repeated logins of
+ * the same user do not query the users table. A cached entry whose password does not match is
+ * reloaded by the authentication provider, and entries are evicted by
+ * {@link UserCacheEvictionListener} when a user is updated or deleted through JPA.
+ *
+ * <p>A new password is therefore accepted at once, but the old one is not rejected at once in
+ * every case. A password or enabled flag written past the entity lifecycle, by a bulk or native
+ * statement or by another instance, leaves the old credentials cached, and the old password
+ * keeps logging in until the entry expires after the TTL. The TTL is the staleness window and
+ * is kept short for that reason.
+ */
+@Component
+public class UserDetailsCache implements UserCache {
+    /** Cache name used as a metrics tag. */
+    public static final String CACHE_NAME = "userDetails";
+
+    private final Cache<String, UserDetails> cache;
+    private final boolean enabled;
+
+    /**
+     * Constructs a UserDetailsCache with the specified bounds.
+     *
+     * @param enabled       whether login credentials are cached
+     * @param maxSize       the maximum number of cached users
+     * @param ttl           the time-to-live of cached credentials, which bounds how long an
+     *                      old password keeps working after a change outside JPA
+     * @param meterRegistry the registry to publish cache statistics to
+     */
+    public UserDetailsCache(
+            @Value("${security.login.user-cache.enabled}") boolean enabled,
+            @Value("${security.login.user-cache.max-size}") long maxSize,
+            @Value("${security.login.user-cache.ttl}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        return enabled ? cache.getIfPresent(username) : null;
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        if (enabled) {
+            cache.put(user.getUsername(), user);
+        }
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        cache.invalidate(username);
+    }
+}
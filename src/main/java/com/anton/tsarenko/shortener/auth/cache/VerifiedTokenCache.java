@@ -0,0 +1,75 @@
+package com.anton.tsarenko.shortener.auth.cache;
+
+import com.anton.tsarenko.shortener.auth.dto.AuthenticatedUser;
+import com.anton.tsarenko.shortener.auth.util.TokenDigest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded in-process cache of recently verified access tokens, so that a token polled
+ * repeatedly is verified by its signature only once. Tokens are keyed by their SHA-256 digest
+ * and never stored themselves. Each entry expires together with its token.
+ */
+@Component
+public class VerifiedTokenCache {
+    /** Cache name used as a metrics tag. */
+    public static final String CACHE_NAME = "verifiedTokens";
+
+    private final Cache<String, VerifiedToken> cache;
+
+    /**
+     * Constructs a VerifiedTokenCache with the specified bound.
+     *
+     * @param maxSize       the maximum number of cached tokens
+     * @param meterRegistry the registry to publish cache statistics to
+     */
+    public VerifiedTokenCache(
+            @Value("${security.jwt.cache.max-size}") long maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String digest, VerifiedToken token) ->
+                        Duration.between(Instant.now(), token.expiresAt())))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the user of the verified token if it is cached and not expired.
+     *
+     * @param token the access token
+     * @return Optional with the authenticated user if cached, empty otherwise
+     */
+    public Optional<AuthenticatedUser> get(String token) {
+        VerifiedToken verifiedToken = cache.getIfPresent(TokenDigest.sha256(token));
+        if (verifiedToken == null || !verifiedToken.expiresAt().isAfter(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(verifiedToken.user());
+    }
+
+    /**
+     * Caches the user of the verified token until the token expires.
+     *
+     * @param token     the verified access token
+     * @param user      the authenticated user described by the token
+     * @param expiresAt the expiration date of the token
+     */
+    public void put(String token, AuthenticatedUser user, Instant expiresAt) {
+        if (expiresAt.isAfter(Instant.now())) {
+            cache.put(TokenDigest.sha256(token), new VerifiedToken(user, expiresAt));
+        }
+    }
+
+    private record VerifiedToken(AuthenticatedUser user, Instant expiresAt) {}
+}
@@ -0,0 +1,4 @@
+/**
+ * This package contains in-process caches used by the authentication functionality.
+ */
+package com.anton.tsarenko.shortener.auth.cache;
@@ -2,6 +2,7 @@ package com.anton.tsarenko.shortener.auth.controller;
 
 import com.anton.tsarenko.shortener.auth.dto.AuthRequest;
 import com.anton.tsarenko.shortener.auth.dto.AuthResponse;
+import com.anton.tsarenko.shortener.auth.dto.RefreshRequest;
 import com.anton.tsarenko.shortener.auth.entity.User;
 import com.anton.tsarenko.shortener.auth.mapper.UserMapper;
 import com.anton.tsarenko.shortener.auth.service.AuthService;
@@ -76,14 +77,39 @@ public class AuthController {
                     description = "Token returned",
                     content = @Content(schema = @Schema(implementation = AuthResponse.class))
             ),
-            @ApiResponse(responseCode = "401", description = "Invalid credentials")
+            @ApiResponse(responseCode = "401", description = "Invalid credentials"),
+            @ApiResponse(responseCode = "429", description = "Too many concurrent login attempts")
     })
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(@RequestBody @Valid AuthRequest request) {
         User user = mapper.toUserForLogin(request);
 
-        AuthResponse authResponse = new AuthResponse(authService.login(user));
+        AuthResponse authResponse = authService.login(user);
 
         return ResponseEntity.ok(authResponse);
     }
+
+    /**
+     * Endpoint for exchanging a refresh token for new tokens.
+     *
+     * @param request request, containing the refresh token.
+     * @return a response entity with a new access token and a new refresh token
+     */
+    @Operation(
+            summary = "Refresh",
+            description = "Exchanges a refresh token for a new access token and a new refresh "
+                    + "token without the password. Every refresh token can be used only once.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Tokens returned",
+                    content = @Content(schema = @Schema(implementation = AuthResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "401", description = "Invalid or expired refresh token")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@RequestBody @Valid RefreshRequest request) {
+        return ResponseEntity.ok(authService.refresh(request.refreshToken()));
+    }
 }
@@ -6,7 +6,8 @@ import java.io.Serializable;
 /**
  * Record for response to auth requests.
  *
- * @param accessToken - token.
+ * @param accessToken  - token.
+ * @param refreshToken - opaque token to exchange for new tokens without the password.
  */
 @Schema(description = "Authentication response payload")
 public record AuthResponse(
@@ -14,5 +15,10 @@ public record AuthResponse(
                 description = "JWT access token",
                 example = "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJKb2huRG9lMSJ9.signature"
         )
-        String accessToken
+        String accessToken,
+        @Schema(
+                description = "Opaque refresh token, valid for a single refresh",
+                example = "Xq3l0m4cVb2t9Pz8yK1wR7uN6sJ5hG4fD3eC2bA1zY0"
+        )
+        String refreshToken
 ) implements Serializable {}
@@ -0,0 +1,47 @@
+package com.anton.tsarenko.shortener.auth.dto;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Credentials of a user loaded for login, carrying the user id so that the access token can be
+ * issued without another lookup. Every user has the single {@code ROLE_USER} authority.
+ *
+ * @param id       - id of the user.
+ * @param username - username of the user.
+ * @param password - password hash of the user.
+ * @param enabled  - whether the user may log in.
+ */
+public record AuthUserDetails(
+        Long id,
+        String username,
+        String password,
+        boolean enabled
+) implements UserDetails, Serializable {
+    private static final List<GrantedAuthority> AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
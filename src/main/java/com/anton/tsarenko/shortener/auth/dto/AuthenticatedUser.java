@@ -0,0 +1,20 @@
+package com.anton.tsarenko.shortener.auth.dto;
+
+import java.io.Serializable;
+import java.security.Principal;
+
+/**
+ * Principal of a request authenticated by an access token, built from the token claims alone.
+ *
+ * @param id       - id of the user.
+ * @param username - username of the user.
+ */
+public record AuthenticatedUser(
+        Long id,
+        String username
+) implements Principal, Serializable {
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -0,0 +1,23 @@
+package com.anton.tsarenko.shortener.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.io.Serializable;
+
+/**
+ * A record representing a request to exchange a refresh token for new tokens.
+ *
+ * @param refreshToken the refresh token returned by the login or the previous refresh
+ */
+@Schema(description = "Token refresh request payload")
+public record RefreshRequest(
+        @Schema(
+                description = "Refresh token",
+                example = "Xq3l0m4cVb2t9Pz8yK1wR7uN6sJ5hG4fD3eC2bA1zY0"
+        )
+        @NotBlank
+        @Size(max = 64, message = "must be at most 64 characters long")
+        String refreshToken
+) implements Serializable {
+}
@@ -1,7 +1,9 @@
 package com.anton.tsarenko.shortener.auth.entity;
 
+import com.anton.tsarenko.shortener.auth.cache.UserCacheEvictionListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -21,6 +23,7 @@ import lombok.Setter;
 @Setter
 @Builder
 @Table(name = "users")
+@EntityListeners(UserCacheEvictionListener.class)
 @NoArgsConstructor
 @AllArgsConstructor
 public class User {
@@ -35,6 +38,10 @@ public class User {
     @Column(name = "password_hash", nullable = false)
     private String passwordHash;
 
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean enabled = true;
+
     @Column(name = "created_at", insertable = false, updatable = false)
     @Builder.Default
     private Instant createdAt = Instant.now();
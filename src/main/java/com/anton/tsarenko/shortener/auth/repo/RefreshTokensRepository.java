@@ -0,0 +1,43 @@
+package com.anton.tsarenko.shortener.auth.repo;
+
+import com.anton.tsarenko.shortener.auth.dto.AuthenticatedUser;
+import com.anton.tsarenko.shortener.auth.entity.RefreshToken;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository interface for managing RefreshToken entities.
+ */
+public interface RefreshTokensRepository extends JpaRepository<RefreshToken, Long> {
+    /**
+     * Deletes the not expired refresh token by its digest and returns the enabled user it was
+     * issued to, in a single statement. A token can therefore be consumed only once, even by
+     * concurrent requests.
+     *
+     * @param tokenHash the digest of the refresh token
+     * @return Optional with the user of the token if it was valid, empty otherwise
+     */
+    @Transactional
+    @Query(value = "WITH consumed AS ("
+            + "DELETE FROM refresh_tokens "
+            + "WHERE token_hash = :tokenHash AND expires_at > now() "
+            + "RETURNING user_id) "
+            + "SELECT u.id, u.username FROM consumed c JOIN users u ON u.id = c.user_id "
+            + "WHERE u.enabled", nativeQuery = true)
+    Optional<AuthenticatedUser> consumeByTokenHash(String tokenHash);
+
+    /**
+     * Deletes refresh tokens that expired before the given instant.
+     *
+     * @param now the current instant
+     * @return the number of deleted tokens
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(Instant now);
+}
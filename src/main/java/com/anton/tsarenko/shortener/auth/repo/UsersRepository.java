@@ -1,7 +1,11 @@
 package com.anton.tsarenko.shortener.auth.repo;
 
 import com.anton.tsarenko.shortener.auth.entity.User;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository interface for managing User entities.
@@ -14,4 +18,29 @@ public interface UsersRepository extends JpaRepository<User, Long> {
      * @return true if a user with the given username exists, false otherwise
      */
     boolean existsByUsername(String username);
+
+    /**
+     * Finds the user with the given username.
+     *
+     * @param username the username of the user
+     * @return Optional with the user if it exists, empty otherwise
+     */
+    Optional<User> findByUsername(String username);
+
+    /**
+     * Inserts the user unless the username is already taken, in a single statement. Concurrent
+     * registrations of the same username do not fail with a unique violation; all but one of
+     * them insert nothing.
+     *
+     * @param username     the username of the user
+     * @param passwordHash the password hash of the user
+     * @param enabled      whether the user is enabled
+     * @return 1 if the user was inserted, 0 if the username already exists
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO users (username, password_hash, enabled) "
+            + "VALUES (:username, :passwordHash, :enabled) "
+            + "ON CONFLICT ON CONSTRAINT ux_users_username DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(String username, String passwordHash, boolean enabled);
 }
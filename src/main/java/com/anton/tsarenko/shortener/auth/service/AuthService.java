@@ -1,5 +1,6 @@
 package com.anton.tsarenko.shortener.auth.service;
 
+import com.anton.tsarenko.shortener.auth.dto.AuthResponse;
 import com.anton.tsarenko.shortener.auth.entity.User;
 
 /**
@@ -19,8 +20,17 @@ public interface AuthService {
      * Logins a new user based on the provided login request.
      *
      * @param user user details
-     * @return login response
+     * @return login response with an access token and a refresh token
      */
-    String login(User user);
+    AuthResponse login(User user);
+
+    /**
+     * Exchanges the refresh token for a new access token and a new refresh token without
+     * verifying the password. The exchanged refresh token cannot be used again.
+     *
+     * @param refreshToken the refresh token
+     * @return refresh response with an access token and a refresh token
+     */
+    AuthResponse refresh(String refreshToken);
 
 }
@@ -1,31 +1,28 @@
 package com.anton.tsarenko.shortener.auth.service;
 
+import com.anton.tsarenko.shortener.auth.dto.AuthenticatedUser;
+import java.util.Optional;
+
 /**
- * Service interface for handling JWT (JSON Web Token) operations such as generating access tokens,
- * extracting usernames from tokens, and validating tokens.
+ * Service interface for handling JWT (JSON Web Token) operations such as generating access tokens
+ * and authenticating users by them.
  */
 public interface JwtService {
     /**
-     * Generates a JWT access token for the given username.
+     * Generates a JWT access token for the given user.
      *
+     * @param userId the id of the user, carried in the token
      * @param username the username for which to generate the token
      * @return a JWT access token as a String
      */
-    String generateAccessToken(String username);
-
-    /**
-     * Extracts the username from the given JWT token.
-     *
-     * @param token the JWT token from which to extract the username
-     * @return the username extracted from the token
-     */
-    String extractUsername(String token);
+    String generateAccessToken(Long userId, String username);
 
     /**
-     * Validates the given JWT token.
+     * Verifies the given JWT token and extracts the id and the username of the user from it
+     * in one pass. Recently verified tokens are not verified again until they expire.
      *
-     * @param token the JWT token to validate
-     * @return true if the token is valid, false otherwise
+     * @param token the JWT token to verify
+     * @return Optional with the authenticated user if the token is valid, empty otherwise
      */
-    boolean isTokenValid(String token);
+    Optional<AuthenticatedUser> authenticate(String token);
 }
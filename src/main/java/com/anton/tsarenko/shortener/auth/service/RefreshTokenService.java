@@ -0,0 +1,26 @@
+package com.anton.tsarenko.shortener.auth.service;
+
+import com.anton.tsarenko.shortener.auth.dto.AuthenticatedUser;
+import java.util.Optional;
+
+/**
+ * Service interface for issuing and consuming opaque refresh tokens.
+ */
+public interface RefreshTokenService {
+
+    /**
+     * Issues a new refresh token for the user.
+     *
+     * @param userId the id of the user
+     * @return the refresh token
+     */
+    String issue(Long userId);
+
+    /**
+     * Consumes the refresh token. A consumed token cannot be used again.
+     *
+     * @param refreshToken the refresh token
+     * @return Optional with the user the token was issued to if it was valid, empty otherwise
+     */
+    Optional<AuthenticatedUser> consume(String refreshToken);
+}
@@ -7,10 +7,11 @@ import com.anton.tsarenko.shortener.auth.entity.User;
  */
 public interface UserService {
     /**
-     * Retrieves a user by their unique identifier.
+     * Returns a lazy reference to a user without querying the users table, for use where
+     * only the foreign key of the user is needed.
      *
      * @param id the unique identifier of the user
-     * @return the User object corresponding to the provided id
+     * @return the reference to the user with the provided id
      */
-    User getUserById(Long id);
+    User getUserReference(Long id);
 }
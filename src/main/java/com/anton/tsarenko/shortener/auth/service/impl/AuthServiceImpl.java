@@ -1,9 +1,14 @@
 package com.anton.tsarenko.shortener.auth.service.impl;
 
+import com.anton.tsarenko.shortener.auth.bulkhead.LoginBulkhead;
+import com.anton.tsarenko.shortener.auth.dto.AuthResponse;
+import com.anton.tsarenko.shortener.auth.dto.AuthUserDetails;
+import com.anton.tsarenko.shortener.auth.dto.AuthenticatedUser;
 import com.anton.tsarenko.shortener.auth.entity.User;
 import com.anton.tsarenko.shortener.auth.repo.UsersRepository;
 import com.anton.tsarenko.shortener.auth.service.AuthService;
 import com.anton.tsarenko.shortener.auth.service.JwtService;
+import com.anton.tsarenko.shortener.auth.service.RefreshTokenService;
 import com.anton.tsarenko.shortener.exceptions.custom.UserAlreadyExistsException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +18,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Implementation of the authentication service.
@@ -24,31 +30,50 @@ public class AuthServiceImpl implements AuthService {
     private final UsersRepository usersRepository;
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
+    private final LoginBulkhead loginBulkhead;
+    private final RefreshTokenService refreshTokenService;
 
     @Override
     public void register(User user) {
-        if (usersRepository.existsByUsername(user.getUsername())) {
+        int inserted = usersRepository.insertIfAbsent(
+                user.getUsername(), user.getPasswordHash(), user.isEnabled());
+
+        if (inserted == 0) {
             throw new UserAlreadyExistsException(user.getUsername());
         }
-
-        usersRepository.save(user);
     }
 
     @Override
-    public String login(User user) {
+    public AuthResponse login(User user) {
 
         try {
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            user.getUsername(),
-                            user.getPasswordHash())
-            );
-
-            return
-                    jwtService.generateAccessToken(authentication.getName());
+            Authentication authentication = loginBulkhead.execute(() ->
+                    authenticationManager.authenticate(
+                            new UsernamePasswordAuthenticationToken(
+                                    user.getUsername(),
+                                    user.getPasswordHash())
+                    ));
+
+            AuthUserDetails userDetails = (AuthUserDetails) authentication.getPrincipal();
+            return issueTokens(userDetails.id(), userDetails.username());
         } catch (AuthenticationException e) {
             throw new BadCredentialsException("Invalid username or password");
         }
     }
 
+    @Override
+    @Transactional
+    public AuthResponse refresh(String refreshToken) {
+        AuthenticatedUser user = refreshTokenService.consume(refreshToken)
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+
+        return issueTokens(user.id(), user.username());
+    }
+
+    private AuthResponse issueTokens(Long userId, String username) {
+        return new AuthResponse(
+                jwtService.generateAccessToken(userId, username),
+                refreshTokenService.issue(userId));
+    }
+
 }
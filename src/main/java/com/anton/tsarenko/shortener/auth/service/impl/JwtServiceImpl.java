@@ -2,13 +2,17 @@ package com.anton.tsarenko.shortener.auth.service.impl;
 
 import static io.jsonwebtoken.security.Keys.hmacShaKeyFor;
 
+import com.anton.tsarenko.shortener.auth.cache.VerifiedTokenCache;
+import com.anton.tsarenko.shortener.auth.dto.AuthenticatedUser;
 import com.anton.tsarenko.shortener.auth.service.JwtService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -19,26 +23,35 @@ import org.springframework.stereotype.Service;
  */
 @Service
 public class JwtServiceImpl implements JwtService {
+    private static final String USER_ID_CLAIM = "uid";
 
     private final SecretKey key;
+    private final JwtParser parser;
     private final long expirationInMinutes;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     /**
      * Constructs a JwtServiceImpl with the specified secret and access token TTL.
      *
      * @param secret           the secret key used for signing JWTs
      * @param expirationInMinutes the time-to-live for access tokens in minutes
+     * @param verifiedTokenCache the cache of recently verified tokens
      */
     public JwtServiceImpl(
             @Value("${security.jwt.secret}") String secret,
-            @Value("${security.jwt.expiration}") long expirationInMinutes
+            @Value("${security.jwt.expiration}") long expirationInMinutes,
+            VerifiedTokenCache verifiedTokenCache
     ) {
         this.key = hmacShaKeyFor(secret.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
         this.expirationInMinutes = expirationInMinutes;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
-    public String generateAccessToken(String username) {
+    public String generateAccessToken(Long userId, String username) {
         Instant now = Instant.now();
         Instant exp = now.plus(expirationInMinutes, java.time.temporal.ChronoUnit.MINUTES);
 
@@ -46,31 +59,33 @@ public class JwtServiceImpl implements JwtService {
                 .subject(username)
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(exp))
+                .claim(USER_ID_CLAIM, userId)
                 .claim("roles", List.of("USER"))
                 .signWith(key, Jwts.SIG.HS256)
                 .compact();
     }
 
     @Override
-    public String extractUsername(String token) {
-        return parseClaims(token).getSubject();
-    }
-
-    private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    @Override
-    public boolean isTokenValid(String token) {
+    public Optional<AuthenticatedUser> authenticate(String token) {
+        Optional<AuthenticatedUser> cachedUser = verifiedTokenCache.get(token);
+        if (cachedUser.isPresent()) {
+            return cachedUser;
+        }
         try {
-            parseClaims(token);
-            return true;
+            Claims claims = parseClaims(token);
+            Long userId = claims.get(USER_ID_CLAIM, Long.class);
+            if (userId == null || claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            AuthenticatedUser user = new AuthenticatedUser(userId, claims.getSubject());
+            verifiedTokenCache.put(token, user, claims.getExpiration().toInstant());
+            return Optional.of(user);
         } catch (JwtException | IllegalArgumentException ex) {
-            return false;
+            return Optional.empty();
         }
     }
+
+    private Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
 }
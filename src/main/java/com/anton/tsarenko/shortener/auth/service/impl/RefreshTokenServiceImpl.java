@@ -0,0 +1,76 @@
+package com.anton.tsarenko.shortener.auth.service.impl;
+
+import com.anton.tsarenko.shortener.auth.dto.AuthenticatedUser;
+import com.anton.tsarenko.shortener.auth.entity.RefreshToken;
+import com.anton.tsarenko.shortener.auth.repo.RefreshTokensRepository;
+import com.anton.tsarenko.shortener.auth.service.RefreshTokenService;
+import com.anton.tsarenko.shortener.auth.util.TokenDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the refresh token service. Refresh tokens are random opaque strings; only
+ * their SHA-256 digests are stored, so a token is checked by a unique index lookup instead of
+ * a password hash verification.
+ */
+@Slf4j
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokensRepository refreshTokensRepository;
+    private final Duration ttl;
+
+    /**
+     * Constructs a RefreshTokenServiceImpl with the specified refresh token TTL.
+     *
+     * @param refreshTokensRepository the repository of issued refresh tokens
+     * @param ttl                     the time-to-live of refresh tokens
+     */
+    public RefreshTokenServiceImpl(
+            RefreshTokensRepository refreshTokensRepository,
+            @Value("${security.refresh-token.ttl}") Duration ttl
+    ) {
+        this.refreshTokensRepository = refreshTokensRepository;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public String issue(Long userId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokensRepository.save(RefreshToken.builder()
+                .userId(userId)
+                .tokenHash(TokenDigest.sha256(refreshToken))
+                .expiresAt(Instant.now().plus(ttl))
+                .build());
+
+        return refreshToken;
+    }
+
+    @Override
+    public Optional<AuthenticatedUser> consume(String refreshToken) {
+        return refreshTokensRepository.consumeByTokenHash(TokenDigest.sha256(refreshToken));
+    }
+
+    /**
+     * Deletes expired refresh tokens.
+     */
+    @Scheduled(fixedDelayString = "${security.refresh-token.purge-interval}")
+    public void purgeExpired() {
+        int deleted = refreshTokensRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
+    }
+}
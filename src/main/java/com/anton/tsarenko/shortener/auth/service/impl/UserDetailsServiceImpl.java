@@ -0,0 +1,30 @@
+package com.anton.tsarenko.shortener.auth.service.impl;
+
+import com.anton.tsarenko.shortener.auth.dto.AuthUserDetails;
+import com.anton.tsarenko.shortener.auth.repo.UsersRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the UserDetailsService interface loading login credentials, the user id
+ * and the enabled flag in a single query.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserDetailsServiceImpl implements UserDetailsService {
+    private final UsersRepository usersRepository;
+
+    @Override
+    public UserDetails loadUserByUsername(String username) {
+        return usersRepository.findByUsername(username)
+                .map(user -> new AuthUserDetails(
+                        user.getId(),
+                        user.getUsername(),
+                        user.getPasswordHash(),
+                        user.isEnabled()))
+                .orElseThrow(() -> new UsernameNotFoundException(username));
+    }
+}
@@ -14,13 +14,8 @@ import org.springframework.stereotype.Service;
 public class UserServiceImpl implements UserService {
     private final UsersRepository usersRepository;
 
-    /**
-     * Retrieves a user by their id.
-     *
-     * @param id the id of the user to retrieve
-     * @return the User object if found, or null if not found
-     */
-    public User getUserById(Long id) {
-        return usersRepository.findById(id).orElse(null);
+    @Override
+    public User getUserReference(Long id) {
+        return usersRepository.getReferenceById(id);
     }
 }
@@ -0,0 +1,29 @@
+package com.anton.tsarenko.shortener.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Utility class for digests of tokens, so that tokens are looked up without being stored.
+ */
+public class TokenDigest {
+
+    /**
+     * Computes the SHA-256 digest of the token.
+     *
+     * @param token the token
+     * @return the unpadded base64url encoded digest, 43 characters long
+     */
+    public static String sha256(String token) {
+        try {
+            return Base64.getUrlEncoder()
+                    .withoutPadding()
+                    .encodeToString(MessageDigest.getInstance("SHA-256")
+                            .digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
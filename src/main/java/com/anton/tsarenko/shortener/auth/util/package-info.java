@@ -0,0 +1,4 @@
+/**
+ * This package contains utility classes used by the authentication functionality.
+ */
+package com.anton.tsarenko.shortener.auth.util;
@@ -0,0 +1,53 @@
+package com.anton.tsarenko.shortener.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Task executors of the URL shortener application. Executors are Spring beans, so they are
+ * closed with the context and wait for running tasks on shutdown.
+ */
+@Configuration
+public class ExecutorConfig {
+    private static final long TERMINATION_TIMEOUT_MILLIS = 5_000;
+
+    /**
+     * Executor running the listing count query concurrently with the page query. Every task gets
+     * a virtual thread, and the number of concurrent counts is capped so that a burst of listings
+     * cannot take more pool connections than the limit. A count over the limit is rejected
+     * instead of blocking the request thread, and the caller runs it inline.
+     *
+     * @param concurrencyLimit the maximum number of counts running at once
+     * @return the executor of listing counts
+     */
+    @Bean
+    public SimpleAsyncTaskExecutor urlCountExecutor(
+            @Value("${shortener.listing.count-concurrency-limit}") int concurrencyLimit
+    ) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("url-count-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setRejectTasksWhenLimitReached(true);
+        executor.setTaskTerminationTimeout(TERMINATION_TIMEOUT_MILLIS);
+        return executor;
+    }
+
+    /**
+     * Executor reserving the next short code block in the background. At most one reservation
+     * runs at a time and a second one is rejected instead of queued, so the allocator falls back
+     * to reserving on demand. Shutdown waits for a reservation that is still running.
+     *
+     * @return the executor of short code block reservations
+     */
+    @Bean
+    public SimpleAsyncTaskExecutor shortCodeBlockExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("short-code-block-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(1);
+        executor.setRejectTasksWhenLimitReached(true);
+        executor.setTaskTerminationTimeout(TERMINATION_TIMEOUT_MILLIS);
+        return executor;
+    }
+}
@@ -38,24 +38,18 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return;
         }
 
-        String token = authHeader.substring(7);
-
-        if (!jwtService.isTokenValid(token)) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-
-        String username = jwtService.extractUsername(token);
-
         if (SecurityContextHolder.getContext().getAuthentication() == null) {
-            var authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
-            Authentication auth = new UsernamePasswordAuthenticationToken(
-                    username,
-                    null,
-                    authorities
-            );
-
-            SecurityContextHolder.getContext().setAuthentication(auth);
+            String token = authHeader.substring(7);
+            jwtService.authenticate(token).ifPresent(user -> {
+                var authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+                Authentication auth = new UsernamePasswordAuthenticationToken(
+                        user,
+                        null,
+                        authorities
+                );
+
+                SecurityContextHolder.getContext().setAuthentication(auth);
+            });
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,12 @@
+package com.anton.tsarenko.shortener.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs of the URL shortener application.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,15 @@
+package com.anton.tsarenko.shortener.exceptions.custom;
+
+/**
+ * Exception thrown when a listing cursor cannot be decoded.
+ */
+public class InvalidCursorException extends RuntimeException {
+    /**
+     * Creates InvalidCursorException with message.
+     *
+     * @param message error message
+     */
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.anton.tsarenko.shortener.exceptions.custom;
+
+/**
+ * Exception thrown when a login attempt is rejected because password verification is saturated.
+ */
+public class LoginRejectedException extends RuntimeException {
+    /**
+     * Creates LoginRejectedException with the default message.
+     */
+    public LoginRejectedException() {
+        super("Too many concurrent login attempts, try again later");
+    }
+}
@@ -0,0 +1,15 @@
+package com.anton.tsarenko.shortener.exceptions.custom;
+
+/**
+ * Exception thrown when the user a request refers to does not exist.
+ */
+public class UserNotFoundException extends RuntimeException {
+    /**
+     * Creates UserNotFoundException with message.
+     *
+     * @param message error message
+     */
+    public UserNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -1,8 +1,12 @@
 package com.anton.tsarenko.shortener.exceptions.handler;
 
+import com.anton.tsarenko.shortener.exceptions.custom.InvalidCursorException;
+import com.anton.tsarenko.shortener.exceptions.custom.LoginRejectedException;
 import com.anton.tsarenko.shortener.exceptions.custom.UrlNotFoundException;
 import com.anton.tsarenko.shortener.exceptions.custom.UserAlreadyExistsException;
+import com.anton.tsarenko.shortener.exceptions.custom.UserNotFoundException;
 import com.anton.tsarenko.shortener.exceptions.dto.ExceptionResponse;
+import jakarta.validation.ConstraintViolationException;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Map;
@@ -12,11 +16,15 @@ import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.validation.FieldError;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 /**
  * Global exception handler for API exceptions.
@@ -28,7 +36,12 @@ public class ApiExceptionHandler {
     private static final String MULTIPLE_ERRORS_DELIMITER = ", ";
 
     private static final Map<Class<? extends Exception>, HttpStatus> EXCEPTION_MAPPING = Map.of(
-            HttpMediaTypeNotSupportedException.class, HttpStatus.UNSUPPORTED_MEDIA_TYPE
+            AccessDeniedException.class, HttpStatus.FORBIDDEN,
+            HttpMediaTypeNotSupportedException.class, HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+            InvalidCursorException.class, HttpStatus.BAD_REQUEST,
+            LoginRejectedException.class, HttpStatus.TOO_MANY_REQUESTS,
+            MethodArgumentTypeMismatchException.class, HttpStatus.BAD_REQUEST,
+            UserNotFoundException.class, HttpStatus.NOT_FOUND
     );
 
     /**
@@ -59,6 +72,59 @@ public class ApiExceptionHandler {
         );
     }
 
+    /**
+     * Constraint violations on controller method parameters exception handler.
+     *
+     * @param exception {@link HandlerMethodValidationException} to catch and extract error
+     *                                                          messages from parameters
+     * @return {@link ResponseEntity} with status {@link HttpStatus#BAD_REQUEST},
+     */
+    @ExceptionHandler
+    @SuppressWarnings("unused")
+    public ResponseEntity<ExceptionResponse> handleBindException(
+            HandlerMethodValidationException exception
+    ) {
+        return map(
+                exception.getParameterValidationResults()
+                        .stream()
+                        .flatMap(result -> result.getResolvableErrors()
+                                .stream()
+                                .map(error -> (error instanceof FieldError fieldError
+                                        ? fieldError.getField()
+                                        : result.getMethodParameter().getParameterName())
+                                        + Optional.ofNullable(error.getDefaultMessage())
+                                                .map(REASON_DELIMITER::concat)
+                                                .orElse("")))
+                        .distinct()
+                        .sorted(),
+                exception
+        );
+    }
+
+    /**
+     * Constraint violations on validated beans exception handler.
+     *
+     * @param exception {@link ConstraintViolationException} to catch and extract error messages
+     *                                                      from violations
+     * @return {@link ResponseEntity} with status {@link HttpStatus#BAD_REQUEST},
+     */
+    @ExceptionHandler
+    @SuppressWarnings("unused")
+    public ResponseEntity<ExceptionResponse> handleBindException(
+            ConstraintViolationException exception
+    ) {
+        return map(
+                exception.getConstraintViolations()
+                        .stream()
+                        .map(violation ->
+                                violation.getPropertyPath() + REASON_DELIMITER
+                                        + violation.getMessage())
+                        .distinct()
+                        .sorted(),
+                exception
+        );
+    }
+
     /**
      * Exception handler for empty results in storage.
      *
@@ -0,0 +1,143 @@
+package com.anton.tsarenko.shortener.url.allocator;
+
+import static com.anton.tsarenko.shortener.url.util.ShortUrlGenerator.MAX_SEQUENCE_VALUE;
+
+import com.anton.tsarenko.shortener.url.repo.UrlRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hi/lo allocator of short code sequence values. Every instance reserves blocks of values from
+ * the short_code_blocks table and hands them out from memory with a lock-free increment, so
+ * instances never contend on code allocation. The next block is reserved on a managed executor
+ * once the current one runs low; if that reservation is rejected or fails, the block is reserved
+ * synchronously when it is needed. Values of a block left unused on shutdown are skipped.
+ */
+@Slf4j
+@Component
+public class ShortCodeBlockAllocator {
+    private static final Block EMPTY = new Block(0, 0);
+
+    private final UrlRepository urlRepository;
+    private final int blockSize;
+    private final int refillThreshold;
+    private final TaskExecutor prefetchExecutor;
+    private final Counter reservedBlocks;
+    private final AtomicReference<Block> current = new AtomicReference<>(EMPTY);
+    private final AtomicReference<CompletableFuture<Block>> prefetched = new AtomicReference<>();
+
+    /**
+     * Constructs a ShortCodeBlockAllocator with the specified block sizing.
+     *
+     * @param urlRepository    the repository to reserve blocks from
+     * @param blockSize        the number of values reserved at once
+     * @param refillThreshold  the number of values left in the block when the next one is
+     *                         reserved in the background
+     * @param prefetchExecutor the executor reserving the next block in the background
+     * @param meterRegistry    the registry to publish allocator metrics to
+     */
+    public ShortCodeBlockAllocator(
+            UrlRepository urlRepository,
+            @Value("${shortener.short-code.block-size}") int blockSize,
+            @Value("${shortener.short-code.refill-threshold}") int refillThreshold,
+            @Qualifier("shortCodeBlockExecutor") TaskExecutor prefetchExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.urlRepository = urlRepository;
+        this.blockSize = blockSize;
+        this.refillThreshold = Math.min(refillThreshold, blockSize);
+        this.prefetchExecutor = prefetchExecutor;
+        this.reservedBlocks = meterRegistry.counter("shortener.short-code.blocks.reserved");
+        Gauge.builder("shortener.short-code.block.remaining", current,
+                        block -> block.get().remaining())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes the next sequence value that is not used by any instance.
+     *
+     * @return the sequence value
+     */
+    public long nextValue() {
+        while (true) {
+            Block block = current.get();
+            long value = block.next().getAndIncrement();
+            if (value < block.end()) {
+                if (block.end() - value == refillThreshold) {
+                    prefetch();
+                }
+                return value;
+            }
+            switchBlock(block);
+        }
+    }
+
+    private synchronized void switchBlock(Block exhausted) {
+        if (current.get() != exhausted) {
+            return;
+        }
+        CompletableFuture<Block> next = prefetched.getAndSet(null);
+        current.set(next == null ? reserve() : await(next));
+    }
+
+    private void prefetch() {
+        CompletableFuture<Block> next = new CompletableFuture<>();
+        if (!prefetched.compareAndSet(null, next)) {
+            return;
+        }
+        try {
+            prefetchExecutor.execute(() -> {
+                try {
+                    next.complete(reserve());
+                } catch (RuntimeException e) {
+                    log.warn("Failed to reserve short code block in background", e);
+                    next.completeExceptionally(e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.warn("Background reservation of short code block rejected: {}", e.getMessage());
+            prefetched.compareAndSet(next, null);
+        }
+    }
+
+    private Block await(CompletableFuture<Block> next) {
+        try {
+            return next.join();
+        } catch (CompletionException e) {
+            log.warn("Reserving short code block synchronously after failed background attempt");
+            return reserve();
+        }
+    }
+
+    private Block reserve() {
+        long start = urlRepository.reserveShortCodeBlock(blockSize);
+        long end = start + blockSize;
+        if (end - 1 > MAX_SEQUENCE_VALUE) {
+            throw new IllegalStateException("Short code sequence is exhausted");
+        }
+        reservedBlocks.increment();
+        log.debug("Reserved short code block [{}, {})", start, end);
+        return new Block(start, end);
+    }
+
+    private record Block(AtomicLong next, long end) {
+        Block(long start, long end) {
+            this(new AtomicLong(start), end);
+        }
+
+        long remaining() {
+            return Math.max(0, end - next.get());
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * This package contains allocators of short code sequence values.
+ */
+package com.anton.tsarenko.shortener.url.allocator;
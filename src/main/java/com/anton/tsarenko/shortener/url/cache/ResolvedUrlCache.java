@@ -0,0 +1,112 @@
+package com.anton.tsarenko.shortener.url.cache;
+
+import com.anton.tsarenko.shortener.url.dto.ResolvedUrl;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded in-process cache of short code resolutions, consulted before the urls table.
+ * Every entry expires at the expiration date of its short code or after the TTL, whichever
+ * comes first. Per-entry expiration is tracked by the hierarchical timing wheel of Caffeine,
+ * so expired entries are never served and are removed in O(1) shortly after they expire,
+ * without scanning timestamps on lookups. Hit, miss and eviction statistics are published as
+ * {@code cache.*} metrics.
+ */
+@Component
+public class ResolvedUrlCache {
+    /** Cache name used as a metrics tag. */
+    public static final String CACHE_NAME = "resolvedUrls";
+
+    private final Cache<String, ResolvedUrl> cache;
+
+    /**
+     * Constructs a ResolvedUrlCache with the specified bounds.
+     *
+     * @param maxSize       the maximum number of cached short codes
+     * @param ttl           the time-to-live of a cached entry
+     * @param meterRegistry the registry to publish cache statistics to
+     */
+    public ResolvedUrlCache(
+            @Value("${shortener.redirect-cache.max-size}") long maxSize,
+            @Value("${shortener.redirect-cache.ttl}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.writing((String shortCode, ResolvedUrl resolvedUrl) ->
+                        timeToLive(resolvedUrl, ttl)))
+                .scheduler(Scheduler.systemScheduler())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns cached resolution of the short code if present and not expired.
+     *
+     * @param shortCode the short code
+     * @return Optional with resolved url if cached, empty otherwise
+     */
+    public Optional<ResolvedUrl> get(String shortCode) {
+        return Optional.ofNullable(cache.getIfPresent(shortCode));
+    }
+
+    /**
+     * Caches resolution of the short code. Already expired resolutions are not cached.
+     *
+     * @param shortCode   the short code
+     * @param resolvedUrl the resolution to cache
+     */
+    public void put(String shortCode, ResolvedUrl resolvedUrl) {
+        if (!resolvedUrl.isExpiredAt(Instant.now())) {
+            cache.put(shortCode, resolvedUrl);
+        }
+    }
+
+    /**
+     * Removes cached resolution of the short code.
+     *
+     * @param shortCode the short code
+     */
+    public void evict(String shortCode) {
+        cache.invalidate(shortCode);
+    }
+
+    /**
+     * Returns a snapshot of hit, miss and eviction statistics.
+     *
+     * @return cache statistics
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Returns how long the resolution may stay cached. A short code that expired between
+     * loading and insertion gets zero rather than a negative duration.
+     *
+     * @param resolvedUrl the resolution to cache
+     * @param ttl         the time-to-live of a cached entry
+     * @return the time until the short code expires, capped by the TTL and never negative
+     */
+    static Duration timeToLive(ResolvedUrl resolvedUrl, Duration ttl) {
+        if (resolvedUrl.expiredAt() == null) {
+            return ttl;
+        }
+        Duration untilExpiry = Duration.between(Instant.now(), resolvedUrl.expiredAt());
+        if (untilExpiry.isNegative()) {
+            return Duration.ZERO;
+        }
+        return untilExpiry.compareTo(ttl) < 0 ? untilExpiry : ttl;
+    }
+}
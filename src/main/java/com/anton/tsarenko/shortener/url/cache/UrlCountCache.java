@@ -0,0 +1,75 @@
+package com.anton.tsarenko.shortener.url.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.OptionalLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded in-process cache of URL counts of users with many URLs, used as an estimated total
+ * of the paged listing instead of counting the urls table on every page. Only counts of at least
+ * the configured threshold are cached, so smaller users always get an exact total. A cached
+ * count may lag behind created and deleted URLs for up to the TTL.
+ */
+@Component
+public class UrlCountCache {
+    /** Cache name used as a metrics tag. */
+    public static final String CACHE_NAME = "urlCounts";
+
+    private final Cache<Long, Long> cache;
+    private final boolean enabled;
+    private final long threshold;
+
+    /**
+     * Constructs a UrlCountCache with the specified bounds.
+     *
+     * @param enabled       whether counts of large users are cached
+     * @param threshold     the minimum count that is cached
+     * @param maxSize       the maximum number of cached users
+     * @param ttl           the time-to-live of a cached count
+     * @param meterRegistry the registry to publish cache statistics to
+     */
+    public UrlCountCache(
+            @Value("${shortener.listing.count-cache.enabled}") boolean enabled,
+            @Value("${shortener.listing.count-cache.threshold}") long threshold,
+            @Value("${shortener.listing.count-cache.max-size}") long maxSize,
+            @Value("${shortener.listing.count-cache.ttl}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached URL count of the user.
+     *
+     * @param userId the ID of the user
+     * @return the cached count if present, empty otherwise
+     */
+    public OptionalLong get(Long userId) {
+        Long count = enabled ? cache.getIfPresent(userId) : null;
+        return count == null ? OptionalLong.empty() : OptionalLong.of(count);
+    }
+
+    /**
+     * Caches the URL count of the user if it reaches the threshold.
+     *
+     * @param userId the ID of the user
+     * @param count  the exact URL count of the user
+     */
+    public void put(Long userId, long count) {
+        if (enabled && count >= threshold) {
+            cache.put(userId, count);
+        }
+    }
+}
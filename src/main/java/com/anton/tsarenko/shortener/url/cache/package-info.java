@@ -0,0 +1,4 @@
+/**
+ * This package contains in-process caches used by the URL shortening functionality.
+ */
+package com.anton.tsarenko.shortener.url.cache;
@@ -0,0 +1,201 @@
+package com.anton.tsarenko.shortener.url.click;
+
+import com.anton.tsarenko.shortener.url.dto.Click;
+import com.anton.tsarenko.shortener.url.dto.ClickEvent;
+import com.anton.tsarenko.shortener.url.repo.ClickRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Asynchronous log of redirects. The redirect path only appends a compact event to a lock-free
+ * ring buffer; a background flush drains the buffer, anonymizes the events and appends them to
+ * the clicks table in batches. Analytics never block or fail a redirect: when the buffer fills
+ * above the overload threshold only every n-th event is kept, with a weight of n, and when it
+ * is full events are dropped. Events of a failed batch are dropped as well. Every dropped event
+ * is counted by reason.
+ */
+@Slf4j
+@Component
+public class ClickEventRecorder {
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int IP_HASH_BYTES = 16;
+
+    private final ClickRepository clickRepository;
+    private final boolean enabled;
+    private final RingBuffer<ClickEvent> buffer;
+    private final int overloadSize;
+    private final int overloadSampleEvery;
+    private final int batchSize;
+    private final int maxFieldLength;
+    private final Mac ipMac;
+    private final Counter recordedClicks;
+    private final Counter writtenClicks;
+    private final Counter sampledOutClicks;
+    private final Counter rejectedClicks;
+    private final Counter failedClicks;
+
+    /**
+     * Constructs a ClickEventRecorder with the specified buffering.
+     *
+     * @param clickRepository     the repository to append clicks to
+     * @param enabled             whether redirects are logged
+     * @param bufferCapacity      the capacity of the ring buffer, a power of two
+     * @param overloadThreshold   the fill ratio of the buffer above which events are sampled
+     * @param overloadSampleEvery keep one of this many events while overloaded
+     * @param batchSize           the maximum number of clicks appended with one statement
+     * @param maxFieldLength      the maximum length of the stored referrer and user agent
+     * @param ipHashSecret        the key of the client address hash, random if blank
+     * @param meterRegistry       the registry to publish click log metrics to
+     */
+    public ClickEventRecorder(
+            ClickRepository clickRepository,
+            @Value("${shortener.clicks.enabled}") boolean enabled,
+            @Value("${shortener.clicks.buffer-capacity}") int bufferCapacity,
+            @Value("${shortener.clicks.overload-threshold}") double overloadThreshold,
+            @Value("${shortener.clicks.overload-sample-every}") int overloadSampleEvery,
+            @Value("${shortener.clicks.batch-size}") int batchSize,
+            @Value("${shortener.clicks.max-field-length}") int maxFieldLength,
+            @Value("${shortener.clicks.ip-hash-secret}") String ipHashSecret,
+            MeterRegistry meterRegistry
+    ) {
+        this.clickRepository = clickRepository;
+        this.enabled = enabled;
+        this.buffer = new RingBuffer<>(bufferCapacity);
+        this.overloadSize = (int) (bufferCapacity * overloadThreshold);
+        this.overloadSampleEvery = overloadSampleEvery;
+        this.batchSize = batchSize;
+        this.maxFieldLength = maxFieldLength;
+        this.ipMac = createMac(ipHashSecret);
+        this.recordedClicks = meterRegistry.counter("shortener.clicks.recorded");
+        this.writtenClicks = meterRegistry.counter("shortener.clicks.written");
+        this.sampledOutClicks = meterRegistry.counter(
+                "shortener.clicks.dropped", "reason", "sampled");
+        this.rejectedClicks = meterRegistry.counter(
+                "shortener.clicks.dropped", "reason", "full");
+        this.failedClicks = meterRegistry.counter(
+                "shortener.clicks.dropped", "reason", "failed");
+        Gauge.builder("shortener.clicks.buffer.size", buffer, RingBuffer::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers one redirect without blocking. The event may be sampled out or dropped under
+     * overload.
+     *
+     * @param shortCode the short code that was followed
+     * @param referrer  the Referer header, or null if absent
+     * @param userAgent the User-Agent header, or null if absent
+     * @param clientIp  the address of the client
+     */
+    public void record(String shortCode, String referrer, String userAgent, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        int weight = 1;
+        if (buffer.size() >= overloadSize) {
+            if (ThreadLocalRandom.current().nextInt(overloadSampleEvery) != 0) {
+                sampledOutClicks.increment();
+                return;
+            }
+            weight = overloadSampleEvery;
+        }
+        ClickEvent event = new ClickEvent(
+                shortCode, Instant.now(), referrer, userAgent, clientIp, weight);
+        if (buffer.offer(event)) {
+            recordedClicks.increment();
+        } else {
+            rejectedClicks.increment();
+        }
+    }
+
+    /**
+     * Drains the buffer and appends its events to the clicks table in batches. Events of a
+     * failed batch are dropped, so a slow or unavailable database cannot exhaust memory.
+     */
+    @Scheduled(fixedDelayString = "${shortener.clicks.flush-interval}")
+    public synchronized void flush() {
+        while (true) {
+            List<Click> batch = new ArrayList<>(Math.min(batchSize, buffer.size()));
+            if (buffer.drain(event -> batch.add(toClick(event)), batchSize) == 0) {
+                return;
+            }
+            try {
+                writtenClicks.increment(clickRepository.copyClicks(batch));
+            } catch (DataAccessException e) {
+                log.warn("Failed to write {} clicks, dropping them", batch.size(), e);
+                failedClicks.increment(batch.size());
+            }
+        }
+    }
+
+    /**
+     * Writes buffered events on graceful shutdown.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Click toClick(ClickEvent event) {
+        return new Click(
+                event.shortCode(),
+                event.clickedAt(),
+                truncate(event.referrer()),
+                truncate(event.userAgent()),
+                hashIp(event.clientIp()),
+                event.weight()
+        );
+    }
+
+    private String truncate(String value) {
+        return value == null || value.length() <= maxFieldLength
+                ? value
+                : value.substring(0, maxFieldLength);
+    }
+
+    private String hashIp(String clientIp) {
+        if (clientIp == null) {
+            return null;
+        }
+        byte[] digest = ipMac.doFinal(clientIp.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(Arrays.copyOf(digest, IP_HASH_BYTES));
+    }
+
+    private static Mac createMac(String secret) {
+        byte[] key;
+        if (secret == null || secret.isBlank()) {
+            log.warn("Click ip hash secret is not set, client hashes change on every restart");
+            key = new byte[32];
+            new SecureRandom().nextBytes(key);
+        } else {
+            key = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(key, HMAC_ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " is not supported", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.anton.tsarenko.shortener.url.click;
+
+import com.anton.tsarenko.shortener.url.repo.ClickRepository;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job that creates monthly partitions of the clicks table ahead of time. The clicks
+ * table has no default partition, so clicks of a month without a partition cannot be written.
+ */
+@Slf4j
+@Component
+public class ClickPartitionMaintainer {
+    private final ClickRepository clickRepository;
+    private final int monthsAhead;
+
+    /**
+     * Constructs a ClickPartitionMaintainer.
+     *
+     * @param clickRepository the repository to create partitions with
+     * @param monthsAhead     the number of months after the current one to create partitions for
+     */
+    public ClickPartitionMaintainer(
+            ClickRepository clickRepository,
+            @Value("${shortener.clicks.partitions-ahead}") int monthsAhead
+    ) {
+        this.clickRepository = clickRepository;
+        this.monthsAhead = monthsAhead;
+    }
+
+    /**
+     * Creates the missing partitions of the current month and of the months ahead.
+     */
+    @Scheduled(fixedDelayString = "${shortener.clicks.partition-check-interval}")
+    public void createPartitions() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        try {
+            for (int i = 0; i <= monthsAhead; i++) {
+                clickRepository.createPartition(current.plusMonths(i));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to create clicks partitions, will retry on the next run", e);
+        }
+    }
+}
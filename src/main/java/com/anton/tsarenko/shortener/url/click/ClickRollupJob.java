@@ -0,0 +1,82 @@
+package com.anton.tsarenko.shortener.url.click;
+
+import com.anton.tsarenko.shortener.url.repo.ClickRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job that maintains the hourly and daily redirect rollups incrementally. Every run
+ * aggregates only the clicks written since the previous run, walking the clicks table by time
+ * in windows of at most {@code max-window}, each in its own short transaction. Clicks are
+ * rolled up only once they are older than {@code settle-delay}, which must exceed the flush
+ * interval of the click log: a click written later than that is not counted in the rollups.
+ */
+@Slf4j
+@Component
+public class ClickRollupJob {
+    private final ClickRepository clickRepository;
+    private final boolean enabled;
+    private final Duration settleDelay;
+    private final Duration maxWindow;
+    private final int maxWindowsPerRun;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    /**
+     * Constructs a ClickRollupJob with the specified windows.
+     *
+     * @param clickRepository  the repository to roll clicks up with
+     * @param enabled          whether clicks are rolled up
+     * @param settleDelay      the minimum age of a click before it is rolled up
+     * @param maxWindow        the maximum time span of clicks rolled up in one transaction
+     * @param maxWindowsPerRun the maximum number of windows rolled up in one run
+     * @param meterRegistry    the registry to publish rollup metrics to
+     */
+    public ClickRollupJob(
+            ClickRepository clickRepository,
+            @Value("${shortener.clicks.rollup.enabled}") boolean enabled,
+            @Value("${shortener.clicks.rollup.settle-delay}") Duration settleDelay,
+            @Value("${shortener.clicks.rollup.max-window}") Duration maxWindow,
+            @Value("${shortener.clicks.rollup.max-windows-per-run}") int maxWindowsPerRun,
+            MeterRegistry meterRegistry
+    ) {
+        this.clickRepository = clickRepository;
+        this.enabled = enabled;
+        this.settleDelay = settleDelay;
+        this.maxWindow = maxWindow;
+        this.maxWindowsPerRun = maxWindowsPerRun;
+        Gauge.builder("shortener.clicks.rollup.lag", lagSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Rolls up settled clicks, at most {@code max-windows-per-run} windows, and updates the lag
+     * of the rollups behind the current time. A failed window ends the run; its clicks are
+     * rolled up by the next run.
+     */
+    @Scheduled(fixedDelayString = "${shortener.clicks.rollup.interval}")
+    public void rollUp() {
+        if (!enabled) {
+            return;
+        }
+        Instant upTo = Instant.now().minus(settleDelay);
+        try {
+            Instant rolledUpTo = clickRepository.findRolledUpTo();
+            for (int windows = 0; windows < maxWindowsPerRun && rolledUpTo.isBefore(upTo);
+                    windows++) {
+                rolledUpTo = clickRepository.rollUpClicks(upTo, maxWindow);
+            }
+            lagSeconds.set(Duration.between(rolledUpTo, Instant.now()).toSeconds());
+        } catch (DataAccessException e) {
+            log.warn("Failed to roll up clicks, will retry on the next run", e);
+        }
+    }
+}
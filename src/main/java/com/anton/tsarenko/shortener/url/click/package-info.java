@@ -0,0 +1,4 @@
+/**
+ * This package contains the asynchronous click event log fed by redirects.
+ */
+package com.anton.tsarenko.shortener.url.click;
@@ -1,16 +1,22 @@
 package com.anton.tsarenko.shortener.url.controller;
 
+import com.anton.tsarenko.shortener.exceptions.custom.UrlNotFoundException;
+import com.anton.tsarenko.shortener.url.click.ClickEventRecorder;
+import com.anton.tsarenko.shortener.url.filter.ShortCodeFilter;
 import com.anton.tsarenko.shortener.url.service.UrlService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
 import java.net.URI;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -22,11 +28,18 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping({"/api/v1/s_link"})
 public class RedirectController {
     private final UrlService urlService;
+    private final ShortCodeFilter shortCodeFilter;
+    private final ClickEventRecorder clickEventRecorder;
 
     /**
-     * Resolves short code, increments redirects and performs redirect.
+     * Resolves short code, increments redirects and performs redirect. Short codes rejected by
+     * the short code filter are answered with 404 without querying the database. Successful
+     * redirects are handed to the asynchronous click log.
      *
      * @param shortCode short code value
+     * @param referrer  referrer header value, if any
+     * @param userAgent user agent header value, if any
+     * @param request   the request, used for the client address
      * @return redirect response with location header
      */
     @Operation(
@@ -42,9 +55,16 @@ public class RedirectController {
     @GetMapping("/{shortCode}")
     public ResponseEntity<Void> redirectByShortCode(
             @Parameter(description = "Short code to resolve", example = "aB12xYz9")
-            @PathVariable String shortCode
+            @PathVariable String shortCode,
+            @RequestHeader(value = HttpHeaders.REFERER, required = false) String referrer,
+            @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent,
+            HttpServletRequest request
     ) {
+        if (!shortCodeFilter.mightContain(shortCode)) {
+            throw new UrlNotFoundException("Url is not found by short code: " + shortCode);
+        }
         String originalUrl = urlService.resolveOriginalUrlAndIncreaseRedirectCount(shortCode);
+        clickEventRecorder.record(shortCode, referrer, userAgent, request.getRemoteAddr());
         return ResponseEntity.status(HttpStatus.FOUND)
                 .location(URI.create(originalUrl))
                 .build();
@@ -1,15 +1,26 @@
 package com.anton.tsarenko.shortener.url.controller;
 
+import com.anton.tsarenko.shortener.auth.dto.AuthenticatedUser;
 import com.anton.tsarenko.shortener.auth.entity.User;
 import com.anton.tsarenko.shortener.auth.service.UserService;
+import com.anton.tsarenko.shortener.url.dto.ImportReport;
 import com.anton.tsarenko.shortener.url.dto.PageResponse;
+import com.anton.tsarenko.shortener.url.dto.SliceResponse;
 import com.anton.tsarenko.shortener.url.dto.UrlRequest;
 import com.anton.tsarenko.shortener.url.dto.UrlResponse;
+import com.anton.tsarenko.shortener.url.dto.UrlStatsResponse;
 import com.anton.tsarenko.shortener.url.entity.Url;
 import com.anton.tsarenko.shortener.url.mapper.UrlMapper;
+import com.anton.tsarenko.shortener.url.service.UrlExportService;
+import com.anton.tsarenko.shortener.url.service.UrlImportService;
 import com.anton.tsarenko.shortener.url.service.UrlService;
+import com.anton.tsarenko.shortener.url.service.UrlStatsService;
+import com.anton.tsarenko.shortener.url.util.KeysetCursor;
+import com.anton.tsarenko.shortener.url.util.StatsGranularity;
+import com.anton.tsarenko.shortener.url.util.UrlFileFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,22 +28,37 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.SortDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -45,7 +71,19 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/shortener/{userId}/links")
 public class UrlController {
+    /** Maximum number of URLs created by one bulk request. */
+    public static final int MAX_BULK_SIZE = 10_000;
+
+    /** Maximum number of URLs returned in one keyset slice. */
+    public static final int MAX_SLICE_SIZE = 1_000;
+
+    /** Maximum number of buckets returned with URL statistics, 31 days of hours. */
+    public static final int MAX_STATS_BUCKETS = 744;
+
     private final UrlService urlService;
+    private final UrlImportService urlImportService;
+    private final UrlExportService urlExportService;
+    private final UrlStatsService urlStatsService;
     private final UserService userService;
     private final UrlMapper mapper;
 
@@ -53,6 +91,7 @@ public class UrlController {
      * Handles the creation of a new URL.
      *
      * @param userId the ID of the user creating the URL
+     * @param principal the authenticated caller, who must be the user
      * @param urlRequest the request body containing URL details
      * @param httpServletRequest the HTTP servlet request for building the URI
      * @return a ResponseEntity containing the URI of the created URL
@@ -64,12 +103,15 @@ public class UrlController {
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "URL created"),
             @ApiResponse(responseCode = "400", description = "Invalid input"),
-            @ApiResponse(responseCode = "401", description = "Unauthorized")
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Links of another user")
     })
     @PostMapping
     public ResponseEntity<URI> create(
             @Parameter(description = "User ID owner of the URL", example = "1")
             @PathVariable @Positive Long userId,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "URL payload to shorten",
                     required = true,
@@ -78,7 +120,8 @@ public class UrlController {
             @Valid @RequestBody UrlRequest urlRequest,
             HttpServletRequest httpServletRequest
     ) {
-        User user = userService.getUserById(userId);
+        checkOwner(principal, userId);
+        User user = userService.getUserReference(userId);
         Url url = mapper.toUrl(urlRequest, user);
         return ResponseEntity.created(
                 URI.create(
@@ -90,15 +133,146 @@ public class UrlController {
     }
 
     /**
-     * Retrieves URLs by ID of the user.
+     * Handles the creation of several URLs in one request.
+     *
+     * @param userId the ID of the user creating the URLs
+     * @param principal the authenticated caller, who must be the user
+     * @param urlRequests the request body containing details of every URL
+     * @return a ResponseEntity containing the created URLs with their short codes
+     */
+    @Operation(
+            summary = "Create URLs in bulk",
+            description = "Creates up to 10000 shortened URLs for the specified user "
+                    + "in one transaction."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "URLs created",
+                    content = @Content(array = @ArraySchema(
+                            schema = @Schema(implementation = UrlResponse.class)))
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Links of another user")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<List<UrlResponse>> createBulk(
+            @Parameter(description = "User ID owner of the URLs", example = "1")
+            @PathVariable @Positive Long userId,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "URL payloads to shorten",
+                    required = true,
+                    content = @Content(array = @ArraySchema(
+                            schema = @Schema(implementation = UrlRequest.class)))
+            )
+            @RequestBody @NotEmpty @Size(max = MAX_BULK_SIZE) List<@Valid UrlRequest> urlRequests
+    ) {
+        checkOwner(principal, userId);
+        User user = userService.getUserReference(userId);
+        List<Url> urls = urlRequests.stream()
+                .map(urlRequest -> mapper.toUrl(urlRequest, user))
+                .toList();
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(urlService.createUrls(urls).stream()
+                        .map(mapper::toUrlResponse)
+                        .toList());
+    }
+
+    /**
+     * Imports URLs from an NDJSON or CSV request body, reading it line by line.
+     *
+     * @param userId the ID of the user importing the URLs
+     * @param principal the authenticated caller, who must be the user
+     * @param contentType the content type of the request body
+     * @param body the request body stream
+     * @return a ResponseEntity containing the import report
+     */
+    @Operation(
+            summary = "Import URLs",
+            description = "Streams an NDJSON body with one URL payload per line or a CSV body "
+                    + "with one URL per line, creating URLs in fixed-size batches. "
+                    + "Invalid lines are skipped and reported."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import finished",
+                    content = @Content(schema = @Schema(implementation = ImportReport.class))
+            ),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Links of another user"),
+            @ApiResponse(responseCode = "415", description = "Unsupported content type")
+    })
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ImportReport> importUrls(
+            @Parameter(description = "User ID owner of the URLs", example = "1")
+            @PathVariable @Positive Long userId,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) {
+        checkOwner(principal, userId);
+        User user = userService.getUserReference(userId);
+        return ResponseEntity.ok(urlImportService.importUrls(
+                user,
+                new InputStreamReader(body, StandardCharsets.UTF_8),
+                UrlFileFormat.of(contentType)));
+    }
+
+    /**
+     * Streams all URLs of the user as NDJSON or CSV directly from a database cursor.
+     *
+     * @param userId the ID of the user whose URLs are exported
+     * @param principal the authenticated caller, who must be the user
+     * @param format the format of the export
+     * @param response the HTTP servlet response to stream the export to
+     * @throws IOException if the response stream cannot be opened
+     */
+    @Operation(
+            summary = "Export URLs",
+            description = "Streams all URLs of the specified user as NDJSON or CSV ordered by id."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "URLs streamed"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Links of another user")
+    })
+    @GetMapping("/export")
+    public void exportUrls(
+            @Parameter(description = "User ID owner of URLs", example = "1")
+            @PathVariable @Positive Long userId,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @Parameter(description = "Export format", example = "NDJSON")
+            @RequestParam(defaultValue = "NDJSON") UrlFileFormat format,
+            HttpServletResponse response
+    ) throws IOException {
+        checkOwner(principal, userId);
+        response.setContentType(format.getMediaType().toString());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"urls." + format.name().toLowerCase() + "\"");
+        urlExportService.exportUrls(userId, format, response.getOutputStream());
+    }
+
+    /**
+     * Retrieves URLs by ID of the user. The total count of a user with many URLs may be served
+     * from {@code UrlCountCache} and lag behind for up to its TTL.
      *
      * @param userId The ID of the user to whom the URL belongs
+     * @param principal the authenticated caller, who must be the user
      * @param pageable the pagination and sorting information
      * @return a ResponseEntity containing the URL details
      */
     @Operation(
             summary = "Get all URLs",
-            description = "Returns a paginated list of URLs belonging to the specified user."
+            description = "Returns a paginated list of URLs belonging to the specified user. "
+                    + "For users with many URLs (100000 by default) the total count is cached "
+                    + "and may lag behind created and deleted URLs for up to a minute."
     )
     @ApiResponses({
             @ApiResponse(
@@ -106,27 +280,119 @@ public class UrlController {
                     description = "URLs returned",
                     content = @Content(schema = @Schema(implementation = PageResponse.class))
             ),
-            @ApiResponse(responseCode = "401", description = "Unauthorized")
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Links of another user")
     })
     @GetMapping
     public ResponseEntity<PageResponse<UrlResponse>> getAllUrls(
             @Parameter(description = "User ID owner of URLs", example = "1")
             @PathVariable @Positive Long userId,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @PageableDefault(size = 3)
             @SortDefault.SortDefaults(
                     @SortDefault(sort = "id", direction = Sort.Direction.ASC)
             ) Pageable pageable
     ) {
-        User user = userService.getUserById(userId);
+        checkOwner(principal, userId);
+        User user = userService.getUserReference(userId);
 
         return ResponseEntity.ok(
                 mapper.toPageResponse(urlService.retrieveAllUrlsByUser(user, pageable)));
     }
 
     /**
-     * Deletes a URL by its ID.
+     * Retrieves URLs of the user ordered by id, one keyset slice at a time.
+     *
+     * @param userId the ID of the user to whom the URLs belong
+     * @param principal the authenticated caller, who must be the user
+     * @param cursor the cursor returned with the previous slice, absent for the first slice
+     * @param size the maximum number of URLs in the slice
+     * @return a ResponseEntity containing the slice and the cursor of the next one
+     */
+    @Operation(
+            summary = "Get URLs by cursor",
+            description = "Returns URLs belonging to the specified user ordered by id, "
+                    + "seeking past the cursor instead of skipping an offset. "
+                    + "Does not count the total number of URLs."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "URLs returned",
+                    content = @Content(schema = @Schema(implementation = SliceResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or size"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Links of another user")
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<SliceResponse<UrlResponse>> getUrlsByCursor(
+            @Parameter(description = "User ID owner of URLs", example = "1")
+            @PathVariable @Positive Long userId,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @Parameter(description = "Cursor returned with the previous slice")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Slice size", example = "20")
+            @RequestParam(defaultValue = "20") @Positive @Max(MAX_SLICE_SIZE) int size
+    ) {
+        checkOwner(principal, userId);
+        User user = userService.getUserReference(userId);
+
+        return ResponseEntity.ok(mapper.toSliceResponse(
+                urlService.retrieveUrlsByUserAfter(user, KeysetCursor.decode(cursor), size)));
+    }
+
+    /**
+     * Retrieves time-bucketed redirect statistics of a URL.
+     *
+     * @param userId the ID of the user to whom the URL belongs
+     * @param principal the authenticated caller, who must be the user
+     * @param id the ID of the URL
+     * @param granularity the bucket size
+     * @param buckets the number of latest buckets, the current one included
+     * @return a ResponseEntity containing the statistics
+     */
+    @Operation(
+            summary = "Get URL statistics",
+            description = "Returns redirects of the URL per hour or per day for the latest "
+                    + "buckets, read from pre-aggregated rollups. Redirects of the last "
+                    + "minutes may not be aggregated yet."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Statistics returned",
+                    content = @Content(schema = @Schema(implementation = UrlStatsResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid granularity or buckets"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Links of another user"),
+            @ApiResponse(responseCode = "404", description = "URL not found")
+    })
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<UrlStatsResponse> getStats(
+            @Parameter(description = "User ID owner of the URL", example = "1")
+            @PathVariable @Positive Long userId,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @Parameter(description = "URL entity ID", example = "10")
+            @PathVariable @Positive Long id,
+            @Parameter(description = "Bucket size", example = "HOUR")
+            @RequestParam(defaultValue = "HOUR") StatsGranularity granularity,
+            @Parameter(description = "Number of latest buckets", example = "24")
+            @RequestParam(defaultValue = "24") @Positive @Max(MAX_STATS_BUCKETS) int buckets
+    ) {
+        checkOwner(principal, userId);
+        return ResponseEntity.ok(urlStatsService.getStats(userId, id, granularity, buckets));
+    }
+
+    /**
+     * Deletes a URL of the user by its ID.
      *
      * @param userId the ID of the user to whom the URL belongs
+     * @param principal the authenticated caller, who must be the user
      * @param id the ID of the URL to delete
      * @return a ResponseEntity with no content
      */
@@ -136,17 +402,27 @@ public class UrlController {
     )
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "URL deleted"),
-            @ApiResponse(responseCode = "401", description = "Unauthorized")
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Links of another user"),
+            @ApiResponse(responseCode = "404", description = "URL not found")
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteNote(
             @Parameter(description = "User ID owner of the URL", example = "1")
             @PathVariable @Positive Long userId,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @Parameter(description = "URL entity ID to delete", example = "10")
             @PathVariable @Positive Long id
     ) {
-        userService.getUserById(userId);
-        urlService.deleteUrl(id);
+        checkOwner(principal, userId);
+        urlService.deleteUrl(userId, id);
         return ResponseEntity.noContent().build();
     }
+
+    private static void checkOwner(AuthenticatedUser principal, Long userId) {
+        if (principal == null || !userId.equals(principal.id())) {
+            throw new AccessDeniedException("Links of user " + userId + " are not accessible");
+        }
+    }
 }
@@ -0,0 +1,120 @@
+package com.anton.tsarenko.shortener.url.counter;
+
+import com.anton.tsarenko.shortener.url.repo.UrlRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Write-behind counter of redirects. Redirects are accumulated in memory per short code and
+ * periodically flushed to the url_counters table in batched upserts, so a hot link costs one row
+ * write per flush window instead of one per redirect. Pending counts are also flushed on shutdown.
+ * When write-behind is disabled, redirects are counted by the resolving statement itself.
+ */
+@Slf4j
+@Component
+public class RedirectCounter {
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+    private final UrlRepository urlRepository;
+    private final boolean writeBehind;
+    private final int flushSize;
+    private final Counter flushedRedirects;
+
+    /**
+     * Constructs a RedirectCounter with the specified flush batch size.
+     *
+     * @param urlRepository the repository to flush counts to
+     * @param writeBehind   whether redirects are accumulated in memory and flushed in batches
+     * @param flushSize     the maximum number of short codes updated in one batch
+     * @param meterRegistry the registry to publish counter metrics to
+     */
+    public RedirectCounter(
+            UrlRepository urlRepository,
+            @Value("${shortener.redirect-counter.write-behind}") boolean writeBehind,
+            @Value("${shortener.redirect-counter.flush-size}") int flushSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.urlRepository = urlRepository;
+        this.writeBehind = writeBehind;
+        this.flushSize = flushSize;
+        this.flushedRedirects = meterRegistry.counter("shortener.redirects.flushed");
+        meterRegistry.gaugeMapSize("shortener.redirects.pending.codes", List.of(), pending);
+    }
+
+    /**
+     * Checks whether redirects are accumulated in memory and flushed in batches.
+     *
+     * @return true if write-behind counting is enabled, false if every redirect is counted
+     *         immediately by the resolving statement
+     */
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    /**
+     * Registers one redirect by the short code.
+     *
+     * @param shortCode the short code
+     */
+    public void increment(String shortCode) {
+        pending.merge(shortCode, 1L, Long::sum);
+    }
+
+    /**
+     * Flushes accumulated redirect counts to the database. Counts of a failed batch are kept
+     * in memory and retried on the next flush, whatever the failure is, so an unavailable
+     * database or transaction manager does not lose them.
+     */
+    @Scheduled(fixedDelayString = "${shortener.redirect-counter.flush-interval}")
+    public void flush() {
+        List<Map<String, Long>> batches = drain();
+        for (Map<String, Long> batch : batches) {
+            try {
+                urlRepository.incrementRedirectsCounts(batch);
+                flushedRedirects.increment(
+                        batch.values().stream().mapToLong(Long::longValue).sum());
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush redirect counts of {} short codes, will retry",
+                        batch.size(), e);
+                batch.forEach((shortCode, delta) -> pending.merge(shortCode, delta, Long::sum));
+            }
+        }
+    }
+
+    /**
+     * Flushes accumulated redirect counts on graceful shutdown.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private List<Map<String, Long>> drain() {
+        List<Map<String, Long>> batches = new ArrayList<>();
+        Map<String, Long> batch = new LinkedHashMap<>();
+        for (String shortCode : pending.keySet()) {
+            Long delta = pending.remove(shortCode);
+            if (delta == null) {
+                continue;
+            }
+            batch.put(shortCode, delta);
+            if (batch.size() == flushSize) {
+                batches.add(batch);
+                batch = new LinkedHashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+}
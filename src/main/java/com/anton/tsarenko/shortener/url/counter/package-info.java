@@ -0,0 +1,4 @@
+/**
+ * This package contains components that accumulate URL redirect statistics.
+ */
+package com.anton.tsarenko.shortener.url.counter;
@@ -0,0 +1,23 @@
+package com.anton.tsarenko.shortener.url.dto;
+
+import java.time.Instant;
+
+/**
+ * A record representing one row of the clicks table.
+ *
+ * @param shortCode - the short code that was followed
+ * @param clickedAt - the time of the redirect
+ * @param referrer  - the truncated Referer header, or null if absent
+ * @param userAgent - the truncated User-Agent header, or null if absent
+ * @param ipHash    - the keyed hash of the client address
+ * @param weight    - the number of redirects this row stands for
+ */
+public record Click(
+        String shortCode,
+        Instant clickedAt,
+        String referrer,
+        String userAgent,
+        String ipHash,
+        int weight
+) {
+}
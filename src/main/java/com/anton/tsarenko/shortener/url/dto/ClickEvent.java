@@ -0,0 +1,25 @@
+package com.anton.tsarenko.shortener.url.dto;
+
+import java.time.Instant;
+
+/**
+ * A record representing one redirect as captured on the redirect path, before it is
+ * anonymized and written to the clicks table.
+ *
+ * @param shortCode - the short code that was followed
+ * @param clickedAt - the time of the redirect
+ * @param referrer  - the Referer header, or null if absent
+ * @param userAgent - the User-Agent header, or null if absent
+ * @param clientIp  - the address of the client
+ * @param weight    - the number of redirects this event stands for, greater than one if
+ *                  events were sampled under overload
+ */
+public record ClickEvent(
+        String shortCode,
+        Instant clickedAt,
+        String referrer,
+        String userAgent,
+        String clientIp,
+        int weight
+) {
+}
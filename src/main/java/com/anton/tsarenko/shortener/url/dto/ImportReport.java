@@ -0,0 +1,46 @@
+package com.anton.tsarenko.shortener.url.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A record representing the outcome of a streaming URL import.
+ *
+ * @param linesRead       the number of non-blank lines read from the request body
+ * @param imported        the number of created URLs
+ * @param failed          the number of lines that were not imported
+ * @param batches         the number of committed batches
+ * @param errors          the first reported errors
+ * @param errorsTruncated whether more errors occurred than were reported
+ */
+@Schema(description = "Result of a streaming URL import")
+public record ImportReport(
+        @Schema(description = "Number of non-blank lines read", example = "100000")
+        long linesRead,
+        @Schema(description = "Number of created URLs", example = "99998")
+        long imported,
+        @Schema(description = "Number of lines that were not imported", example = "2")
+        long failed,
+        @Schema(description = "Number of committed batches", example = "100")
+        int batches,
+        @Schema(description = "First reported errors")
+        List<ImportError> errors,
+        @Schema(description = "Whether more errors occurred than were reported", example = "false")
+        boolean errorsTruncated
+) implements Serializable {
+
+    /**
+     * A record representing an import error of one line or batch.
+     *
+     * @param line    the 1-based number of the failed line, or of the first line of a failed batch
+     * @param message the description of the error
+     */
+    @Schema(description = "Import error of one line or batch")
+    public record ImportError(
+            @Schema(description = "1-based line number", example = "42")
+            long line,
+            @Schema(description = "Error description", example = "originalUrl: Must be a valid URL")
+            String message
+    ) implements Serializable {}
+}
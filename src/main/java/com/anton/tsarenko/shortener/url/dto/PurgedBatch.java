@@ -0,0 +1,17 @@
+package com.anton.tsarenko.shortener.url.dto;
+
+import java.time.Instant;
+
+/**
+ * A record representing one batch of expired URLs removed from the urls table.
+ *
+ * @param count         - the number of removed urls
+ * @param lastExpiredAt - the expiration date of the last url of the batch
+ * @param lastId        - the id of the last url of the batch
+ */
+public record PurgedBatch(
+        int count,
+        Instant lastExpiredAt,
+        long lastId
+) {
+}
@@ -0,0 +1,25 @@
+package com.anton.tsarenko.shortener.url.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A record representing the result of resolving a short code.
+ *
+ * @param originalUrl - the original url to redirect to
+ * @param expiredAt - the expiration date of the short code
+ */
+public record ResolvedUrl(
+        String originalUrl,
+        Instant expiredAt
+) implements Serializable {
+    /**
+     * Checks whether the short code is expired at the given instant.
+     *
+     * @param instant - the instant to check against
+     * @return - true if the expiration date is not after the given instant, false otherwise
+     */
+    public boolean isExpiredAt(Instant instant) {
+        return expiredAt != null && !expiredAt.isAfter(instant);
+    }
+}
@@ -0,0 +1,24 @@
+package com.anton.tsarenko.shortener.url.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A generic record to represent keyset paginated responses without total counts.
+ *
+ * @param content    the list of items in the current slice
+ * @param size       the requested number of items per slice
+ * @param nextCursor the opaque cursor of the next slice, null if this slice is the last one
+ * @param <T>        the type of items in the content list
+ */
+@Schema(description = "Generic keyset paginated response")
+public record SliceResponse<T>(
+        @Schema(description = "Items in the current slice")
+        List<T> content,
+        @Schema(description = "Slice size", example = "20")
+        int size,
+        @Schema(description = "Cursor of the next slice, absent on the last slice",
+                example = "aWQ6NDI")
+        String nextCursor
+) implements Serializable {}
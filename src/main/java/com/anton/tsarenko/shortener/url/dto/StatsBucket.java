@@ -0,0 +1,20 @@
+package com.anton.tsarenko.shortener.url.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A record representing the number of redirects of a URL in one time bucket.
+ *
+ * @param start  - the start of the bucket
+ * @param clicks - the number of redirects in the bucket
+ */
+@Schema(description = "Redirects of a URL in one time bucket")
+public record StatsBucket(
+        @Schema(description = "Start of the bucket", example = "2026-10-18T10:00:00Z")
+        Instant start,
+        @Schema(description = "Number of redirects in the bucket", example = "42")
+        long clicks
+) implements Serializable {
+}
@@ -19,7 +19,12 @@ public record UrlRequest(
         )
         @URL(message = "Must be a valid URL")
         @NotBlank(message = "Must not be blank")
-        @Size(max = 2048, message = "Length must be less than or equal to 2048 characters")
+        @Size(
+                max = UrlRequest.MAX_URL_LENGTH,
+                message = "Length must be less than or equal to 2048 characters"
+        )
         String originalUrl
 ) implements Serializable {
+    /** Maximum length of the original URL. */
+    public static final int MAX_URL_LENGTH = 2048;
 }
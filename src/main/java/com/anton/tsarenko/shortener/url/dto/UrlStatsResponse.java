@@ -0,0 +1,32 @@
+package com.anton.tsarenko.shortener.url.dto;
+
+import com.anton.tsarenko.shortener.url.util.StatsGranularity;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A record representing time-bucketed redirect statistics of a URL.
+ *
+ * @param urlId       - the id of the URL
+ * @param granularity - the bucket size
+ * @param rolledUpTo  - the time up to which redirects are aggregated
+ * @param totalClicks - the number of redirects in all returned buckets
+ * @param buckets     - consecutive buckets in ascending order, empty buckets included
+ */
+@Schema(description = "Time-bucketed redirect statistics of a URL")
+public record UrlStatsResponse(
+        @Schema(description = "URL entity ID", example = "10")
+        Long urlId,
+        @Schema(description = "Bucket size", example = "HOUR")
+        StatsGranularity granularity,
+        @Schema(description = "Redirects after this time are not aggregated yet",
+                example = "2026-10-18T10:58:00Z")
+        Instant rolledUpTo,
+        @Schema(description = "Number of redirects in all returned buckets", example = "1024")
+        long totalClicks,
+        @Schema(description = "Consecutive buckets in ascending order")
+        List<StatsBucket> buckets
+) implements Serializable {
+}
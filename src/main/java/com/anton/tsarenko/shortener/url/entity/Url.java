@@ -3,11 +3,13 @@ package com.anton.tsarenko.shortener.url.entity;
 import com.anton.tsarenko.shortener.auth.entity.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -16,6 +18,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Formula;
 
 /**
  * Entity class representing a url.
@@ -29,17 +32,19 @@ import lombok.Setter;
 @AllArgsConstructor
 public class Url {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "urls_id_seq")
+    @SequenceGenerator(name = "urls_id_seq", sequenceName = "urls_id_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
     @Column(name = "original_url", nullable = false)
     private String originalUrl;
 
-    @Column(name = "redirects_count")
+    @Formula("(SELECT coalesce(max(c.redirects_count), 0) FROM url_counters c "
+            + "WHERE c.url_id = id)")
     @Builder.Default
     private Long redirectsCount = 0L;
 
@@ -0,0 +1,149 @@
+package com.anton.tsarenko.shortener.url.filter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter of strings over a fixed bit array. Bits are set with lock-free
+ * compare-and-set, so concurrent puts and lookups never block each other. The k bit positions
+ * are derived from two 64-bit hashes of the value by double hashing.
+ */
+final class BloomFilter {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    private BloomFilter(long bitSize, int hashFunctions) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitSize + Long.SIZE - 1) / Long.SIZE));
+        this.bitSize = bitSize;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Creates a filter sized for the expected number of elements and false positive rate.
+     *
+     * @param expectedInsertions the expected number of elements
+     * @param fpp                the desired false positive probability, between 0 and 1
+     * @return empty filter
+     */
+    static BloomFilter create(long expectedInsertions, double fpp) {
+        long n = Math.max(1, expectedInsertions);
+        long bitSize = Math.max(Long.SIZE,
+                (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        int hashFunctions = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        return new BloomFilter(bitSize, hashFunctions);
+    }
+
+    /**
+     * Adds the value to the filter.
+     *
+     * @param value the value to add
+     */
+    void put(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1);
+        for (int i = 1; i <= hashFunctions; i++) {
+            setBit(index(h1 + i * h2));
+        }
+    }
+
+    /**
+     * Checks whether the value might have been added to the filter.
+     *
+     * @param value the value to check
+     * @return false if the value was definitely never added, true otherwise
+     */
+    boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estimates current false positive probability from the share of set bits.
+     *
+     * @return estimated false positive probability
+     */
+    double expectedFpp() {
+        return Math.pow((double) bitCount() / bitSize, hashFunctions);
+    }
+
+    /**
+     * Estimates the number of distinct values added to the filter.
+     *
+     * @return approximate number of elements
+     */
+    long approximateElementCount() {
+        double fractionOfBitsSet = (double) bitCount() / bitSize;
+        return Math.round(-Math.log1p(-fractionOfBitsSet) * bitSize / hashFunctions);
+    }
+
+    /**
+     * Returns the size of the bit array.
+     *
+     * @return number of bits
+     */
+    long bitSize() {
+        return bitSize;
+    }
+
+    /**
+     * Returns the number of bit positions derived for every value.
+     *
+     * @return number of hash functions
+     */
+    int hashFunctions() {
+        return hashFunctions;
+    }
+
+    private long bitCount() {
+        long bitCount = 0;
+        for (int i = 0; i < words.length(); i++) {
+            bitCount += Long.bitCount(words.get(i));
+        }
+        return bitCount;
+    }
+
+    private long index(long combinedHash) {
+        return (combinedHash & Long.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long bit) {
+        int wordIndex = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long word;
+        do {
+            word = words.get(wordIndex);
+            if ((word & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(wordIndex, word, word | mask));
+    }
+
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
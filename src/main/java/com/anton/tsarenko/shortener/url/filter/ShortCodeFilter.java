@@ -0,0 +1,188 @@
+package com.anton.tsarenko.shortener.url.filter;
+
+import com.anton.tsarenko.shortener.url.repo.UrlRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory Bloom filter of all existing short codes, consulted before the urls table so that
+ * definitely unknown short codes are rejected without a database round trip.
+ *
+ * <p>The filter is built from the urls table once the application is ready and every created
+ * short code is added to it. Deleted short codes cannot be removed from a Bloom filter and keep
+ * costing a database lookup until the next rebuild. Until the first build completes every short
+ * code is reported as possibly existing. The filter only sees short codes created by this
+ * instance, so links created by another instance sharing the urls table would be rejected as
+ * unknown. The filter is therefore disabled by default and may only be enabled for a single
+ * instance deployment. While disabled it is inert: it is never built, rebuilds are refused,
+ * created and deleted short codes are ignored and every lookup passes without touching it.
+ */
+@Slf4j
+@Component
+public class ShortCodeFilter {
+    private final UrlRepository urlRepository;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double fpp;
+    private final Counter rejectedLookups;
+    private final AtomicLong deletedSinceRebuild = new AtomicLong();
+    private volatile BloomFilter current;
+    private volatile BloomFilter next;
+
+    /**
+     * Constructs a ShortCodeFilter with the specified sizing.
+     *
+     * @param urlRepository      the repository to build the filter from
+     * @param enabled            whether unknown short codes are rejected by the filter, only
+     *                           correct for a single instance deployment
+     * @param expectedInsertions the minimum number of short codes the filter is sized for
+     * @param fpp                the desired false positive probability
+     * @param meterRegistry      the registry to publish filter metrics to
+     */
+    public ShortCodeFilter(
+            UrlRepository urlRepository,
+            @Value("${shortener.short-code-filter.enabled}") boolean enabled,
+            @Value("${shortener.short-code-filter.expected-insertions}") long expectedInsertions,
+            @Value("${shortener.short-code-filter.fpp}") double fpp,
+            MeterRegistry meterRegistry
+    ) {
+        this.urlRepository = urlRepository;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.rejectedLookups = meterRegistry.counter("shortener.short-code-filter.rejected");
+        if (!enabled) {
+            return;
+        }
+        Gauge.builder("shortener.short-code-filter.fpp", this, ShortCodeFilter::expectedFpp)
+                .register(meterRegistry);
+        Gauge.builder("shortener.short-code-filter.size", this,
+                        ShortCodeFilter::approximateElementCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Builds the filter from the urls table once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuilds the filter from the urls table and replaces the current one. Short codes created
+     * while the table is scanned are added to both filters, so none of them is lost by the swap.
+     * Does nothing while the filter is disabled.
+     */
+    public synchronized void rebuild() {
+        if (!enabled) {
+            log.info("Short code filter is disabled, rebuild skipped");
+            return;
+        }
+        long started = System.nanoTime();
+        long deletedBeforeScan = deletedSinceRebuild.get();
+        BloomFilter filter = BloomFilter.create(
+                Math.max(expectedInsertions, urlRepository.count()), fpp);
+        next = filter;
+        try {
+            urlRepository.forEachShortCode(filter::put);
+            current = filter;
+            deletedSinceRebuild.addAndGet(-deletedBeforeScan);
+        } finally {
+            next = null;
+        }
+        log.info("Short code filter rebuilt with {} bits and {} hash functions in {} ms",
+                filter.bitSize(), filter.hashFunctions(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Adds a created short code to the filter.
+     *
+     * @param shortCode the short code
+     */
+    public void put(String shortCode) {
+        if (!enabled) {
+            return;
+        }
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.put(shortCode);
+        }
+        BloomFilter building = next;
+        if (building != null) {
+            building.put(shortCode);
+        }
+    }
+
+    /**
+     * Registers a deleted short code. Its bits stay set until the next rebuild.
+     *
+     * @param shortCode the short code
+     */
+    public void markDeleted(String shortCode) {
+        if (!enabled) {
+            return;
+        }
+        deletedSinceRebuild.incrementAndGet();
+    }
+
+    /**
+     * Checks whether the short code might exist.
+     *
+     * @param shortCode the short code
+     * @return false if the short code definitely does not exist, true otherwise
+     */
+    public boolean mightContain(String shortCode) {
+        if (!enabled) {
+            return true;
+        }
+        BloomFilter filter = current;
+        if (filter == null || filter.mightContain(shortCode)) {
+            return true;
+        }
+        rejectedLookups.increment();
+        return false;
+    }
+
+    /**
+     * Returns a snapshot of the filter state.
+     *
+     * @return filter statistics
+     */
+    public ShortCodeFilterStats stats() {
+        BloomFilter filter = current;
+        if (filter == null) {
+            return new ShortCodeFilterStats(enabled, false, 0, 0, 0, 0, 0, 0);
+        }
+        return new ShortCodeFilterStats(
+                enabled,
+                true,
+                filter.approximateElementCount(),
+                filter.bitSize(),
+                filter.hashFunctions(),
+                filter.expectedFpp(),
+                deletedSinceRebuild.get(),
+                (long) rejectedLookups.count()
+        );
+    }
+
+    private double expectedFpp() {
+        BloomFilter filter = current;
+        return filter == null ? 0 : filter.expectedFpp();
+    }
+
+    private double approximateElementCount() {
+        BloomFilter filter = current;
+        return filter == null ? 0 : filter.approximateElementCount();
+    }
+}
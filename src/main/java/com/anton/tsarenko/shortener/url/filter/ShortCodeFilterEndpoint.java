@@ -0,0 +1,40 @@
+package com.anton.tsarenko.shortener.url.filter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.jmx.annotation.JmxEndpoint;
+import org.springframework.stereotype.Component;
+
+/**
+ * JMX-only actuator endpoint exposing the short code filter state and a rebuild trigger. A
+ * rebuild scans the whole urls table, so the endpoint is never exposed over HTTP, where any
+ * registered user could trigger it.
+ */
+@Component
+@RequiredArgsConstructor
+@JmxEndpoint(id = "shortcodefilter")
+public class ShortCodeFilterEndpoint {
+    private final ShortCodeFilter shortCodeFilter;
+
+    /**
+     * Returns the short code filter state.
+     *
+     * @return filter statistics
+     */
+    @ReadOperation
+    public ShortCodeFilterStats stats() {
+        return shortCodeFilter.stats();
+    }
+
+    /**
+     * Rebuilds the short code filter from the urls table.
+     *
+     * @return filter statistics after the rebuild
+     */
+    @WriteOperation
+    public ShortCodeFilterStats rebuild() {
+        shortCodeFilter.rebuild();
+        return shortCodeFilter.stats();
+    }
+}
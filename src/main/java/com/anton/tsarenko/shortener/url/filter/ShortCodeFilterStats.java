@@ -0,0 +1,25 @@
+package com.anton.tsarenko.shortener.url.filter;
+
+/**
+ * A record representing a snapshot of the short code filter state.
+ *
+ * @param enabled - whether unknown short codes are rejected by the filter
+ * @param ready - whether the filter has been built
+ * @param approximateSize - the estimated number of short codes in the filter
+ * @param bitSize - the size of the bit array
+ * @param hashFunctions - the number of bit positions derived for every short code
+ * @param expectedFpp - the estimated false positive probability
+ * @param deletedSinceRebuild - the number of deleted short codes still present in the filter
+ * @param rejectedLookups - the number of lookups rejected by the filter
+ */
+public record ShortCodeFilterStats(
+        boolean enabled,
+        boolean ready,
+        long approximateSize,
+        long bitSize,
+        int hashFunctions,
+        double expectedFpp,
+        long deletedSinceRebuild,
+        long rejectedLookups
+) {
+}
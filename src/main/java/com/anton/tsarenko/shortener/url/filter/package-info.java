@@ -0,0 +1,4 @@
+/**
+ * This package contains probabilistic filters that reject unknown short codes in memory.
+ */
+package com.anton.tsarenko.shortener.url.filter;
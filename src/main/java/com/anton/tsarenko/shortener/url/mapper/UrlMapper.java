@@ -2,10 +2,12 @@ package com.anton.tsarenko.shortener.url.mapper;
 
 import com.anton.tsarenko.shortener.auth.entity.User;
 import com.anton.tsarenko.shortener.url.dto.PageResponse;
+import com.anton.tsarenko.shortener.url.dto.SliceResponse;
 import com.anton.tsarenko.shortener.url.dto.UrlRequest;
 import com.anton.tsarenko.shortener.url.dto.UrlResponse;
 import com.anton.tsarenko.shortener.url.entity.Url;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 /**
  * Mapper interface for converting between Url entities and DTOs.
@@ -28,6 +30,14 @@ public interface UrlMapper {
      */
     PageResponse<UrlResponse> toPageResponse(Page<Url> urls);
 
+    /**
+     * Converts a slice of url entities ordered by id to a slice response with the next cursor.
+     *
+     * @param urls - The slice of Url entities to convert
+     * @return - The corresponding SliceResponse containing UrlResponse DTOs
+     */
+    SliceResponse<UrlResponse> toSliceResponse(Slice<Url> urls);
+
     /**
      * Converts a Url entity to a UrlResponse DTO.
      *
@@ -2,12 +2,15 @@ package com.anton.tsarenko.shortener.url.mapper.impl;
 
 import com.anton.tsarenko.shortener.auth.entity.User;
 import com.anton.tsarenko.shortener.url.dto.PageResponse;
+import com.anton.tsarenko.shortener.url.dto.SliceResponse;
 import com.anton.tsarenko.shortener.url.dto.UrlRequest;
 import com.anton.tsarenko.shortener.url.dto.UrlResponse;
 import com.anton.tsarenko.shortener.url.entity.Url;
 import com.anton.tsarenko.shortener.url.mapper.UrlMapper;
-import java.time.Instant;
+import com.anton.tsarenko.shortener.url.util.KeysetCursor;
+import java.util.List;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 
@@ -21,7 +24,6 @@ public class UrlMapperImpl implements UrlMapper {
     public Url toUrl(UrlRequest urlRequest, User user) {
         return Url.builder()
                 .originalUrl(urlRequest.originalUrl())
-                .expiredAt(Instant.now())
                 .user(user)
                 .build();
     }
@@ -41,6 +43,20 @@ public class UrlMapperImpl implements UrlMapper {
         );
     }
 
+    @Override
+    public SliceResponse<UrlResponse> toSliceResponse(Slice<Url> urlSlice) {
+        if (urlSlice == null) {
+            return null;
+        }
+
+        List<Url> urls = urlSlice.getContent();
+        return new SliceResponse<>(
+                urls.stream().map(this::toUrlResponse).toList(),
+                urlSlice.getSize(),
+                urlSlice.hasNext() ? KeysetCursor.encode(urls.getLast().getId()) : null
+        );
+    }
+
     @Override
     public UrlResponse toUrlResponse(Url url) {
         return UrlResponse.builder()
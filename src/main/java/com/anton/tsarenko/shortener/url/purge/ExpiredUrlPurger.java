@@ -0,0 +1,123 @@
+package com.anton.tsarenko.shortener.url.purge;
+
+import com.anton.tsarenko.shortener.url.dto.PurgedBatch;
+import com.anton.tsarenko.shortener.url.repo.UrlRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job that removes expired URLs from the urls table, so the short code index stays
+ * proportional to live links. Expired URLs are removed in small batches walked in keyset order
+ * of expiration date and id, every batch in its own short transaction with a pause between
+ * batches, and are optionally moved to the urls_archive table. Rows locked by concurrent
+ * statements are skipped and picked up by a later run, so several instances can run the job.
+ */
+@Slf4j
+@Component
+public class ExpiredUrlPurger {
+    /** Key before the first expired URL; links cannot expire before the epoch. */
+    static final Instant KEYSET_START = Instant.EPOCH;
+
+    private final UrlRepository urlRepository;
+    private final boolean enabled;
+    private final boolean archive;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration batchPause;
+    private final Counter purgedUrls;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    /**
+     * Constructs an ExpiredUrlPurger with the specified batching.
+     *
+     * @param urlRepository    the repository to remove expired URLs from
+     * @param enabled          whether expired URLs are removed
+     * @param archive          whether removed URLs are moved to the urls_archive table
+     * @param batchSize        the maximum number of URLs removed in one transaction
+     * @param maxBatchesPerRun the maximum number of batches removed in one run
+     * @param batchPause       the pause between two batches of one run
+     * @param meterRegistry    the registry to publish purge metrics to
+     */
+    public ExpiredUrlPurger(
+            UrlRepository urlRepository,
+            @Value("${shortener.expired-purge.enabled}") boolean enabled,
+            @Value("${shortener.expired-purge.archive}") boolean archive,
+            @Value("${shortener.expired-purge.batch-size}") int batchSize,
+            @Value("${shortener.expired-purge.max-batches-per-run}") int maxBatchesPerRun,
+            @Value("${shortener.expired-purge.batch-pause}") Duration batchPause,
+            MeterRegistry meterRegistry
+    ) {
+        this.urlRepository = urlRepository;
+        this.enabled = enabled;
+        this.archive = archive;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.batchPause = batchPause;
+        this.purgedUrls = meterRegistry.counter(
+                "shortener.urls.purged", "mode", archive ? "archive" : "delete");
+        Gauge.builder("shortener.urls.purge.lag", lagSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Removes URLs expired by the start of the run, at most {@code max-batches-per-run}
+     * batches, and updates the lag of the oldest expired URL left in the urls table. A failed
+     * batch ends the run; its URLs are removed by the next run.
+     */
+    @Scheduled(fixedDelayString = "${shortener.expired-purge.interval}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        Instant cutoff = Instant.now();
+        Instant afterExpiredAt = KEYSET_START;
+        long afterId = 0;
+        long purged = 0;
+        try {
+            for (int batches = 0; batches < maxBatchesPerRun; batches++) {
+                Optional<PurgedBatch> batch = urlRepository.purgeExpiredBatch(
+                        cutoff, afterExpiredAt, afterId, batchSize, archive);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                purgedUrls.increment(batch.get().count());
+                purged += batch.get().count();
+                afterExpiredAt = batch.get().lastExpiredAt();
+                afterId = batch.get().lastId();
+                if (batch.get().count() < batchSize || !pause()) {
+                    break;
+                }
+            }
+            Instant now = Instant.now();
+            lagSeconds.set(urlRepository.findOldestExpiredAt(now)
+                    .map(oldest -> Duration.between(oldest, now).toSeconds())
+                    .orElse(0L));
+        } catch (DataAccessException e) {
+            log.warn("Failed to purge expired urls, will retry on the next run", e);
+        }
+        if (purged > 0) {
+            log.info("Purged {} expired urls", purged);
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * This package contains background jobs that remove expired URLs from the urls table.
+ */
+package com.anton.tsarenko.shortener.url.purge;
@@ -0,0 +1,59 @@
+package com.anton.tsarenko.shortener.url.repo;
+
+import com.anton.tsarenko.shortener.url.dto.Click;
+import com.anton.tsarenko.shortener.url.dto.StatsBucket;
+import com.anton.tsarenko.shortener.url.util.StatsGranularity;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Repository for the append-only clicks table, partitioned by month of the click, and for its
+ * hourly and daily rollups per URL.
+ */
+public interface ClickRepository {
+    /**
+     * Appends clicks to the clicks table with a single COPY statement.
+     *
+     * @param clicks - The clicks to append.
+     * @return - The number of appended rows.
+     */
+    long copyClicks(List<Click> clicks);
+
+    /**
+     * Creates the partition of the clicks table for the month if it does not exist yet.
+     *
+     * @param month - The month of the partition, in UTC.
+     */
+    void createPartition(YearMonth month);
+
+    /**
+     * Adds clicks after the rollup watermark to the hourly and daily rollups and moves the
+     * watermark, in one transaction. The watermark row is locked for the transaction, so
+     * concurrent rollups never count a click twice. Clicks of removed URLs are skipped.
+     *
+     * @param upTo      - The time to roll clicks up to, exclusive.
+     * @param maxWindow - The maximum time span of clicks rolled up at once.
+     * @return - The watermark after the rollup.
+     */
+    Instant rollUpClicks(Instant upTo, Duration maxWindow);
+
+    /**
+     * Returns the rollup watermark; clicks before it are included in the rollups.
+     *
+     * @return - The rollup watermark.
+     */
+    Instant findRolledUpTo();
+
+    /**
+     * Reads the non-empty rollup buckets of the URL in the time range.
+     *
+     * @param urlId       - The id of the URL.
+     * @param granularity - The bucket size.
+     * @param from        - The start of the first bucket, inclusive.
+     * @param to          - The end of the range, exclusive.
+     * @return - The non-empty buckets in ascending order.
+     */
+    List<StatsBucket> findStats(long urlId, StatsGranularity granularity, Instant from, Instant to);
+}
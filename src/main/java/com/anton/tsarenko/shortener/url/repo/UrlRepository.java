@@ -1,33 +1,74 @@
 package com.anton.tsarenko.shortener.url.repo;
 
 import com.anton.tsarenko.shortener.auth.entity.User;
+import com.anton.tsarenko.shortener.url.dto.ResolvedUrl;
 import com.anton.tsarenko.shortener.url.entity.Url;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository interface for managing URL entities.
  */
-public interface UrlRepository extends JpaRepository<Url, Long> {
+public interface UrlRepository extends JpaRepository<Url, Long>, UrlRepositoryCustom {
 
     /**
-     * Find all urls by user.
+     * Find urls of the page by user, without counting the total.
      *
      * @param user - The user whose URLs are to be retrieved.
      * @param pageable -  The pagination information (page number, page size, sorting).
-     * @return - A paginated list of Urls associated with the specified user.
+     * @return - Urls of the page associated with the specified user.
      */
-    Page<Url> findAllByUser(User user, Pageable pageable);
+    List<Url> findAllByUser(User user, Pageable pageable);
 
     /**
-     * Checks if Url with the short code exists.
+     * Counts urls of the user.
      *
-     * @param shortCode - The short code
-     * @return - true if a url with the given shortcode exists, false otherwise
+     * @param user - The user whose URLs are counted.
+     * @return - The number of Urls associated with the specified user.
+     */
+    long countByUser(User user);
+
+    /**
+     * Checks whether the url with the id belongs to the user.
+     *
+     * @param id - The id of the url.
+     * @param userId - The id of the user.
+     * @return - true if the user owns the url, false otherwise.
+     */
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Find url by id if it belongs to the user.
+     *
+     * @param id - The id of the url.
+     * @param userId - The id of the user.
+     * @return - Optional with the url if the user owns it, empty otherwise.
+     */
+    Optional<Url> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Find urls of the user with ids greater than the given one, without counting the total.
+     * Served by a seek on the (user_id, id) index.
+     *
+     * @param user - The user whose URLs are to be retrieved.
+     * @param id - The id after which urls are retrieved.
+     * @param pageable - The slice size and sorting.
+     * @return - A slice of Urls associated with the specified user.
      */
-    boolean existsByShortCode(String shortCode);
+    Slice<Url> findAllByUserAndIdGreaterThan(User user, Long id, Pageable pageable);
+
+    /**
+     * Takes the next value of the short code sequence.
+     *
+     * @return - The next sequence value
+     */
+    @Query(value = "SELECT nextval('short_code_seq')", nativeQuery = true)
+    long nextShortCodeSequenceValue();
 
     /**
      * Finds Url by short code.
@@ -36,4 +77,36 @@ public interface UrlRepository extends JpaRepository<Url, Long> {
      * @return - Optional with Url if found, empty otherwise
      */
     Optional<Url> findByShortCode(String shortCode);
+
+    /**
+     * Finds only the original URL and expiration date of the not expired Url by short code,
+     * without loading the Url entity or its owner. Served by an index-only scan of the covering
+     * short code index.
+     *
+     * @param shortCode - The short code
+     * @return - Optional with resolved url if a not expired url was found, empty otherwise
+     */
+    @Query("SELECT new com.anton.tsarenko.shortener.url.dto.ResolvedUrl("
+            + "u.originalUrl, u.expiredAt) FROM Url u "
+            + "WHERE u.shortCode = :shortCode AND u.expiredAt > CURRENT_TIMESTAMP")
+    Optional<ResolvedUrl> findResolvedByShortCode(String shortCode);
+
+    /**
+     * Increments redirects count of the not expired Url with the short code and returns its
+     * original URL in a single statement, without loading the entity. The count lives in the
+     * narrow url_counters table, so the urls row itself is not rewritten.
+     *
+     * @param shortCode - The short code
+     * @return - Optional with original URL if a not expired url was found, empty otherwise
+     */
+    @Transactional
+    @Query(value = "WITH target AS ("
+            + "SELECT id, original_url FROM urls "
+            + "WHERE short_code = :shortCode AND expired_at > now()), "
+            + "counted AS ("
+            + "INSERT INTO url_counters (url_id, redirects_count) SELECT id, 1 FROM target "
+            + "ON CONFLICT (url_id) DO UPDATE "
+            + "SET redirects_count = url_counters.redirects_count + 1) "
+            + "SELECT original_url FROM target", nativeQuery = true)
+    Optional<String> incrementRedirectsCountAndGetOriginalUrl(String shortCode);
 }
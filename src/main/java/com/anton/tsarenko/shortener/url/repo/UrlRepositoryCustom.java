@@ -0,0 +1,72 @@
+package com.anton.tsarenko.shortener.url.repo;
+
+import com.anton.tsarenko.shortener.url.dto.PurgedBatch;
+import com.anton.tsarenko.shortener.url.entity.Url;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Custom repository operations for URL entities implemented with plain JDBC.
+ */
+public interface UrlRepositoryCustom {
+    /**
+     * Adds redirect count deltas to the url_counters rows of the Urls with the given short codes
+     * in one batched upsert. The row of a Url is created on its first counted redirect. Rows are
+     * upserted in short code order, so concurrent batches of several instances lock shared rows
+     * in the same order and cannot deadlock.
+     *
+     * @param deltas - Redirect count deltas keyed by short code
+     */
+    void incrementRedirectsCounts(Map<String, Long> deltas);
+
+    /**
+     * Streams short codes of all Urls to the consumer without loading them into memory at once.
+     *
+     * @param consumer - The consumer of short codes
+     */
+    void forEachShortCode(Consumer<String> consumer);
+
+    /**
+     * Reserves the next block of short code sequence values for exclusive use by the caller.
+     *
+     * @param size - The number of values in the block
+     * @return - The first value of the reserved block
+     */
+    long reserveShortCodeBlock(int size);
+
+    /**
+     * Streams Urls of the user ordered by id through a forward-only cursor. Urls are built from
+     * their own columns only; their owner is not loaded.
+     *
+     * @param userId - The ID of the owner
+     * @param fetchSize - The number of rows fetched from the cursor at once
+     * @param consumer - The consumer of Urls
+     */
+    void forEachUrlByUser(Long userId, int fetchSize, Consumer<Url> consumer);
+
+    /**
+     * Removes the next batch of Urls expired at the cutoff, in keyset order of expiration date
+     * and id after the given key, in its own short transaction. Rows locked by concurrent
+     * statements are skipped. Removed Urls are optionally copied to the urls_archive table in
+     * the same statement.
+     *
+     * @param cutoff - The instant Urls must be expired at
+     * @param afterExpiredAt - The expiration date of the last Url of the previous batch
+     * @param afterId - The id of the last Url of the previous batch
+     * @param batchSize - The maximum number of Urls removed at once
+     * @param archive - Whether removed Urls are copied to the urls_archive table
+     * @return - Optional with the removed batch, empty if no expired Urls are left after the key
+     */
+    Optional<PurgedBatch> purgeExpiredBatch(
+            Instant cutoff, Instant afterExpiredAt, long afterId, int batchSize, boolean archive);
+
+    /**
+     * Finds the expiration date of the longest expired Url that is still in the urls table.
+     *
+     * @param cutoff - The instant Urls must be expired at
+     * @return - Optional with the oldest expiration date, empty if no expired Urls are left
+     */
+    Optional<Instant> findOldestExpiredAt(Instant cutoff);
+}
@@ -0,0 +1,173 @@
+package com.anton.tsarenko.shortener.url.repo.impl;
+
+import com.anton.tsarenko.shortener.url.dto.Click;
+import com.anton.tsarenko.shortener.url.dto.StatsBucket;
+import com.anton.tsarenko.shortener.url.repo.ClickRepository;
+import com.anton.tsarenko.shortener.url.util.StatsGranularity;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * JDBC implementation of the clicks repository. Clicks are streamed to PostgreSQL with COPY in
+ * CSV format, which avoids binding parameters row by row. Rollups aggregate each click once,
+ * into per-hour deltas that are added to both the hourly and the daily tables.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClickRepositoryImpl implements ClickRepository {
+    private static final String COPY_CLICKS_SQL =
+            "COPY clicks (short_code, clicked_at, referrer, user_agent, ip_hash, weight) "
+                    + "FROM STDIN (FORMAT csv)";
+    private static final String CREATE_PARTITION_SQL =
+            "CREATE TABLE IF NOT EXISTS clicks_%s PARTITION OF clicks "
+                    + "FOR VALUES FROM ('%s') TO ('%s')";
+    private static final String LOCK_ROLLUP_SQL =
+            "SELECT rolled_up_to FROM click_rollups WHERE name = 'clicks' FOR UPDATE";
+    private static final String SELECT_ROLLUP_SQL =
+            "SELECT rolled_up_to FROM click_rollups WHERE name = 'clicks'";
+    private static final String UPDATE_ROLLUP_SQL =
+            "UPDATE click_rollups SET rolled_up_to = ? WHERE name = 'clicks'";
+    private static final String ROLL_UP_CLICKS_SQL =
+            "WITH deltas AS ("
+                    + "SELECT u.id AS url_id, date_trunc('hour', c.clicked_at, 'UTC') AS bucket, "
+                    + "sum(c.weight) AS clicks "
+                    + "FROM clicks c JOIN urls u ON u.short_code = c.short_code "
+                    + "WHERE c.clicked_at >= ? AND c.clicked_at < ? "
+                    + "GROUP BY 1, 2), "
+                    + "hourly AS ("
+                    + "INSERT INTO click_stats_hourly (url_id, bucket, clicks) "
+                    + "SELECT url_id, bucket, clicks FROM deltas "
+                    + "ON CONFLICT (url_id, bucket) DO UPDATE "
+                    + "SET clicks = click_stats_hourly.clicks + EXCLUDED.clicks) "
+                    + "INSERT INTO click_stats_daily (url_id, bucket, clicks) "
+                    + "SELECT url_id, date_trunc('day', bucket, 'UTC'), sum(clicks) FROM deltas "
+                    + "GROUP BY 1, 2 "
+                    + "ON CONFLICT (url_id, bucket) DO UPDATE "
+                    + "SET clicks = click_stats_daily.clicks + EXCLUDED.clicks";
+    private static final String SELECT_STATS_SQL =
+            "SELECT bucket, clicks FROM %s WHERE url_id = ? AND bucket >= ? AND bucket < ? "
+                    + "ORDER BY bucket";
+    private static final DateTimeFormatter PARTITION_SUFFIX =
+            DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final int ESTIMATED_ROW_LENGTH = 256;
+    private static final Map<StatsGranularity, String> STATS_TABLES = Map.of(
+            StatsGranularity.HOUR, "click_stats_hourly",
+            StatsGranularity.DAY, "click_stats_daily"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long copyClicks(List<Click> clicks) {
+        String rows = toCsv(clicks);
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class)
+                        .getCopyAPI()
+                        .copyIn(COPY_CLICKS_SQL, new StringReader(rows));
+            } catch (IOException e) {
+                throw new DataAccessResourceFailureException("Failed to copy clicks", e);
+            }
+        });
+        return copied == null ? 0 : copied;
+    }
+
+    @Override
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute(CREATE_PARTITION_SQL.formatted(
+                month.format(PARTITION_SUFFIX),
+                month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant(),
+                month.plusMonths(1).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant()));
+    }
+
+    @Override
+    @Transactional
+    public Instant rollUpClicks(Instant upTo, Duration maxWindow) {
+        Instant rolledUpTo = jdbcTemplate.queryForObject(LOCK_ROLLUP_SQL, Timestamp.class)
+                .toInstant();
+        Instant end = rolledUpTo.plus(maxWindow);
+        if (end.isAfter(upTo)) {
+            end = upTo;
+        }
+        if (!end.isAfter(rolledUpTo)) {
+            return rolledUpTo;
+        }
+        jdbcTemplate.update(ROLL_UP_CLICKS_SQL, Timestamp.from(rolledUpTo), Timestamp.from(end));
+        jdbcTemplate.update(UPDATE_ROLLUP_SQL, Timestamp.from(end));
+        return end;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Instant findRolledUpTo() {
+        return jdbcTemplate.queryForObject(SELECT_ROLLUP_SQL, Timestamp.class).toInstant();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StatsBucket> findStats(
+            long urlId, StatsGranularity granularity, Instant from, Instant to) {
+        return jdbcTemplate.query(
+                SELECT_STATS_SQL.formatted(STATS_TABLES.get(granularity)),
+                (resultSet, rowNum) -> new StatsBucket(
+                        resultSet.getTimestamp("bucket").toInstant(),
+                        resultSet.getLong("clicks")),
+                urlId,
+                Timestamp.from(from),
+                Timestamp.from(to));
+    }
+
+    /**
+     * Formats clicks as CSV rows. Text fields are always quoted, so that an empty string is
+     * kept apart from an absent value, which is written as an empty unquoted field. NUL
+     * characters are not allowed in PostgreSQL text and are dropped.
+     *
+     * @param clicks the clicks
+     * @return the CSV rows
+     */
+    static String toCsv(List<Click> clicks) {
+        StringBuilder csv = new StringBuilder(clicks.size() * ESTIMATED_ROW_LENGTH);
+        for (Click click : clicks) {
+            appendQuoted(csv, click.shortCode()).append(',');
+            csv.append(click.clickedAt()).append(',');
+            appendQuoted(csv, click.referrer()).append(',');
+            appendQuoted(csv, click.userAgent()).append(',');
+            appendQuoted(csv, click.ipHash()).append(',');
+            csv.append(click.weight()).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static StringBuilder appendQuoted(StringBuilder csv, String value) {
+        if (value == null) {
+            return csv;
+        }
+        csv.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\0') {
+                continue;
+            }
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        return csv.append('"');
+    }
+}
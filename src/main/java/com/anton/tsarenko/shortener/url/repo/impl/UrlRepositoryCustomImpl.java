@@ -0,0 +1,144 @@
+package com.anton.tsarenko.shortener.url.repo.impl;
+
+import com.anton.tsarenko.shortener.url.dto.PurgedBatch;
+import com.anton.tsarenko.shortener.url.entity.Url;
+import com.anton.tsarenko.shortener.url.repo.UrlRepositoryCustom;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * JDBC implementation of the custom URL repository operations.
+ */
+@RequiredArgsConstructor
+public class UrlRepositoryCustomImpl implements UrlRepositoryCustom {
+    private static final String INCREMENT_REDIRECTS_COUNT_SQL =
+            "INSERT INTO url_counters (url_id, redirects_count) "
+                    + "SELECT id, ? FROM urls WHERE short_code = ? "
+                    + "ON CONFLICT (url_id) DO UPDATE SET redirects_count = "
+                    + "url_counters.redirects_count + EXCLUDED.redirects_count";
+    private static final String SELECT_SHORT_CODES_SQL = "SELECT short_code FROM urls";
+    private static final int SHORT_CODES_FETCH_SIZE = 10_000;
+    private static final String SELECT_URLS_BY_USER_SQL =
+            "SELECT u.id, u.original_url, coalesce(c.redirects_count, 0) AS redirects_count, "
+                    + "u.short_code, u.expired_at, u.created_at "
+                    + "FROM urls u LEFT JOIN url_counters c ON c.url_id = u.id "
+                    + "WHERE u.user_id = ? ORDER BY u.id";
+    private static final String RESERVE_SHORT_CODE_BLOCK_SQL =
+            "UPDATE short_code_blocks SET next_value = next_value + ? "
+                    + "WHERE name = 'short_code' RETURNING next_value - ?";
+    private static final String PURGE_EXPIRED_BATCH_SQL =
+            "WITH batch AS ("
+                    + "SELECT id, expired_at FROM urls "
+                    + "WHERE expired_at <= ? AND (expired_at, id) > (?, ?) "
+                    + "ORDER BY expired_at, id LIMIT ? FOR UPDATE SKIP LOCKED), "
+                    + "purged AS ("
+                    + "DELETE FROM urls u "
+                    + "USING batch b LEFT JOIN url_counters c ON c.url_id = b.id "
+                    + "WHERE u.id = b.id "
+                    + "RETURNING u.id, u.user_id, u.original_url, "
+                    + "coalesce(c.redirects_count, 0), "
+                    + "u.short_code, u.expired_at, u.created_at), "
+                    + "archived AS ("
+                    + "INSERT INTO urls_archive (id, user_id, original_url, redirects_count, "
+                    + "short_code, expired_at, created_at) "
+                    + "SELECT * FROM purged WHERE ?) "
+                    + "SELECT (SELECT count(*) FROM purged) AS purged, expired_at, id FROM batch "
+                    + "ORDER BY expired_at DESC, id DESC LIMIT 1";
+    private static final String SELECT_OLDEST_EXPIRED_AT_SQL =
+            "SELECT min(expired_at) FROM urls WHERE expired_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void incrementRedirectsCounts(Map<String, Long> deltas) {
+        List<Object[]> batchArgs = deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(delta -> new Object[] {delta.getValue(), delta.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate(INCREMENT_REDIRECTS_COUNT_SQL, batchArgs);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachShortCode(Consumer<String> consumer) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement =
+                            connection.prepareStatement(SELECT_SHORT_CODES_SQL);
+                    statement.setFetchSize(SHORT_CODES_FETCH_SIZE);
+                    return statement;
+                },
+                resultSet -> {
+                    consumer.accept(resultSet.getString(1));
+                });
+    }
+
+    @Override
+    @Transactional
+    public long reserveShortCodeBlock(int size) {
+        return jdbcTemplate.queryForObject(RESERVE_SHORT_CODE_BLOCK_SQL, Long.class, size, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachUrlByUser(Long userId, int fetchSize, Consumer<Url> consumer) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement =
+                            connection.prepareStatement(SELECT_URLS_BY_USER_SQL);
+                    statement.setFetchSize(fetchSize);
+                    statement.setLong(1, userId);
+                    return statement;
+                },
+                resultSet -> {
+                    consumer.accept(Url.builder()
+                            .id(resultSet.getLong("id"))
+                            .originalUrl(resultSet.getString("original_url"))
+                            .redirectsCount(resultSet.getLong("redirects_count"))
+                            .shortCode(resultSet.getString("short_code"))
+                            .expiredAt(toInstant(resultSet.getTimestamp("expired_at")))
+                            .createdAt(toInstant(resultSet.getTimestamp("created_at")))
+                            .build());
+                });
+    }
+
+    @Override
+    @Transactional
+    public Optional<PurgedBatch> purgeExpiredBatch(
+            Instant cutoff, Instant afterExpiredAt, long afterId, int batchSize, boolean archive) {
+        return jdbcTemplate.query(
+                        PURGE_EXPIRED_BATCH_SQL,
+                        (resultSet, rowNum) -> new PurgedBatch(
+                                resultSet.getInt("purged"),
+                                toInstant(resultSet.getTimestamp("expired_at")),
+                                resultSet.getLong("id")),
+                        Timestamp.from(cutoff),
+                        Timestamp.from(afterExpiredAt),
+                        afterId,
+                        batchSize,
+                        archive)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Instant> findOldestExpiredAt(Instant cutoff) {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(
+                        SELECT_OLDEST_EXPIRED_AT_SQL, Timestamp.class, Timestamp.from(cutoff)))
+                .map(Timestamp::toInstant);
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * This package contains JDBC implementations of custom repository operations for URL shortening.
+ */
+package com.anton.tsarenko.shortener.url.repo.impl;
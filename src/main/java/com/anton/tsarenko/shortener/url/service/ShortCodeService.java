@@ -0,0 +1,14 @@
+package com.anton.tsarenko.shortener.url.service;
+
+/**
+ * Service interface for allocating short codes of new URLs.
+ */
+public interface ShortCodeService {
+    /**
+     * Allocates a short code for a new URL. Codes of the random strategy may collide with
+     * existing ones; a collision is detected by the unique constraint on insert.
+     *
+     * @return - The new short code
+     */
+    String nextShortCode();
+}
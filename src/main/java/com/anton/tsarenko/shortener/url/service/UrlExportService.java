@@ -0,0 +1,18 @@
+package com.anton.tsarenko.shortener.url.service;
+
+import com.anton.tsarenko.shortener.url.util.UrlFileFormat;
+import java.io.OutputStream;
+
+/**
+ * Service interface for exporting all URLs of a user.
+ */
+public interface UrlExportService {
+    /**
+     * Writes all Urls of the user to the output stream as they are read from the database.
+     *
+     * @param userId - The ID of the user whose URLs are exported.
+     * @param format - The format of the export.
+     * @param outputStream - The stream to write the export to.
+     */
+    void exportUrls(Long userId, UrlFileFormat format, OutputStream outputStream);
+}
@@ -0,0 +1,22 @@
+package com.anton.tsarenko.shortener.url.service;
+
+import com.anton.tsarenko.shortener.auth.entity.User;
+import com.anton.tsarenko.shortener.url.dto.ImportReport;
+import com.anton.tsarenko.shortener.url.util.UrlFileFormat;
+import java.io.Reader;
+
+/**
+ * Service interface for importing URLs from large files.
+ */
+public interface UrlImportService {
+    /**
+     * Imports URLs line by line from the reader, committing them in fixed-size batches.
+     * Invalid lines are skipped and reported.
+     *
+     * @param user - The owner of imported URLs.
+     * @param reader - The source of lines, read incrementally.
+     * @param format - The format of lines.
+     * @return - The import report.
+     */
+    ImportReport importUrls(User user, Reader reader, UrlFileFormat format);
+}
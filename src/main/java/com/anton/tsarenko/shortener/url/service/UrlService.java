@@ -1,9 +1,13 @@
 package com.anton.tsarenko.shortener.url.service;
 
 import com.anton.tsarenko.shortener.auth.entity.User;
+import com.anton.tsarenko.shortener.exceptions.custom.UrlNotFoundException;
+import com.anton.tsarenko.shortener.exceptions.custom.UserNotFoundException;
 import com.anton.tsarenko.shortener.url.entity.Url;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service interface for managing URLs in the URL shortener application.
@@ -14,9 +18,19 @@ public interface UrlService {
      *
      * @param url - The URL entity to be created.
      * @return - The ID of the newly created URL.
+     * @throws UserNotFoundException if the owning user no longer exists
      */
     Long createUrl(Url url);
 
+    /**
+     * Creates several URL entries in one transaction with batched inserts.
+     *
+     * @param urls - The URL entities to be created.
+     * @return - The created URL entities with ids and short codes.
+     * @throws UserNotFoundException if the owning user no longer exists
+     */
+    List<Url> createUrls(List<Url> urls);
+
     /**
      * Retrieves all Urls associated with a specific user, with pagination support.
      *
@@ -27,11 +41,23 @@ public interface UrlService {
     Page<Url> retrieveAllUrlsByUser(User user, Pageable pageable);
 
     /**
-     * Deletes a URL by its unique ID.
+     * Retrieves Urls associated with a specific user ordered by id, starting after the given id.
+     *
+     * @param user - The user whose URLs are to be retrieved.
+     * @param afterId - The id of the last URL of the previous slice, 0 for the first slice.
+     * @param size - The maximum number of URLs in the slice.
+     * @return - A slice of Urls associated with the specified user.
+     */
+    Slice<Url> retrieveUrlsByUserAfter(User user, long afterId, int size);
+
+    /**
+     * Deletes a URL of the user by its unique ID.
      *
+     * @param userId - The ID of the user who owns the URL.
      * @param id - The unique identifier of the URL to be deleted.
+     * @throws UrlNotFoundException if the user has no URL with the ID
      */
-    void deleteUrl(Long id);
+    void deleteUrl(Long userId, Long id);
 
     /**
      * Finds URL by short code, increments redirect count and returns original URL.
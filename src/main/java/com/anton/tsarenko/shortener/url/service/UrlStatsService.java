@@ -0,0 +1,21 @@
+package com.anton.tsarenko.shortener.url.service;
+
+import com.anton.tsarenko.shortener.url.dto.UrlStatsResponse;
+import com.anton.tsarenko.shortener.url.util.StatsGranularity;
+
+/**
+ * Service interface for time-bucketed redirect statistics of URLs.
+ */
+public interface UrlStatsService {
+    /**
+     * Reads redirect statistics of the user's Url for the latest buckets, the current one
+     * included, from the pre-aggregated rollups.
+     *
+     * @param userId - The ID of the user who owns the URL.
+     * @param urlId - The ID of the URL.
+     * @param granularity - The bucket size.
+     * @param buckets - The number of buckets.
+     * @return - The statistics with one entry per bucket.
+     */
+    UrlStatsResponse getStats(Long userId, Long urlId, StatsGranularity granularity, int buckets);
+}
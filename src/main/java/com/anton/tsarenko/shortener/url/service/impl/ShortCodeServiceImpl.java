@@ -0,0 +1,49 @@
+package com.anton.tsarenko.shortener.url.service.impl;
+
+import static com.anton.tsarenko.shortener.url.util.ShortUrlGenerator.generateShortCode;
+
+import com.anton.tsarenko.shortener.url.allocator.ShortCodeBlockAllocator;
+import com.anton.tsarenko.shortener.url.repo.UrlRepository;
+import com.anton.tsarenko.shortener.url.service.ShortCodeService;
+import com.anton.tsarenko.shortener.url.util.ShortCodeStrategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the ShortCodeService interface. Sequence and block strategies derive codes
+ * from sequence values; random strategy generates codes that may already be taken. No strategy
+ * checks the code up front: a taken code fails the insert on the unique constraint and is
+ * replaced by the caller.
+ */
+@Service
+public class ShortCodeServiceImpl implements ShortCodeService {
+    private final UrlRepository urlRepository;
+    private final ShortCodeBlockAllocator blockAllocator;
+    private final ShortCodeStrategy strategy;
+
+    /**
+     * Constructs a ShortCodeServiceImpl with the specified strategy.
+     *
+     * @param urlRepository  the repository to allocate short codes from
+     * @param blockAllocator the allocator of sequence value blocks reserved by this instance
+     * @param strategy       the strategy of generating short codes
+     */
+    public ShortCodeServiceImpl(
+            UrlRepository urlRepository,
+            ShortCodeBlockAllocator blockAllocator,
+            @Value("${shortener.short-code.strategy}") ShortCodeStrategy strategy
+    ) {
+        this.urlRepository = urlRepository;
+        this.blockAllocator = blockAllocator;
+        this.strategy = strategy;
+    }
+
+    @Override
+    public String nextShortCode() {
+        return switch (strategy) {
+            case SEQUENCE -> generateShortCode(urlRepository.nextShortCodeSequenceValue());
+            case BLOCK -> generateShortCode(blockAllocator.nextValue());
+            case RANDOM -> generateShortCode();
+        };
+    }
+}
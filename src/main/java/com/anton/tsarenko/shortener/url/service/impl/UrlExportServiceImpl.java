@@ -0,0 +1,103 @@
+package com.anton.tsarenko.shortener.url.service.impl;
+
+import com.anton.tsarenko.shortener.url.entity.Url;
+import com.anton.tsarenko.shortener.url.mapper.UrlMapper;
+import com.anton.tsarenko.shortener.url.repo.UrlRepository;
+import com.anton.tsarenko.shortener.url.service.UrlExportService;
+import com.anton.tsarenko.shortener.url.util.UrlFileFormat;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Implementation of the UrlExportService interface. Rows are read through a forward-only cursor
+ * and written to the output stream one by one, so neither the database result nor the export is
+ * held in memory.
+ */
+@Service
+public class UrlExportServiceImpl implements UrlExportService {
+    private static final String CSV_HEADER =
+            "id,originalUrl,shortCode,redirectsCount,expiredAt,createdAt";
+
+    private final UrlRepository urlRepository;
+    private final UrlMapper mapper;
+    private final JsonMapper jsonMapper;
+    private final int fetchSize;
+
+    /**
+     * Constructs a UrlExportServiceImpl with the specified cursor fetch size.
+     *
+     * @param urlRepository the repository to stream Urls from
+     * @param mapper        the mapper of Urls to response DTOs
+     * @param jsonMapper    the mapper of NDJSON lines
+     * @param fetchSize     the number of rows fetched from the cursor at once
+     */
+    public UrlExportServiceImpl(
+            UrlRepository urlRepository,
+            UrlMapper mapper,
+            JsonMapper jsonMapper,
+            @Value("${shortener.export.fetch-size}") int fetchSize
+    ) {
+        this.urlRepository = urlRepository;
+        this.mapper = mapper;
+        this.jsonMapper = jsonMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void exportUrls(Long userId, UrlFileFormat format, OutputStream outputStream) {
+        try {
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            if (format == UrlFileFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            urlRepository.forEachUrlByUser(userId, fetchSize, url -> write(writer, format, url));
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to export urls of user " + userId, e);
+        }
+    }
+
+    private void write(Writer writer, UrlFileFormat format, Url url) {
+        try {
+            writer.write(format == UrlFileFormat.CSV
+                    ? toCsv(url)
+                    : jsonMapper.writeValueAsString(mapper.toUrlResponse(url)));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String toCsv(Url url) {
+        return Stream.of(
+                        url.getId(),
+                        escapeCsv(url.getOriginalUrl()),
+                        url.getShortCode(),
+                        url.getRedirectsCount(),
+                        url.getExpiredAt(),
+                        url.getCreatedAt())
+                .map(value -> Objects.toString(value, ""))
+                .collect(Collectors.joining(","));
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.contains(",") || value.contains("\"")
+                || value.contains("\r") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
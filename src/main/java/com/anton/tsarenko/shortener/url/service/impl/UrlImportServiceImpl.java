@@ -0,0 +1,205 @@
+package com.anton.tsarenko.shortener.url.service.impl;
+
+import com.anton.tsarenko.shortener.auth.entity.User;
+import com.anton.tsarenko.shortener.url.dto.ImportReport;
+import com.anton.tsarenko.shortener.url.dto.ImportReport.ImportError;
+import com.anton.tsarenko.shortener.url.dto.UrlRequest;
+import com.anton.tsarenko.shortener.url.entity.Url;
+import com.anton.tsarenko.shortener.url.mapper.UrlMapper;
+import com.anton.tsarenko.shortener.url.service.UrlImportService;
+import com.anton.tsarenko.shortener.url.service.UrlService;
+import com.anton.tsarenko.shortener.url.util.BoundedLineReader;
+import com.anton.tsarenko.shortener.url.util.UrlFileFormat;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Implementation of the UrlImportService interface. Lines are parsed and validated one at a time
+ * and only the current batch is kept in memory, so memory use does not depend on file size.
+ * Lines are read with a bounded buffer; an over-long line is reported as failed and skipped.
+ * Every batch is created in its own transaction, so a failed batch does not roll back earlier
+ * ones.
+ */
+@Slf4j
+@Service
+public class UrlImportServiceImpl implements UrlImportService {
+    private static final String CSV_HEADER = "originalUrl";
+    // Longest accepted URL plus room for the JSON key, escapes and extra CSV columns.
+    private static final int MAX_LINE_LENGTH = UrlRequest.MAX_URL_LENGTH + 1024;
+
+    private final UrlService urlService;
+    private final UrlMapper mapper;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    /**
+     * Constructs a UrlImportServiceImpl with the specified batching.
+     *
+     * @param urlService        the service to create URL batches with
+     * @param mapper            the mapper of requests to URL entities
+     * @param validator         the validator of parsed requests
+     * @param jsonMapper        the mapper of NDJSON lines
+     * @param batchSize         the number of URLs committed in one transaction
+     * @param maxReportedErrors the maximum number of errors included in the report
+     */
+    public UrlImportServiceImpl(
+            UrlService urlService,
+            UrlMapper mapper,
+            Validator validator,
+            JsonMapper jsonMapper,
+            @Value("${shortener.import.batch-size}") int batchSize,
+            @Value("${shortener.import.max-reported-errors}") int maxReportedErrors
+    ) {
+        this.urlService = urlService;
+        this.mapper = mapper;
+        this.validator = validator;
+        this.jsonMapper = jsonMapper;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    public ImportReport importUrls(User user, Reader reader, UrlFileFormat format) {
+        Progress progress = new Progress();
+        List<Url> batch = new ArrayList<>(batchSize);
+        long batchFirstLine = 0;
+        long lineNumber = 0;
+        try (BoundedLineReader lines = new BoundedLineReader(reader, MAX_LINE_LENGTH)) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                if (lines.isLineTooLong()) {
+                    progress.linesRead++;
+                    progress.fail(lineNumber,
+                            "Line is longer than " + MAX_LINE_LENGTH + " characters", 1);
+                    continue;
+                }
+                if (line.isBlank() || isCsvHeader(format, lineNumber, line)) {
+                    continue;
+                }
+                progress.linesRead++;
+                try {
+                    UrlRequest urlRequest = parse(format, line);
+                    validate(urlRequest);
+                    if (batch.isEmpty()) {
+                        batchFirstLine = lineNumber;
+                    }
+                    batch.add(mapper.toUrl(urlRequest, user));
+                } catch (IllegalArgumentException e) {
+                    progress.fail(lineNumber, e.getMessage(), 1);
+                }
+                if (batch.size() == batchSize) {
+                    commit(batch, batchFirstLine, progress);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read import of user " + user.getId(), e);
+        }
+        if (!batch.isEmpty()) {
+            commit(batch, batchFirstLine, progress);
+        }
+        return progress.toReport();
+    }
+
+    private void commit(List<Url> batch, long batchFirstLine, Progress progress) {
+        try {
+            urlService.createUrls(batch);
+            progress.imported += batch.size();
+            progress.batches++;
+            log.info("Imported batch {} of {} urls, {} urls imported so far",
+                    progress.batches, batch.size(), progress.imported);
+        } catch (DataAccessException e) {
+            log.warn("Failed to import batch of {} urls starting at line {}",
+                    batch.size(), batchFirstLine, e);
+            progress.fail(batchFirstLine,
+                    "Batch of " + batch.size() + " urls failed: " + e.getMostSpecificCause(),
+                    batch.size());
+        }
+        batch.clear();
+    }
+
+    private UrlRequest parse(UrlFileFormat format, String line) {
+        if (format == UrlFileFormat.CSV) {
+            return new UrlRequest(firstCsvField(line));
+        }
+        try {
+            return jsonMapper.readValue(line, UrlRequest.class);
+        } catch (JacksonException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private void validate(UrlRequest urlRequest) {
+        Set<ConstraintViolation<UrlRequest>> violations = validator.validate(urlRequest);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private static boolean isCsvHeader(UrlFileFormat format, long lineNumber, String line) {
+        return format == UrlFileFormat.CSV
+                && lineNumber == 1
+                && CSV_HEADER.equalsIgnoreCase(line.split(",", 2)[0].replace("\"", "").strip());
+    }
+
+    private static String firstCsvField(String line) {
+        if (!line.startsWith("\"")) {
+            int separator = line.indexOf(',');
+            return separator < 0 ? line : line.substring(0, separator);
+        }
+        StringBuilder field = new StringBuilder();
+        for (int i = 1; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c != '"') {
+                field.append(c);
+            } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                field.append('"');
+                i++;
+            } else {
+                return field.toString();
+            }
+        }
+        throw new IllegalArgumentException("Unterminated quoted field");
+    }
+
+    private final class Progress {
+        private final List<ImportError> errors = new ArrayList<>();
+        private long linesRead;
+        private long imported;
+        private long failed;
+        private int batches;
+        private boolean errorsTruncated;
+
+        private void fail(long line, String message, int lines) {
+            failed += lines;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportError(line, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+
+        private ImportReport toReport() {
+            return new ImportReport(
+                    linesRead, imported, failed, batches, List.copyOf(errors), errorsTruncated);
+        }
+    }
+}
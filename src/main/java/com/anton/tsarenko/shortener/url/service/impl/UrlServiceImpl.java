@@ -1,64 +1,220 @@
 package com.anton.tsarenko.shortener.url.service.impl;
 
-import static com.anton.tsarenko.shortener.url.util.ShortUrlGenerator.generateShortCode;
-
 import com.anton.tsarenko.shortener.auth.entity.User;
 import com.anton.tsarenko.shortener.exceptions.custom.UrlNotFoundException;
+import com.anton.tsarenko.shortener.exceptions.custom.UserNotFoundException;
+import com.anton.tsarenko.shortener.url.cache.ResolvedUrlCache;
+import com.anton.tsarenko.shortener.url.cache.UrlCountCache;
+import com.anton.tsarenko.shortener.url.counter.RedirectCounter;
+import com.anton.tsarenko.shortener.url.dto.ResolvedUrl;
 import com.anton.tsarenko.shortener.url.entity.Url;
+import com.anton.tsarenko.shortener.url.filter.ShortCodeFilter;
 import com.anton.tsarenko.shortener.url.repo.UrlRepository;
+import com.anton.tsarenko.shortener.url.service.ShortCodeService;
 import com.anton.tsarenko.shortener.url.service.UrlService;
-import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 /**
  * Implementation of the UrlService interface for handling CRUD Url operations.
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class UrlServiceImpl implements UrlService {
+    private static final String SHORT_CODE_CONSTRAINT = "ux_urls_short_code";
+    private static final String USER_CONSTRAINT = "urls_user_id_fkey";
+    private static final int MAX_SHORT_CODE_ATTEMPTS = 5;
+
     private final UrlRepository urlRepository;
+    private final ResolvedUrlCache resolvedUrlCache;
+    private final RedirectCounter redirectCounter;
+    private final ShortCodeFilter shortCodeFilter;
+    private final ShortCodeService shortCodeService;
+    private final UrlCountCache urlCountCache;
+    private final MeterRegistry meterRegistry;
+    private final TaskExecutor urlCountExecutor;
+
+    /**
+     * Constructs a UrlServiceImpl with the specified collaborators.
+     *
+     * @param urlRepository    the repository of URLs
+     * @param resolvedUrlCache the cache of resolved short codes
+     * @param redirectCounter  the counter of redirects
+     * @param shortCodeFilter  the filter of known short codes
+     * @param shortCodeService the source of new short codes
+     * @param urlCountCache    the cache of per-user URL counts
+     * @param meterRegistry    the registry of URL creation metrics
+     * @param urlCountExecutor the executor running listing counts next to the page query
+     */
+    public UrlServiceImpl(
+            UrlRepository urlRepository,
+            ResolvedUrlCache resolvedUrlCache,
+            RedirectCounter redirectCounter,
+            ShortCodeFilter shortCodeFilter,
+            ShortCodeService shortCodeService,
+            UrlCountCache urlCountCache,
+            MeterRegistry meterRegistry,
+            @Qualifier("urlCountExecutor") TaskExecutor urlCountExecutor
+    ) {
+        this.urlRepository = urlRepository;
+        this.resolvedUrlCache = resolvedUrlCache;
+        this.redirectCounter = redirectCounter;
+        this.shortCodeFilter = shortCodeFilter;
+        this.shortCodeService = shortCodeService;
+        this.urlCountCache = urlCountCache;
+        this.meterRegistry = meterRegistry;
+        this.urlCountExecutor = urlCountExecutor;
+    }
 
     @Override
     public Long createUrl(Url url) {
-        String shortCode = getNewShortCode();
-
-        url.setShortCode(shortCode);
-        return urlRepository.save(url).getId();
+        return insertWithShortCodes(List.of(url), urls -> List.of(urlRepository.save(url)))
+                .getFirst()
+                .getId();
     }
 
-    private String getNewShortCode() {
-        String shortCode;
-        do {
-            shortCode = generateShortCode();
-        } while (urlRepository.existsByShortCode(shortCode));
-        return shortCode;
+    @Override
+    public List<Url> createUrls(List<Url> urls) {
+        return insertWithShortCodes(urls, urlRepository::saveAll);
     }
 
     @Override
     public Page<Url> retrieveAllUrlsByUser(User user, Pageable pageable) {
-        return urlRepository.findAllByUser(user, pageable);
+        OptionalLong cachedTotal = urlCountCache.get(user.getId());
+        if (cachedTotal.isPresent()) {
+            return new PageImpl<>(
+                    urlRepository.findAllByUser(user, pageable), pageable, cachedTotal.getAsLong());
+        }
+        CompletableFuture<Long> total = countConcurrently(user);
+        List<Url> content = urlRepository.findAllByUser(user, pageable);
+        long count = total == null ? urlRepository.countByUser(user) : join(total);
+        urlCountCache.put(user.getId(), count);
+        return new PageImpl<>(content, pageable, count);
     }
 
     @Override
-    public void deleteUrl(Long id) {
-        urlRepository.deleteById(id);
+    public Slice<Url> retrieveUrlsByUserAfter(User user, long afterId, int size) {
+        return urlRepository.findAllByUserAndIdGreaterThan(
+                user, afterId, PageRequest.of(0, size, Sort.by(Sort.Direction.ASC, "id")));
+    }
+
+    @Override
+    public void deleteUrl(Long userId, Long id) {
+        Url url = urlRepository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new UrlNotFoundException("Url is not found by id: " + id));
+        urlRepository.delete(url);
+        resolvedUrlCache.evict(url.getShortCode());
+        shortCodeFilter.markDeleted(url.getShortCode());
     }
 
     @Override
-    @Transactional
     public String resolveOriginalUrlAndIncreaseRedirectCount(String shortCode) {
-        Url url = urlRepository.findByShortCode(shortCode)
-                .orElseThrow(() -> new UrlNotFoundException(
-                        "Url is not found by short code: " + shortCode
-                ));
+        if (!redirectCounter.isWriteBehind()) {
+            return urlRepository.incrementRedirectsCountAndGetOriginalUrl(shortCode)
+                    .orElseThrow(() -> urlNotFound(shortCode));
+        }
+
+        Optional<ResolvedUrl> cached = resolvedUrlCache.get(shortCode);
+        if (cached.isPresent()) {
+            redirectCounter.increment(shortCode);
+            return cached.get().originalUrl();
+        }
+
+        ResolvedUrl resolvedUrl = urlRepository.findResolvedByShortCode(shortCode)
+                .orElseThrow(() -> urlNotFound(shortCode));
 
-        long currentRedirects = url.getRedirectsCount() == null ? 0L : url.getRedirectsCount();
-        url.setRedirectsCount(currentRedirects + 1);
-        urlRepository.save(url);
+        resolvedUrlCache.put(shortCode, resolvedUrl);
+        redirectCounter.increment(shortCode);
+
+        return resolvedUrl.originalUrl();
+    }
+
+    /**
+     * Assigns short codes to the URLs and inserts them without checking the codes up front.
+     * If the insert fails on the short code unique constraint, all URLs of the failed insert get
+     * new short codes and the insert is retried a bounded number of times.
+     *
+     * @param urls   the URLs to insert
+     * @param insert the insert of the URLs, in its own transaction
+     * @return the inserted URLs
+     */
+    private List<Url> insertWithShortCodes(List<Url> urls, Function<List<Url>, List<Url>> insert) {
+        for (int attempt = 1; ; attempt++) {
+            urls.forEach(url -> url.setShortCode(shortCodeService.nextShortCode()));
+            try {
+                List<Url> savedUrls = insert.apply(urls);
+                urls.forEach(url -> shortCodeFilter.put(url.getShortCode()));
+                meterRegistry.counter("shortener.urls.created").increment(urls.size());
+                return savedUrls;
+            } catch (DataIntegrityViolationException e) {
+                if (isViolationOf(e, USER_CONSTRAINT)) {
+                    throw new UserNotFoundException(
+                            "User is not found by id: " + urls.getFirst().getUser().getId());
+                }
+                if (!isViolationOf(e, SHORT_CODE_CONSTRAINT)
+                        || attempt == MAX_SHORT_CODE_ATTEMPTS) {
+                    throw e;
+                }
+                meterRegistry.counter("shortener.short-code.collisions").increment();
+                urls.forEach(url -> url.setId(null));
+            }
+        }
+    }
+
+    private CompletableFuture<Long> countConcurrently(User user) {
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> urlRepository.countByUser(user), urlCountExecutor);
+        } catch (TaskRejectedException e) {
+            log.debug("Count executor is saturated, counting urls of user {} inline",
+                    user.getId());
+            return null;
+        }
+    }
+
+    private static long join(CompletableFuture<Long> total) {
+        try {
+            return total.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isViolationOf(
+            DataIntegrityViolationException exception, String constraint) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && constraint.equals(violation.getConstraintName())
+                    || cause.getMessage() != null
+                    && cause.getMessage().contains(constraint)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        return url.getOriginalUrl();
+    private static UrlNotFoundException urlNotFound(String shortCode) {
+        return new UrlNotFoundException("Url is not found by short code: " + shortCode);
     }
 }
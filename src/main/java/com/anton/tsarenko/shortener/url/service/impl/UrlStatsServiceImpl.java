@@ -0,0 +1,55 @@
+package com.anton.tsarenko.shortener.url.service.impl;
+
+import com.anton.tsarenko.shortener.exceptions.custom.UrlNotFoundException;
+import com.anton.tsarenko.shortener.url.dto.StatsBucket;
+import com.anton.tsarenko.shortener.url.dto.UrlStatsResponse;
+import com.anton.tsarenko.shortener.url.repo.ClickRepository;
+import com.anton.tsarenko.shortener.url.repo.UrlRepository;
+import com.anton.tsarenko.shortener.url.service.UrlStatsService;
+import com.anton.tsarenko.shortener.url.util.StatsGranularity;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the UrlStatsService interface. Statistics are read from the hourly or daily
+ * rollups by a primary key range of at most the requested number of buckets, so the cost does
+ * not depend on how many times the URL was followed. Buckets without redirects are filled in
+ * with zeros.
+ */
+@Service
+@RequiredArgsConstructor
+public class UrlStatsServiceImpl implements UrlStatsService {
+    private final UrlRepository urlRepository;
+    private final ClickRepository clickRepository;
+
+    @Override
+    public UrlStatsResponse getStats(
+            Long userId, Long urlId, StatsGranularity granularity, int buckets) {
+        if (!urlRepository.existsByIdAndUserId(urlId, userId)) {
+            throw new UrlNotFoundException("Url is not found by id: " + urlId);
+        }
+        Duration bucketLength = granularity.getBucketLength();
+        Instant to = granularity.bucketStart(Instant.now()).plus(bucketLength);
+        Instant from = to.minus(bucketLength.multipliedBy(buckets));
+        Map<Instant, Long> clicksByStart = clickRepository
+                .findStats(urlId, granularity, from, to)
+                .stream()
+                .collect(Collectors.toMap(StatsBucket::start, StatsBucket::clicks));
+
+        List<StatsBucket> series = new ArrayList<>(buckets);
+        long totalClicks = 0;
+        for (Instant start = from; start.isBefore(to); start = start.plus(bucketLength)) {
+            long clicks = clicksByStart.getOrDefault(start, 0L);
+            series.add(new StatsBucket(start, clicks));
+            totalClicks += clicks;
+        }
+        return new UrlStatsResponse(
+                urlId, granularity, clickRepository.findRolledUpTo(), totalClicks, series);
+    }
+}
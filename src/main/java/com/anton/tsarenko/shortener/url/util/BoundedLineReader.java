@@ -0,0 +1,87 @@
+package com.anton.tsarenko.shortener.url.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Line reader that keeps at most a fixed number of characters of a line in memory. Unlike
+ * {@link java.io.BufferedReader#readLine()}, a line without a terminator cannot grow the buffer
+ * without bound: characters past the limit are discarded up to the next line terminator and the
+ * line is flagged as too long. Lines end with {@code \n}, {@code \r} or {@code \r\n}.
+ */
+public class BoundedLineReader implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final int maxLineLength;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean skipLineFeed;
+    private boolean lineTooLong;
+
+    /**
+     * Constructs a BoundedLineReader over the specified reader.
+     *
+     * @param reader        the reader to read characters from
+     * @param maxLineLength the maximum number of characters of a line kept in memory
+     */
+    public BoundedLineReader(Reader reader, int maxLineLength) {
+        this.reader = reader;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * Reads the next line without its terminator. If the line is longer than the limit, only its
+     * first characters are returned and {@link #isLineTooLong()} is true until the next call.
+     *
+     * @return the line, or null at the end of the stream
+     * @throws IOException if the underlying reader fails
+     */
+    public String readLine() throws IOException {
+        StringBuilder line = new StringBuilder();
+        lineTooLong = false;
+        while (true) {
+            if (position == limit) {
+                int read = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                limit = Math.max(read, 0);
+                if (read < 0) {
+                    return line.isEmpty() && !lineTooLong ? null : line.toString();
+                }
+                continue;
+            }
+            char c = buffer[position++];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (c == '\n') {
+                    continue;
+                }
+            }
+            if (c == '\n' || c == '\r') {
+                skipLineFeed = c == '\r';
+                return line.toString();
+            }
+            if (line.length() < maxLineLength) {
+                line.append(c);
+            } else {
+                lineTooLong = true;
+            }
+        }
+    }
+
+    /**
+     * Tells whether the line returned by the last {@link #readLine()} call exceeded the limit.
+     *
+     * @return true if the last line was cut off
+     */
+    public boolean isLineTooLong() {
+        return lineTooLong;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,53 @@
+package com.anton.tsarenko.shortener.url.util;
+
+import com.anton.tsarenko.shortener.exceptions.custom.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Utility class for opaque keyset listing cursors. A cursor carries the id of the last URL of
+ * the previous slice, so the next slice is read by an index seek instead of an offset scan.
+ */
+public class KeysetCursor {
+    private static final String PREFIX = "id:";
+
+    /**
+     * Encodes the id of the last returned URL into an opaque cursor.
+     *
+     * @param lastId the id of the last returned URL
+     * @return the cursor
+     */
+    public static String encode(long lastId) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decodes the id of the last returned URL from an opaque cursor.
+     *
+     * @param cursor the cursor, null or blank for the first slice
+     * @return the id of the last returned URL, 0 for the first slice
+     * @throws InvalidCursorException if the cursor was not produced by {@link #encode(long)}
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        long lastId;
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor),
+                    StandardCharsets.US_ASCII);
+            if (!value.startsWith(PREFIX)) {
+                throw new InvalidCursorException("Invalid cursor: " + cursor);
+            }
+            lastId = Long.parseLong(value.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+        if (lastId < 0) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+        return lastId;
+    }
+}
@@ -0,0 +1,15 @@
+package com.anton.tsarenko.shortener.url.util;
+
+/**
+ * Strategies of generating short codes for new URLs.
+ */
+public enum ShortCodeStrategy {
+    /** Random 6-8 character codes, regenerated when the insert hits an existing code. */
+    RANDOM,
+
+    /** Codes derived from the short code sequence, unique by construction. */
+    SEQUENCE,
+
+    /** Codes derived from blocks of sequence values reserved by this instance. */
+    BLOCK
+}
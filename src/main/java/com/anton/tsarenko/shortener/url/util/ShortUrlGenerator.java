@@ -6,7 +6,24 @@ import java.util.Random;
  * Utility class for generating short URLs.
  */
 public class ShortUrlGenerator {
+    /** Length of short codes derived from sequence values. */
+    public static final int SEQUENCE_SHORT_CODE_LENGTH = 8;
+
+    /** Number of bits of the sequence domain; 2^47 values fit into 8 base62 characters. */
+    public static final int SEQUENCE_BITS = 47;
+
+    /** Largest sequence value that can be turned into a short code. */
+    public static final long MAX_SEQUENCE_VALUE = (1L << SEQUENCE_BITS) - 1;
+
     private static final Random RANDOM = new Random();
+    private static final String ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private static final long FIRST_MULTIPLIER = 0x3C6E_F372_FE95L;
+    private static final long SECOND_MULTIPLIER = 0x510E_527F_ADE7L;
+    private static final long FIRST_MULTIPLIER_INVERSE = inverse(FIRST_MULTIPLIER);
+    private static final long SECOND_MULTIPLIER_INVERSE = inverse(SECOND_MULTIPLIER);
+    private static final long SCRAMBLE_KEY = 0x2C5A_3F1E_9D47L;
+    private static final int SCRAMBLE_SHIFT = 23;
 
     /**
      * Generates a random short code for the URL.
@@ -16,12 +33,89 @@ public class ShortUrlGenerator {
      */
     public static String generateShortCode() {
         int length = RANDOM.nextInt(6, 9);
-        String characters = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
         StringBuilder shortCode = new StringBuilder();
         for (int i = 0; i < length; i++) {
-            int index = RANDOM.nextInt(characters.length());
-            shortCode.append(characters.charAt(index));
+            int index = RANDOM.nextInt(ALPHABET.length());
+            shortCode.append(ALPHABET.charAt(index));
         }
         return shortCode.toString();
     }
+
+    /**
+     * Derives a short code from a sequence value. Distinct values always give distinct codes,
+     * and the value is scrambled with a reversible bijection first, so consecutive values do
+     * not give consecutive codes. The short code is 8 characters long.
+     *
+     * @param sequenceValue the sequence value, between 0 and {@link #MAX_SEQUENCE_VALUE}
+     * @return the short code derived from the sequence value
+     * @throws IllegalArgumentException if the value is out of the sequence domain
+     */
+    public static String generateShortCode(long sequenceValue) {
+        if (sequenceValue < 0 || sequenceValue > MAX_SEQUENCE_VALUE) {
+            throw new IllegalArgumentException("Sequence value is out of range: " + sequenceValue);
+        }
+        long value = scramble(sequenceValue);
+        char[] shortCode = new char[SEQUENCE_SHORT_CODE_LENGTH];
+        for (int i = SEQUENCE_SHORT_CODE_LENGTH - 1; i >= 0; i--) {
+            shortCode[i] = ALPHABET.charAt((int) (value % ALPHABET.length()));
+            value /= ALPHABET.length();
+        }
+        return new String(shortCode);
+    }
+
+    /**
+     * Restores the sequence value a short code was derived from.
+     *
+     * @param shortCode the short code derived from a sequence value
+     * @return the sequence value
+     * @throws IllegalArgumentException if the short code was not derived from a sequence value
+     */
+    public static long toSequenceValue(String shortCode) {
+        if (shortCode.length() != SEQUENCE_SHORT_CODE_LENGTH) {
+            throw new IllegalArgumentException("Not a sequence short code: " + shortCode);
+        }
+        long value = 0;
+        for (int i = 0; i < shortCode.length(); i++) {
+            int digit = ALPHABET.indexOf(shortCode.charAt(i));
+            if (digit < 0) {
+                throw new IllegalArgumentException("Not a sequence short code: " + shortCode);
+            }
+            value = value * ALPHABET.length() + digit;
+        }
+        if (value > MAX_SEQUENCE_VALUE) {
+            throw new IllegalArgumentException("Not a sequence short code: " + shortCode);
+        }
+        return unscramble(value);
+    }
+
+    private static long scramble(long value) {
+        value ^= value >>> SCRAMBLE_SHIFT;
+        value = (value * FIRST_MULTIPLIER) & MAX_SEQUENCE_VALUE;
+        value ^= value >>> SCRAMBLE_SHIFT;
+        value = (value * SECOND_MULTIPLIER) & MAX_SEQUENCE_VALUE;
+        value ^= value >>> SCRAMBLE_SHIFT;
+        return value ^ SCRAMBLE_KEY;
+    }
+
+    private static long unscramble(long value) {
+        value = unshift(value ^ SCRAMBLE_KEY);
+        value = unshift((value * SECOND_MULTIPLIER_INVERSE) & MAX_SEQUENCE_VALUE);
+        return unshift((value * FIRST_MULTIPLIER_INVERSE) & MAX_SEQUENCE_VALUE);
+    }
+
+    private static long unshift(long value) {
+        long result = value;
+        for (int shift = SCRAMBLE_SHIFT; shift < SEQUENCE_BITS; shift += SCRAMBLE_SHIFT) {
+            result ^= value >>> shift;
+        }
+        return result;
+    }
+
+    private static long inverse(long oddMultiplier) {
+        long inverse = oddMultiplier;
+        for (int i = 0; i < 5; i++) {
+            inverse *= 2 - oddMultiplier * inverse;
+        }
+        return inverse;
+    }
 }
@@ -0,0 +1,42 @@
+package com.anton.tsarenko.shortener.url.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Bucket sizes of pre-aggregated redirect statistics. Buckets start at whole hours and days
+ * in UTC.
+ */
+public enum StatsGranularity {
+    /** One bucket per hour. */
+    HOUR(ChronoUnit.HOURS),
+
+    /** One bucket per day. */
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    StatsGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * Returns the length of one bucket.
+     *
+     * @return the bucket length
+     */
+    public Duration getBucketLength() {
+        return unit.getDuration();
+    }
+
+    /**
+     * Returns the start of the bucket the instant falls into.
+     *
+     * @param instant the instant
+     * @return the start of its bucket
+     */
+    public Instant bucketStart(Instant instant) {
+        return instant.truncatedTo(unit);
+    }
+}
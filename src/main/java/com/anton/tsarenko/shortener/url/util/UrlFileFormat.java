@@ -0,0 +1,46 @@
+package com.anton.tsarenko.shortener.url.util;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formats of streaming URL imports and exports.
+ */
+public enum UrlFileFormat {
+    /** One JSON object per line. */
+    NDJSON(MediaType.parseMediaType("application/x-ndjson")),
+
+    /** One URL per line, with the original URL in the first column. */
+    CSV(MediaType.parseMediaType("text/csv"));
+
+    private final MediaType mediaType;
+
+    UrlFileFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Returns the media type of the format.
+     *
+     * @return the media type
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Resolves the format by the content type of the request.
+     *
+     * @param contentType the content type of the request
+     * @return the import format
+     * @throws IllegalArgumentException if the content type is not supported
+     */
+    public static UrlFileFormat of(String contentType) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        for (UrlFileFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(mediaType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported content type: " + contentType);
+    }
+}
@@ -0,0 +1,23 @@
+CREATE TABLE IF NOT EXISTS clicks (
+    short_code VARCHAR(8) NOT NULL,
+    clicked_at TIMESTAMPTZ NOT NULL,
+    referrer TEXT,
+    user_agent TEXT,
+    ip_hash VARCHAR(43),
+    weight INTEGER NOT NULL DEFAULT 1
+) PARTITION BY RANGE (clicked_at);
+
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', now() AT TIME ZONE 'UTC');
+BEGIN
+    FOR i IN 0..2 LOOP
+        EXECUTE format(
+                'CREATE TABLE IF NOT EXISTS %I PARTITION OF clicks FOR VALUES FROM (%L) TO (%L)',
+                'clicks_' || to_char(month_start + make_interval(months => i), 'YYYY_MM'),
+                (month_start + make_interval(months => i)) AT TIME ZONE 'UTC',
+                (month_start + make_interval(months => i + 1)) AT TIME ZONE 'UTC');
+    END LOOP;
+END $$;
+
+CREATE INDEX IF NOT EXISTS ix_clicks_clicked_at ON clicks USING brin (clicked_at);
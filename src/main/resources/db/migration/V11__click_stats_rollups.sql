@@ -0,0 +1,24 @@
+CREATE TABLE IF NOT EXISTS click_stats_hourly (
+    url_id BIGINT NOT NULL,
+    bucket TIMESTAMPTZ NOT NULL,
+    clicks BIGINT NOT NULL,
+    PRIMARY KEY (url_id, bucket),
+    FOREIGN KEY (url_id) REFERENCES urls(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS click_stats_daily (
+    url_id BIGINT NOT NULL,
+    bucket TIMESTAMPTZ NOT NULL,
+    clicks BIGINT NOT NULL,
+    PRIMARY KEY (url_id, bucket),
+    FOREIGN KEY (url_id) REFERENCES urls(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS click_rollups (
+    name VARCHAR(32) PRIMARY KEY,
+    rolled_up_to TIMESTAMPTZ NOT NULL
+);
+
+INSERT INTO click_rollups (name, rolled_up_to)
+SELECT 'clicks', coalesce(min(clicked_at), now()) FROM clicks
+ON CONFLICT (name) DO NOTHING;
@@ -0,0 +1,4 @@
+ALTER TABLE urls DROP CONSTRAINT IF EXISTS urls_short_code_key;
+
+ALTER TABLE urls
+    ADD CONSTRAINT ux_urls_short_code UNIQUE (short_code) INCLUDE (original_url, expired_at);
@@ -0,0 +1,6 @@
+CREATE SEQUENCE IF NOT EXISTS short_code_seq
+    AS BIGINT
+    MINVALUE 0
+    START WITH 0
+    MAXVALUE 140737488355327
+    NO CYCLE;
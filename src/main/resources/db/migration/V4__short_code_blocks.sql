@@ -0,0 +1,10 @@
+ALTER SEQUENCE short_code_seq MAXVALUE 70368744177663;
+
+CREATE TABLE IF NOT EXISTS short_code_blocks (
+    name VARCHAR(32) PRIMARY KEY,
+    next_value BIGINT NOT NULL
+);
+
+INSERT INTO short_code_blocks (name, next_value)
+VALUES ('short_code', 70368744177664)
+ON CONFLICT (name) DO NOTHING;
@@ -0,0 +1 @@
+ALTER SEQUENCE urls_id_seq INCREMENT BY 50;
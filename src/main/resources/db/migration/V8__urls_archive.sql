@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS urls_archive (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    original_url TEXT NOT NULL,
+    redirects_count BIGINT NOT NULL,
+    short_code VARCHAR(8) NOT NULL,
+    expired_at TIMESTAMPTZ NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL,
+    archived_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS ix_urls_expired_at_id ON urls (expired_at, id);
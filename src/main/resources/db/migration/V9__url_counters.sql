@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS url_counters (
+    url_id BIGINT PRIMARY KEY,
+    redirects_count BIGINT NOT NULL DEFAULT 0,
+    FOREIGN KEY (url_id) REFERENCES urls(id) ON DELETE CASCADE
+) WITH (fillfactor = 70, autovacuum_vacuum_scale_factor = 0.02);
+
+INSERT INTO url_counters (url_id, redirects_count)
+SELECT id, redirects_count FROM urls WHERE redirects_count > 0;
+
+ALTER TABLE urls DROP COLUMN redirects_count;
@@ -0,0 +1,23 @@
+package com.anton.tsarenko.shortener.auth.bulkhead;
+
+import java.time.Duration;
+
+/**
+ * This class is a fixture for testing {@link LoginBulkhead}.
+ */
+class LoginBulkheadFixture {
+    /** Pool size of a bulkhead with a single verification thread. */
+    static final int SINGLE_THREAD = 1;
+
+    /** Queue capacity of a bulkhead holding a single waiting login. */
+    static final int SINGLE_QUEUED = 1;
+
+    /** Wait timeout long enough for any verification in tests. */
+    static final Duration LONG_TIMEOUT = Duration.ofSeconds(10);
+
+    /** Wait timeout shorter than a blocked verification. */
+    static final Duration SHORT_TIMEOUT = Duration.ofMillis(50);
+
+    /** Result returned by the verification. */
+    static final String VERIFICATION_RESULT = "verified";
+}
@@ -0,0 +1,125 @@
+package com.anton.tsarenko.shortener.auth.bulkhead;
+
+import static com.anton.tsarenko.shortener.auth.bulkhead.LoginBulkheadFixture.LONG_TIMEOUT;
+import static com.anton.tsarenko.shortener.auth.bulkhead.LoginBulkheadFixture.SHORT_TIMEOUT;
+import static com.anton.tsarenko.shortener.auth.bulkhead.LoginBulkheadFixture.SINGLE_QUEUED;
+import static com.anton.tsarenko.shortener.auth.bulkhead.LoginBulkheadFixture.SINGLE_THREAD;
+import static com.anton.tsarenko.shortener.auth.bulkhead.LoginBulkheadFixture.VERIFICATION_RESULT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.anton.tsarenko.shortener.exceptions.custom.LoginRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+/**
+ * Unit tests for {@link LoginBulkhead}.
+ */
+class LoginBulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private LoginBulkhead bulkhead;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        bulkhead.shutdown();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN idle bulkhead
+            WHEN execute is called
+            THEN returns the verification result and records verification time
+            """)
+    void executeReturnsResult() {
+        // GIVEN
+        bulkhead = new LoginBulkhead(SINGLE_THREAD, SINGLE_QUEUED, LONG_TIMEOUT, meterRegistry);
+
+        // WHEN
+        String actualResult = bulkhead.execute(() -> VERIFICATION_RESULT);
+
+        // THEN
+        assertThat(actualResult).isEqualTo(VERIFICATION_RESULT);
+        assertThat(meterRegistry.get("shortener.login.verification").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN verification failing with runtime exception
+            WHEN execute is called
+            THEN rethrows the same exception
+            """)
+    void executeRethrowsVerificationFailure() {
+        // GIVEN
+        bulkhead = new LoginBulkhead(SINGLE_THREAD, SINGLE_QUEUED, LONG_TIMEOUT, meterRegistry);
+        BadCredentialsException failure = new BadCredentialsException("Bad credentials");
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> bulkhead.execute(() -> {
+            throw failure;
+        })).isSameAs(failure);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN bulkhead with busy thread and full queue
+            WHEN execute is called
+            THEN rejects the login immediately and counts the rejection
+            """)
+    void executeRejectsWhenSaturated() {
+        // GIVEN
+        bulkhead = new LoginBulkhead(SINGLE_THREAD, SINGLE_QUEUED, LONG_TIMEOUT, meterRegistry);
+        CompletableFuture.runAsync(() -> bulkhead.execute(this::awaitRelease));
+        CompletableFuture.runAsync(() -> bulkhead.execute(this::awaitRelease));
+        waitUntilQueued();
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> bulkhead.execute(() -> VERIFICATION_RESULT))
+                .isInstanceOf(LoginRejectedException.class);
+        assertThat(meterRegistry.get("shortener.login.bulkhead.rejected").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN verification that does not complete in time
+            WHEN execute is called
+            THEN rejects the login after the timeout
+            """)
+    void executeRejectsOnTimeout() {
+        // GIVEN
+        bulkhead = new LoginBulkhead(SINGLE_THREAD, SINGLE_QUEUED, SHORT_TIMEOUT, meterRegistry);
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> bulkhead.execute(this::awaitRelease))
+                .isInstanceOf(LoginRejectedException.class);
+        assertThat(meterRegistry.get("shortener.login.bulkhead.rejected").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private String awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return VERIFICATION_RESULT;
+    }
+
+    private void waitUntilQueued() {
+        while (meterRegistry.get("shortener.login.bulkhead.queued").gauge().value()
+                < SINGLE_QUEUED) {
+            Thread.onSpinWait();
+        }
+    }
+}
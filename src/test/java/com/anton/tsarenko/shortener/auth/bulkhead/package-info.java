@@ -0,0 +1,4 @@
+/**
+ * This package contains unit tests for the login bulkhead.
+ */
+package com.anton.tsarenko.shortener.auth.bulkhead;
@@ -0,0 +1,30 @@
+package com.anton.tsarenko.shortener.auth.cache;
+
+import com.anton.tsarenko.shortener.auth.dto.AuthUserDetails;
+import com.anton.tsarenko.shortener.auth.entity.User;
+import java.time.Duration;
+
+/**
+ * This class is a fixture for testing {@link UserDetailsCache}.
+ */
+class UserDetailsCacheFixture {
+    /** ID of the cached user. */
+    static final Long USER_ID = 1L;
+
+    /** Maximum number of cached users. */
+    static final long MAX_SIZE = 100L;
+
+    /** Time-to-live of cached users. */
+    static final Duration TTL = Duration.ofMinutes(10);
+
+    /** User whose login credentials are cached. */
+    static final User CACHED_USER = User.builder()
+            .id(USER_ID)
+            .username("valid-user")
+            .passwordHash("hash")
+            .build();
+
+    /** Login credentials of the cached user. */
+    static final AuthUserDetails CACHED_USER_DETAILS =
+            new AuthUserDetails(USER_ID, "valid-user", "hash", true);
+}
@@ -0,0 +1,58 @@
+package com.anton.tsarenko.shortener.auth.cache;
+
+import static com.anton.tsarenko.shortener.auth.cache.UserDetailsCacheFixture.CACHED_USER;
+import static com.anton.tsarenko.shortener.auth.cache.UserDetailsCacheFixture.CACHED_USER_DETAILS;
+import static com.anton.tsarenko.shortener.auth.cache.UserDetailsCacheFixture.MAX_SIZE;
+import static com.anton.tsarenko.shortener.auth.cache.UserDetailsCacheFixture.TTL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link UserDetailsCache} and {@link UserCacheEvictionListener}.
+ */
+class UserDetailsCacheTest {
+
+    private final UserDetailsCache userDetailsCache =
+            new UserDetailsCache(true, MAX_SIZE, TTL, new SimpleMeterRegistry());
+
+    private final UserCacheEvictionListener listener =
+            new UserCacheEvictionListener(userDetailsCache);
+
+    @Test
+    @DisplayName("""
+            GIVEN cached login credentials of a user
+            WHEN the user is updated or deleted through JPA
+            THEN evicts the credentials from the cache
+            """)
+    void evictChangedUser() {
+        // GIVEN
+        userDetailsCache.putUserInCache(CACHED_USER_DETAILS);
+
+        // WHEN
+        listener.evict(CACHED_USER);
+
+        // THEN
+        assertThat(userDetailsCache.getUserFromCache(CACHED_USER.getUsername())).isNull();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN disabled user details cache
+            WHEN login credentials are put into it
+            THEN they are not returned
+            """)
+    void userDetailsCacheDisabled() {
+        // GIVEN
+        UserDetailsCache disabledCache =
+                new UserDetailsCache(false, MAX_SIZE, TTL, new SimpleMeterRegistry());
+
+        // WHEN
+        disabledCache.putUserInCache(CACHED_USER_DETAILS);
+
+        // THEN
+        assertThat(disabledCache.getUserFromCache(CACHED_USER_DETAILS.username())).isNull();
+    }
+}
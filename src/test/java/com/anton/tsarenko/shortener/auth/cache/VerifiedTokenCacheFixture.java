@@ -0,0 +1,17 @@
+package com.anton.tsarenko.shortener.auth.cache;
+
+import com.anton.tsarenko.shortener.auth.dto.AuthenticatedUser;
+
+/**
+ * This class is a fixture for testing {@link VerifiedTokenCache}.
+ */
+class VerifiedTokenCacheFixture {
+    /** Verified access token. */
+    static final String TOKEN = "header.payload.signature";
+
+    /** Maximum number of cached tokens. */
+    static final long MAX_SIZE = 100L;
+
+    /** User described by the token. */
+    static final AuthenticatedUser AUTHENTICATED_USER = new AuthenticatedUser(1L, "valid-user");
+}
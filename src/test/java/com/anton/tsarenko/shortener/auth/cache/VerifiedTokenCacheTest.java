@@ -0,0 +1,71 @@
+package com.anton.tsarenko.shortener.auth.cache;
+
+import static com.anton.tsarenko.shortener.auth.cache.VerifiedTokenCacheFixture.AUTHENTICATED_USER;
+import static com.anton.tsarenko.shortener.auth.cache.VerifiedTokenCacheFixture.MAX_SIZE;
+import static com.anton.tsarenko.shortener.auth.cache.VerifiedTokenCacheFixture.TOKEN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link VerifiedTokenCache}.
+ */
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache cache =
+            new VerifiedTokenCache(MAX_SIZE, new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("""
+            GIVEN verified token expiring in the future put into cache
+            WHEN get is called
+            THEN returns the user of the token
+            """)
+    void getVerifiedToken() {
+        // GIVEN
+        cache.put(TOKEN, AUTHENTICATED_USER, Instant.now().plusSeconds(60));
+
+        // WHEN
+        var actualUser = cache.get(TOKEN);
+
+        // THEN
+        assertThat(actualUser).contains(AUTHENTICATED_USER);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN already expired token
+            WHEN put and get are called
+            THEN does not return the user of the token
+            """)
+    void getExpiredToken() {
+        // GIVEN
+        cache.put(TOKEN, AUTHENTICATED_USER, Instant.now().minusSeconds(1));
+
+        // WHEN
+        var actualUser = cache.get(TOKEN);
+
+        // THEN
+        assertThat(actualUser).isEmpty();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN another token put into cache
+            WHEN get is called with a token that was not verified
+            THEN returns empty
+            """)
+    void getUnknownToken() {
+        // GIVEN
+        cache.put(TOKEN, AUTHENTICATED_USER, Instant.now().plusSeconds(60));
+
+        // WHEN
+        var actualUser = cache.get(TOKEN + "x");
+
+        // THEN
+        assertThat(actualUser).isEmpty();
+    }
+}
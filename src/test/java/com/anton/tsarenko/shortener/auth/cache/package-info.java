@@ -0,0 +1,4 @@
+/**
+ * This package contains unit tests for authentication caches.
+ */
+package com.anton.tsarenko.shortener.auth.cache;
@@ -2,6 +2,7 @@ package com.anton.tsarenko.shortener.auth.controller;
 
 import com.anton.tsarenko.shortener.auth.dto.AuthRequest;
 import com.anton.tsarenko.shortener.auth.dto.AuthResponse;
+import com.anton.tsarenko.shortener.auth.dto.RefreshRequest;
 import com.anton.tsarenko.shortener.auth.entity.User;
 
 /**
@@ -71,7 +72,14 @@ class AuthControllerFixture {
      * A valid AuthResponse object that can be used in tests to simulate a successful authentication
      * response.
      */
-    static final AuthResponse VALID_AUTH_RESPONSE = new AuthResponse(VALID_TOKEN);
+    static final AuthResponse VALID_AUTH_RESPONSE = new AuthResponse(VALID_TOKEN, "RefreshToken1");
+    /** A valid RefreshRequest object carrying the refresh token of the login response. */
+    static final RefreshRequest VALID_REFRESH_REQUEST =
+            new RefreshRequest(VALID_AUTH_RESPONSE.refreshToken());
+    /** A RefreshRequest object with a blank refresh token. */
+    static final RefreshRequest BLANK_REFRESH_REQUEST = new RefreshRequest(" ");
+    /** A message returned when a refresh token is unknown, expired or already used. */
+    static final String INVALID_REFRESH_TOKEN_MESSAGE = "Invalid refresh token";
 
     /**
      * The endpoint for user registration, used in tests to verify that the correct endpoint is
@@ -84,4 +92,7 @@ class AuthControllerFixture {
      * being called for login-related operations.
      */
     static final String LOGIN_ENDPOINT = "/api/v1/auth/login";
+
+    /** The endpoint for exchanging a refresh token for new tokens. */
+    static final String REFRESH_ENDPOINT = "/api/v1/auth/refresh";
 }
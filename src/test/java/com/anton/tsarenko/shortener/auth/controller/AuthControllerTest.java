@@ -2,16 +2,19 @@ package com.anton.tsarenko.shortener.auth.controller;
 
 import static com.anton.tsarenko.shortener.auth.controller.AuthControllerFixture.BAD_CREDENTIALS_MESSAGE;
 import static com.anton.tsarenko.shortener.auth.controller.AuthControllerFixture.BAD_REQUEST_MESSAGE;
+import static com.anton.tsarenko.shortener.auth.controller.AuthControllerFixture.BLANK_REFRESH_REQUEST;
 import static com.anton.tsarenko.shortener.auth.controller.AuthControllerFixture.EXISTED_USERNAME;
 import static com.anton.tsarenko.shortener.auth.controller.AuthControllerFixture.EXISTED_USERNAME_AUTH_REQUEST;
 import static com.anton.tsarenko.shortener.auth.controller.AuthControllerFixture.EXISTED_USERNAME_MESSAGE;
 import static com.anton.tsarenko.shortener.auth.controller.AuthControllerFixture.EXISTED_USERNAME_USER;
 import static com.anton.tsarenko.shortener.auth.controller.AuthControllerFixture.INVALID_AUTH_REQUEST;
+import static com.anton.tsarenko.shortener.auth.controller.AuthControllerFixture.INVALID_REFRESH_TOKEN_MESSAGE;
 import static com.anton.tsarenko.shortener.auth.controller.AuthControllerFixture.LOGIN_ENDPOINT;
+import static com.anton.tsarenko.shortener.auth.controller.AuthControllerFixture.REFRESH_ENDPOINT;
 import static com.anton.tsarenko.shortener.auth.controller.AuthControllerFixture.REGISTRATION_ENDPOINT;
 import static com.anton.tsarenko.shortener.auth.controller.AuthControllerFixture.VALID_AUTH_REQUEST;
 import static com.anton.tsarenko.shortener.auth.controller.AuthControllerFixture.VALID_AUTH_RESPONSE;
-import static com.anton.tsarenko.shortener.auth.controller.AuthControllerFixture.VALID_TOKEN;
+import static com.anton.tsarenko.shortener.auth.controller.AuthControllerFixture.VALID_REFRESH_REQUEST;
 import static com.anton.tsarenko.shortener.auth.controller.AuthControllerFixture.VALID_USER;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -28,6 +31,7 @@ import com.anton.tsarenko.shortener.auth.entity.User;
 import com.anton.tsarenko.shortener.auth.mapper.UserMapper;
 import com.anton.tsarenko.shortener.auth.service.AuthService;
 import com.anton.tsarenko.shortener.auth.service.JwtService;
+import com.anton.tsarenko.shortener.exceptions.custom.LoginRejectedException;
 import com.anton.tsarenko.shortener.exceptions.custom.UserAlreadyExistsException;
 import com.anton.tsarenko.shortener.exceptions.dto.ExceptionResponse;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -185,7 +189,7 @@ class AuthControllerTest {
     void loginValid() throws Exception {
         // GIVEN
         given(userMapper.toUserForLogin(VALID_AUTH_REQUEST)).willReturn(VALID_USER);
-        given(authService.login(VALID_USER)).willReturn(VALID_TOKEN);
+        given(authService.login(VALID_USER)).willReturn(VALID_AUTH_RESPONSE);
 
         // WHEN
         AuthResponse actualResponse = fromJson(
@@ -227,6 +231,32 @@ class AuthControllerTest {
         assertThat(actualResponse.message()).isEqualTo(BAD_CREDENTIALS_MESSAGE);
     }
 
+    @Test
+    @DisplayName("""
+            GIVEN valid AuthRequest object while login verification is saturated
+            WHEN performing POST /login
+            THEN returns 429
+            """)
+    void loginRejected() throws Exception {
+        // GIVEN
+        given(userMapper.toUserForLogin(VALID_AUTH_REQUEST)).willReturn(VALID_USER);
+        doThrow(new LoginRejectedException()).when(authService).login(VALID_USER);
+
+        // WHEN
+        ExceptionResponse actualResponse = fromJson(mockMvc.perform(post(LOGIN_ENDPOINT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(VALID_AUTH_REQUEST)))
+                .andExpect(status().isTooManyRequests())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+                ExceptionResponse.class);
+
+        // THEN
+        assertThat(actualResponse.message())
+                .isEqualTo(new LoginRejectedException().getMessage());
+    }
+
     @Test
     @DisplayName("""
             GIVEN invalid AuthRequest object
@@ -252,6 +282,70 @@ class AuthControllerTest {
         assertThat(actualResponse.message()).isEqualTo(BAD_REQUEST_MESSAGE);
     }
 
+    @Test
+    @DisplayName("""
+            GIVEN valid RefreshRequest object
+            WHEN performing POST /refresh
+            THEN returns 200 and new tokens
+            """)
+    void refreshValid() throws Exception {
+        // GIVEN
+        given(authService.refresh(VALID_REFRESH_REQUEST.refreshToken()))
+                .willReturn(VALID_AUTH_RESPONSE);
+
+        // WHEN
+        AuthResponse actualResponse = fromJson(mockMvc.perform(post(REFRESH_ENDPOINT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(VALID_REFRESH_REQUEST)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+                AuthResponse.class);
+
+        // THEN
+        assertThat(actualResponse).isEqualTo(VALID_AUTH_RESPONSE);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN RefreshRequest object with unknown, expired or used refresh token
+            WHEN performing POST /refresh
+            THEN returns 401
+            """)
+    void refreshInvalidToken() throws Exception {
+        // GIVEN
+        given(authService.refresh(VALID_REFRESH_REQUEST.refreshToken()))
+                .willThrow(new BadCredentialsException(INVALID_REFRESH_TOKEN_MESSAGE));
+
+        // WHEN
+        ExceptionResponse actualResponse = fromJson(mockMvc.perform(post(REFRESH_ENDPOINT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(VALID_REFRESH_REQUEST)))
+                .andExpect(status().isUnauthorized())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+                ExceptionResponse.class);
+
+        // THEN
+        assertThat(actualResponse.message()).isEqualTo(INVALID_REFRESH_TOKEN_MESSAGE);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN RefreshRequest object with blank refresh token
+            WHEN performing POST /refresh
+            THEN returns 400
+            """)
+    void refreshBlankToken() throws Exception {
+        // WHEN / THEN
+        mockMvc.perform(post(REFRESH_ENDPOINT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(BLANK_REFRESH_REQUEST)))
+                .andExpect(status().isBadRequest());
+    }
+
     @SneakyThrows(JsonProcessingException.class)
     private String toJson(Object object) {
         return objectMapper.writeValueAsString(object);
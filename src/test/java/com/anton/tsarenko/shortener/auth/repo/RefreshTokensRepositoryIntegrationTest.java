@@ -0,0 +1,129 @@
+package com.anton.tsarenko.shortener.auth.repo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.anton.tsarenko.shortener.AppLauncher;
+import com.anton.tsarenko.shortener.PostgresTestContainer;
+import com.anton.tsarenko.shortener.auth.dto.AuthenticatedUser;
+import com.anton.tsarenko.shortener.auth.entity.RefreshToken;
+import com.anton.tsarenko.shortener.auth.entity.User;
+import com.anton.tsarenko.shortener.auth.util.TokenDigest;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Integration tests for RefreshTokensRepository with real PostgreSQL via Testcontainers.
+ */
+@SpringBootTest(classes = AppLauncher.class)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.flyway.enabled=true")
+class RefreshTokensRepositoryIntegrationTest extends PostgresTestContainer {
+
+    @Autowired
+    private RefreshTokensRepository refreshTokensRepository;
+
+    @Autowired
+    private UsersRepository usersRepository;
+
+    @Test
+    @DisplayName("""
+            GIVEN not expired refresh token of enabled user in Postgres container
+            WHEN consuming the token by its digest
+            THEN repository returns id and username of the user and deletes the token
+            """)
+    void consumeByTokenHashReturnsUserOfValidToken() {
+        // GIVEN
+        User user = saveUser(true);
+        RefreshToken token = saveToken(user, Instant.now().plus(1, ChronoUnit.DAYS));
+
+        // WHEN
+        Optional<AuthenticatedUser> consumed =
+                refreshTokensRepository.consumeByTokenHash(token.getTokenHash());
+
+        // THEN
+        assertThat(consumed).contains(new AuthenticatedUser(user.getId(), user.getUsername()));
+        assertThat(refreshTokensRepository.existsById(token.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN refresh token already consumed in Postgres container
+            WHEN consuming the token again
+            THEN repository returns empty
+            """)
+    void consumeByTokenHashConsumesTokenOnlyOnce() {
+        // GIVEN
+        User user = saveUser(true);
+        RefreshToken token = saveToken(user, Instant.now().plus(1, ChronoUnit.DAYS));
+        refreshTokensRepository.consumeByTokenHash(token.getTokenHash());
+
+        // WHEN
+        Optional<AuthenticatedUser> consumedAgain =
+                refreshTokensRepository.consumeByTokenHash(token.getTokenHash());
+
+        // THEN
+        assertThat(consumedAgain).isEmpty();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN expired refresh token of enabled user in Postgres container
+            WHEN consuming the token by its digest
+            THEN repository returns empty
+            """)
+    void consumeByTokenHashSkipsExpiredToken() {
+        // GIVEN
+        User user = saveUser(true);
+        RefreshToken token = saveToken(user, Instant.now().minus(1, ChronoUnit.MINUTES));
+
+        // WHEN
+        Optional<AuthenticatedUser> consumed =
+                refreshTokensRepository.consumeByTokenHash(token.getTokenHash());
+
+        // THEN
+        assertThat(consumed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN not expired refresh token of disabled user in Postgres container
+            WHEN consuming the token by its digest
+            THEN repository returns empty
+            """)
+    void consumeByTokenHashSkipsDisabledUser() {
+        // GIVEN
+        User user = saveUser(false);
+        RefreshToken token = saveToken(user, Instant.now().plus(1, ChronoUnit.DAYS));
+
+        // WHEN
+        Optional<AuthenticatedUser> consumed =
+                refreshTokensRepository.consumeByTokenHash(token.getTokenHash());
+
+        // THEN
+        assertThat(consumed).isEmpty();
+    }
+
+    private User saveUser(boolean enabled) {
+        return usersRepository.save(User.builder()
+                .username("it_" + UUID.randomUUID().toString().substring(0, 8))
+                .passwordHash("hash")
+                .enabled(enabled)
+                .build());
+    }
+
+    private RefreshToken saveToken(User user, Instant expiresAt) {
+        return refreshTokensRepository.save(RefreshToken.builder()
+                .userId(user.getId())
+                .tokenHash(TokenDigest.sha256(UUID.randomUUID().toString()))
+                .expiresAt(expiresAt)
+                .build());
+    }
+}
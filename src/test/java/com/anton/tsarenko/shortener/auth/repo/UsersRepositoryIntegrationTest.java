@@ -45,4 +45,27 @@ class UsersRepositoryIntegrationTest extends PostgresTestContainer {
         // THEN
         assertThat(exists).isTrue();
     }
+
+    @Test
+    @DisplayName("""
+            GIVEN username not yet registered in Postgres container
+            WHEN inserting the user twice with conflict-aware insert
+            THEN first insert stores the user and second insert stores nothing
+            """)
+    void insertIfAbsentSkipsExistingUsername() {
+        // GIVEN
+        String username = "it_" + UUID.randomUUID().toString().substring(0, 8);
+
+        // WHEN
+        int firstInserted = usersRepository.insertIfAbsent(username, "hash", true);
+        int secondInserted = usersRepository.insertIfAbsent(username, "other-hash", true);
+
+        // THEN
+        assertThat(firstInserted).isEqualTo(1);
+        assertThat(secondInserted).isZero();
+        assertThat(usersRepository.findByUsername(username))
+                .get()
+                .extracting(User::getPasswordHash)
+                .isEqualTo("hash");
+    }
 }
@@ -1,5 +1,8 @@
 package com.anton.tsarenko.shortener.auth.service;
 
+import com.anton.tsarenko.shortener.auth.dto.AuthResponse;
+import com.anton.tsarenko.shortener.auth.dto.AuthUserDetails;
+import com.anton.tsarenko.shortener.auth.dto.AuthenticatedUser;
 import com.anton.tsarenko.shortener.auth.entity.User;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -13,15 +16,32 @@ public class AuthServiceFixture {
     static final String VALID_USERNAME = "TestUser12";
     /** A valid password. */
     static final String VALID_PASSWORD_HASH = "password_hash";
+    /** A valid user id. */
+    static final Long USER_ID = 1L;
     /** A valid User object that can be used in tests to simulate a successful authentication. */
     static final User VALID_USER = User.builder()
-            .id(1L)
+            .id(USER_ID)
             .username(VALID_USERNAME)
             .passwordHash(VALID_PASSWORD_HASH)
             .build();
     /** An invalid username that is too short. */
     static final String ACCESS_TOKEN_VALID = "access-token";
+    /** A valid refresh token. */
+    static final String REFRESH_TOKEN_VALID = "refresh-token";
+    /** A refresh token issued in exchange for the valid one. */
+    static final String REFRESH_TOKEN_ROTATED = "rotated-refresh-token";
+    /** The user the valid refresh token was issued to. */
+    static final AuthenticatedUser REFRESH_TOKEN_USER =
+            new AuthenticatedUser(USER_ID, VALID_USERNAME);
+    /** Expected response of a successful login. */
+    static final AuthResponse LOGIN_RESPONSE_VALID =
+            new AuthResponse(ACCESS_TOKEN_VALID, REFRESH_TOKEN_VALID);
+    /** Expected response of a successful refresh. */
+    static final AuthResponse REFRESH_RESPONSE_VALID =
+            new AuthResponse(ACCESS_TOKEN_VALID, REFRESH_TOKEN_ROTATED);
     /** A valid Authentication object. */
     static final Authentication AUTHENTICATION_VALID =
-            new UsernamePasswordAuthenticationToken(VALID_USER, VALID_PASSWORD_HASH);
+            new UsernamePasswordAuthenticationToken(
+                    new AuthUserDetails(USER_ID, VALID_USERNAME, VALID_PASSWORD_HASH, true),
+                    VALID_PASSWORD_HASH);
 }
@@ -2,21 +2,32 @@ package com.anton.tsarenko.shortener.auth.service;
 
 import static com.anton.tsarenko.shortener.auth.service.AuthServiceFixture.ACCESS_TOKEN_VALID;
 import static com.anton.tsarenko.shortener.auth.service.AuthServiceFixture.AUTHENTICATION_VALID;
+import static com.anton.tsarenko.shortener.auth.service.AuthServiceFixture.LOGIN_RESPONSE_VALID;
+import static com.anton.tsarenko.shortener.auth.service.AuthServiceFixture.REFRESH_RESPONSE_VALID;
+import static com.anton.tsarenko.shortener.auth.service.AuthServiceFixture.REFRESH_TOKEN_ROTATED;
+import static com.anton.tsarenko.shortener.auth.service.AuthServiceFixture.REFRESH_TOKEN_USER;
+import static com.anton.tsarenko.shortener.auth.service.AuthServiceFixture.REFRESH_TOKEN_VALID;
+import static com.anton.tsarenko.shortener.auth.service.AuthServiceFixture.USER_ID;
+import static com.anton.tsarenko.shortener.auth.service.AuthServiceFixture.VALID_PASSWORD_HASH;
 import static com.anton.tsarenko.shortener.auth.service.AuthServiceFixture.VALID_USER;
 import static com.anton.tsarenko.shortener.auth.service.AuthServiceFixture.VALID_USERNAME;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.anton.tsarenko.shortener.auth.bulkhead.LoginBulkhead;
+import com.anton.tsarenko.shortener.auth.dto.AuthResponse;
 import com.anton.tsarenko.shortener.auth.entity.User;
 import com.anton.tsarenko.shortener.auth.repo.UsersRepository;
 import com.anton.tsarenko.shortener.auth.service.impl.AuthServiceImpl;
+import com.anton.tsarenko.shortener.exceptions.custom.LoginRejectedException;
 import com.anton.tsarenko.shortener.exceptions.custom.UserAlreadyExistsException;
+import java.util.Optional;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,6 +54,12 @@ class AuthServiceTest {
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private LoginBulkhead loginBulkhead;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -54,8 +71,8 @@ class AuthServiceTest {
             """)
     void registrationValid() {
         // GIVEN
-        given(usersRepository.existsByUsername(VALID_USERNAME)).willReturn(false);
-        given(usersRepository.save(VALID_USER)).willReturn(VALID_USER);
+        given(usersRepository.insertIfAbsent(VALID_USERNAME, VALID_PASSWORD_HASH, true))
+                .willReturn(1);
 
         // WHEN / THEN
         assertThatCode(() -> authService.register(VALID_USER)).doesNotThrowAnyException();
@@ -69,7 +86,8 @@ class AuthServiceTest {
             """)
     void registrationExistingUsername() {
         // GIVEN
-        given(usersRepository.existsByUsername(VALID_USERNAME)).willReturn(true);
+        given(usersRepository.insertIfAbsent(VALID_USERNAME, VALID_PASSWORD_HASH, true))
+                .willReturn(0);
 
         // WHEN AND THEN
         assertThatThrownBy(() -> authService.register(VALID_USER))
@@ -83,19 +101,23 @@ class AuthServiceTest {
     @DisplayName("""
             GIVEN valid User object
             WHEN login is called
-            THEN returns auth response with access token
+            THEN returns auth response with access token and refresh token
             """)
     void loginValid() {
         // GIVEN
+        given(loginBulkhead.execute(any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
         given(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .willReturn(AUTHENTICATION_VALID);
-        given(jwtService.generateAccessToken(anyString())).willReturn(ACCESS_TOKEN_VALID);
+        given(jwtService.generateAccessToken(USER_ID, VALID_USERNAME))
+                .willReturn(ACCESS_TOKEN_VALID);
+        given(refreshTokenService.issue(USER_ID)).willReturn(REFRESH_TOKEN_VALID);
 
         // WHEN
-        String actualResponse = authService.login(VALID_USER);
+        AuthResponse actualResponse = authService.login(VALID_USER);
 
         // THEN
-        assertThat(actualResponse).isEqualTo(ACCESS_TOKEN_VALID);
+        assertThat(actualResponse).isEqualTo(LOGIN_RESPONSE_VALID);
     }
 
     @Test
@@ -106,6 +128,8 @@ class AuthServiceTest {
             """)
     void loginAuthenticationException() {
         // GIVEN
+        given(loginBulkhead.execute(any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
         given(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .willThrow(new AuthenticationException("Auth failed") {
                 });
@@ -115,4 +139,59 @@ class AuthServiceTest {
                 .isInstanceOf(BadCredentialsException.class)
                 .hasMessage("Invalid username or password");
     }
+
+    @Test
+    @DisplayName("""
+            GIVEN saturated login bulkhead
+            WHEN login is called
+            THEN propagates LoginRejectedException without issuing a token
+            """)
+    void loginRejectedByBulkhead() {
+        // GIVEN
+        given(loginBulkhead.execute(any())).willThrow(new LoginRejectedException());
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> authService.login(VALID_USER))
+                .isInstanceOf(LoginRejectedException.class);
+        verify(authenticationManager, never()).authenticate(any());
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN valid refresh token
+            WHEN refresh is called
+            THEN returns new access token and rotated refresh token without password verification
+            """)
+    void refreshValid() {
+        // GIVEN
+        given(refreshTokenService.consume(REFRESH_TOKEN_VALID))
+                .willReturn(Optional.of(REFRESH_TOKEN_USER));
+        given(jwtService.generateAccessToken(USER_ID, VALID_USERNAME))
+                .willReturn(ACCESS_TOKEN_VALID);
+        given(refreshTokenService.issue(USER_ID)).willReturn(REFRESH_TOKEN_ROTATED);
+
+        // WHEN
+        AuthResponse actualResponse = authService.refresh(REFRESH_TOKEN_VALID);
+
+        // THEN
+        assertThat(actualResponse).isEqualTo(REFRESH_RESPONSE_VALID);
+        verify(authenticationManager, never()).authenticate(any());
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN unknown, expired or already used refresh token
+            WHEN refresh is called
+            THEN throws BadCredentialsException and issues no tokens
+            """)
+    void refreshInvalid() {
+        // GIVEN
+        given(refreshTokenService.consume(REFRESH_TOKEN_VALID)).willReturn(Optional.empty());
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> authService.refresh(REFRESH_TOKEN_VALID))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessage("Invalid refresh token");
+        verify(refreshTokenService, never()).issue(any());
+    }
 }
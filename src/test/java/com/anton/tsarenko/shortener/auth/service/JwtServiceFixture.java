@@ -9,6 +9,10 @@ public class JwtServiceFixture {
     static final String SECRET_KEY = "test-test-test-test-test-test-test-test";
     /** A sample expiration time for JWTs in minutes. */
     static final long EXPIRATION_IN_MINUTES = 30L;
+    /** A sample maximum number of cached verified tokens. */
+    static final long CACHE_MAX_SIZE = 100L;
     /** A sample username to be used in JWT claims. */
     static final String USERNAME = "TestUser12";
+    /** A sample user id to be used in JWT claims. */
+    static final Long USER_ID = 12L;
 }
@@ -1,15 +1,21 @@
 package com.anton.tsarenko.shortener.auth.service;
 
+import static com.anton.tsarenko.shortener.auth.service.JwtServiceFixture.CACHE_MAX_SIZE;
 import static com.anton.tsarenko.shortener.auth.service.JwtServiceFixture.EXPIRATION_IN_MINUTES;
 import static com.anton.tsarenko.shortener.auth.service.JwtServiceFixture.SECRET_KEY;
 import static com.anton.tsarenko.shortener.auth.service.JwtServiceFixture.USERNAME;
+import static com.anton.tsarenko.shortener.auth.service.JwtServiceFixture.USER_ID;
 import static io.jsonwebtoken.security.Keys.hmacShaKeyFor;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.anton.tsarenko.shortener.auth.cache.VerifiedTokenCache;
+import com.anton.tsarenko.shortener.auth.dto.AuthenticatedUser;
 import com.anton.tsarenko.shortener.auth.service.impl.JwtServiceImpl;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 import javax.crypto.SecretKey;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,20 +25,24 @@ import org.junit.jupiter.api.Test;
  */
 class JwtServiceTest {
 
-    private final JwtService jwtService = new JwtServiceImpl(SECRET_KEY, EXPIRATION_IN_MINUTES);
+    private final VerifiedTokenCache verifiedTokenCache =
+            new VerifiedTokenCache(CACHE_MAX_SIZE, new SimpleMeterRegistry());
+
+    private final JwtService jwtService =
+            new JwtServiceImpl(SECRET_KEY, EXPIRATION_IN_MINUTES, verifiedTokenCache);
 
     @Test
     @DisplayName("""
-            GIVEN valid username
+            GIVEN valid user id and username
             WHEN generateAccessToken is called
-            THEN returns signed token with username and USER role claim
+            THEN returns signed token with username, user id and USER role claim
             """)
     void generateAccessTokenValid() {
         // GIVEN
         SecretKey key = hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
 
         // WHEN
-        String token = jwtService.generateAccessToken(USERNAME);
+        String token = jwtService.generateAccessToken(USER_ID, USERNAME);
         Claims claims = Jwts.parser()
                 .verifyWith(key)
                 .build()
@@ -42,6 +52,7 @@ class JwtServiceTest {
         // THEN
         assertThat(token).isNotBlank();
         assertThat(claims.getSubject()).isEqualTo(USERNAME);
+        assertThat(claims.get("uid", Long.class)).isEqualTo(USER_ID);
         assertThat(claims.get("roles")).isEqualTo(java.util.List.of("USER"));
         assertThat(claims.getExpiration()).isAfter(claims.getIssuedAt());
     }
@@ -49,89 +60,96 @@ class JwtServiceTest {
     @Test
     @DisplayName("""
             GIVEN valid generated token
-            WHEN extractUsername is called
-            THEN returns username from token
+            WHEN authenticate is called
+            THEN returns user id and username from token and caches the verified token
             """)
-    void extractUsernameValid() {
+    void authenticateValid() {
         // GIVEN
-        String token = jwtService.generateAccessToken(USERNAME);
+        String token = jwtService.generateAccessToken(USER_ID, USERNAME);
 
         // WHEN
-        String extractedUsername = jwtService.extractUsername(token);
+        Optional<AuthenticatedUser> actualUser = jwtService.authenticate(token);
 
         // THEN
-        assertThat(extractedUsername).isEqualTo(USERNAME);
+        assertThat(actualUser).contains(new AuthenticatedUser(USER_ID, USERNAME));
+        assertThat(verifiedTokenCache.get(token)).isEqualTo(actualUser);
     }
 
     @Test
     @DisplayName("""
-            GIVEN valid token
-            WHEN isTokenValid is called
-            THEN returns true
+            GIVEN signed token without user id claim
+            WHEN authenticate is called
+            THEN returns empty
             """)
-    void isTokenValid_Valid() {
+    void authenticate_WithoutUserId() {
         // GIVEN
-        String token = jwtService.generateAccessToken(USERNAME);
+        String token = Jwts.builder()
+                .subject(USERNAME)
+                .signWith(hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8)))
+                .compact();
 
         // WHEN
-        boolean actualResult = jwtService.isTokenValid(token);
+        Optional<AuthenticatedUser> actualUser = jwtService.authenticate(token);
 
         // THEN
-        assertThat(actualResult).isTrue();
+        assertThat(actualUser).isEmpty();
     }
 
     @Test
     @DisplayName("""
             GIVEN malformed token
-            WHEN isTokenValid is called
-            THEN returns false
+            WHEN authenticate is called
+            THEN returns empty
             """)
-    void isTokenValid_Malformed() {
+    void authenticate_Malformed() {
         // GIVEN
         String malformedToken = "not-a-jwt-token";
 
         // WHEN
-        boolean actualResult = jwtService.isTokenValid(malformedToken);
+        Optional<AuthenticatedUser> actualUser = jwtService.authenticate(malformedToken);
 
         // THEN
-        assertThat(actualResult).isFalse();
+        assertThat(actualUser).isEmpty();
     }
 
     @Test
     @DisplayName("""
             GIVEN token signed with another secret
-            WHEN isTokenValid is called
-            THEN returns false
+            WHEN authenticate is called
+            THEN returns empty
             """)
-    void isTokenValid_TokenWithAnotherSecret() {
+    void authenticate_TokenWithAnotherSecret() {
         // GIVEN
         JwtService anotherJwtService = new JwtServiceImpl(
                 "another-another-another-another-another12",
-                EXPIRATION_IN_MINUTES);
-        String tokenSignedByAnotherSecret = anotherJwtService.generateAccessToken(USERNAME);
+                EXPIRATION_IN_MINUTES,
+                verifiedTokenCache);
+        String tokenSignedByAnotherSecret =
+                anotherJwtService.generateAccessToken(USER_ID, USERNAME);
 
         // WHEN
-        boolean actualResult = jwtService.isTokenValid(tokenSignedByAnotherSecret);
+        Optional<AuthenticatedUser> actualUser =
+                jwtService.authenticate(tokenSignedByAnotherSecret);
 
         // THEN
-        assertThat(actualResult).isFalse();
+        assertThat(actualUser).isEmpty();
     }
 
     @Test
     @DisplayName("""
             GIVEN expired token
-            WHEN isTokenValid is called
-            THEN returns false
+            WHEN authenticate is called
+            THEN returns empty
             """)
-    void isTokenValid_ExpiredToken() {
+    void authenticate_ExpiredToken() {
         // GIVEN
-        JwtService expiredJwtService = new JwtServiceImpl(SECRET_KEY, -1L);
-        String expiredToken = expiredJwtService.generateAccessToken(USERNAME);
+        JwtService expiredJwtService = new JwtServiceImpl(SECRET_KEY, -1L, verifiedTokenCache);
+        String expiredToken = expiredJwtService.generateAccessToken(USER_ID, USERNAME);
 
         // WHEN
-        boolean actualResult = jwtService.isTokenValid(expiredToken);
+        Optional<AuthenticatedUser> actualUser = jwtService.authenticate(expiredToken);
 
         // THEN
-        assertThat(actualResult).isFalse();
+        assertThat(actualUser).isEmpty();
     }
 }
@@ -0,0 +1,27 @@
+package com.anton.tsarenko.shortener.auth.service.impl;
+
+import com.anton.tsarenko.shortener.auth.dto.AuthenticatedUser;
+import java.time.Duration;
+
+/**
+ * Fixture for {@link RefreshTokenServiceImpl} tests.
+ */
+class RefreshTokenServiceImplFixture {
+    /** Id of the user refresh tokens are issued to. */
+    static final Long USER_ID = 1L;
+
+    /** Time-to-live of issued refresh tokens. */
+    static final Duration TTL = Duration.ofDays(30);
+
+    /** Refresh token presented by the client. */
+    static final String REFRESH_TOKEN = "fsUmGrqRJ3zbyJSeyfn7Zjd_EEQjiku9vnzusfEL4GM";
+
+    /** SHA-256 digest of the refresh token as stored in the database. */
+    static final String REFRESH_TOKEN_HASH = "10S3i8b-TOAAy6DecbBzHyJxc7MbXTHIEnTnOKPSM6c";
+
+    /** User the refresh token was issued to. */
+    static final AuthenticatedUser TOKEN_USER = new AuthenticatedUser(USER_ID, "valid-user");
+
+    /** Length of an unpadded base64url encoded 32 byte token. */
+    static final int ENCODED_TOKEN_LENGTH = 43;
+}
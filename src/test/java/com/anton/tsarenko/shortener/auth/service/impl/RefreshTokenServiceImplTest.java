@@ -0,0 +1,86 @@
+package com.anton.tsarenko.shortener.auth.service.impl;
+
+import static com.anton.tsarenko.shortener.auth.service.impl.RefreshTokenServiceImplFixture.ENCODED_TOKEN_LENGTH;
+import static com.anton.tsarenko.shortener.auth.service.impl.RefreshTokenServiceImplFixture.REFRESH_TOKEN;
+import static com.anton.tsarenko.shortener.auth.service.impl.RefreshTokenServiceImplFixture.REFRESH_TOKEN_HASH;
+import static com.anton.tsarenko.shortener.auth.service.impl.RefreshTokenServiceImplFixture.TOKEN_USER;
+import static com.anton.tsarenko.shortener.auth.service.impl.RefreshTokenServiceImplFixture.TTL;
+import static com.anton.tsarenko.shortener.auth.service.impl.RefreshTokenServiceImplFixture.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.anton.tsarenko.shortener.auth.dto.AuthenticatedUser;
+import com.anton.tsarenko.shortener.auth.entity.RefreshToken;
+import com.anton.tsarenko.shortener.auth.repo.RefreshTokensRepository;
+import com.anton.tsarenko.shortener.auth.util.TokenDigest;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link RefreshTokenServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceImplTest {
+
+    @Mock
+    private RefreshTokensRepository refreshTokensRepository;
+
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenServiceImpl(refreshTokensRepository, TTL);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN user id
+            WHEN issue is called
+            THEN returns random token and stores only its digest with the configured expiry
+            """)
+    void issueStoresDigest() {
+        // GIVEN
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        Instant before = Instant.now();
+
+        // WHEN
+        String actualToken = refreshTokenService.issue(USER_ID);
+
+        // THEN
+        verify(refreshTokensRepository).save(captor.capture());
+        RefreshToken stored = captor.getValue();
+        assertThat(actualToken).hasSize(ENCODED_TOKEN_LENGTH);
+        assertThat(refreshTokenService.issue(USER_ID)).isNotEqualTo(actualToken);
+        assertThat(stored.getUserId()).isEqualTo(USER_ID);
+        assertThat(stored.getTokenHash())
+                .isEqualTo(TokenDigest.sha256(actualToken))
+                .isNotEqualTo(actualToken);
+        assertThat(stored.getExpiresAt()).isBetween(before.plus(TTL), Instant.now().plus(TTL));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN refresh token stored by its digest
+            WHEN consume is called
+            THEN looks the token up by its digest and returns its user
+            """)
+    void consumeByDigest() {
+        // GIVEN
+        given(refreshTokensRepository.consumeByTokenHash(REFRESH_TOKEN_HASH))
+                .willReturn(Optional.of(TOKEN_USER));
+
+        // WHEN
+        Optional<AuthenticatedUser> actualUser = refreshTokenService.consume(REFRESH_TOKEN);
+
+        // THEN
+        assertThat(actualUser).contains(TOKEN_USER);
+    }
+}
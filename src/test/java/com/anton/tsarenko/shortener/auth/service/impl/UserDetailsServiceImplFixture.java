@@ -0,0 +1,23 @@
+package com.anton.tsarenko.shortener.auth.service.impl;
+
+import com.anton.tsarenko.shortener.auth.dto.AuthUserDetails;
+import com.anton.tsarenko.shortener.auth.entity.User;
+
+/**
+ * Fixture for {@link UserDetailsServiceImpl} tests.
+ */
+class UserDetailsServiceImplFixture {
+    /** Username of the existing user. */
+    static final String USERNAME = "valid-user";
+
+    /** Existing user entity. */
+    static final User EXISTING_USER = User.builder()
+            .id(1L)
+            .username(USERNAME)
+            .passwordHash("{bcrypt}hash")
+            .build();
+
+    /** Expected login credentials of the existing user. */
+    static final AuthUserDetails EXPECTED_USER_DETAILS =
+            new AuthUserDetails(1L, USERNAME, "{bcrypt}hash", true);
+}
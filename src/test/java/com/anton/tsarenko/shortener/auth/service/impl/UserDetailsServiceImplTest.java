@@ -0,0 +1,68 @@
+package com.anton.tsarenko.shortener.auth.service.impl;
+
+import static com.anton.tsarenko.shortener.auth.service.impl.UserDetailsServiceImplFixture.EXISTING_USER;
+import static com.anton.tsarenko.shortener.auth.service.impl.UserDetailsServiceImplFixture.EXPECTED_USER_DETAILS;
+import static com.anton.tsarenko.shortener.auth.service.impl.UserDetailsServiceImplFixture.USERNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.anton.tsarenko.shortener.auth.repo.UsersRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+/**
+ * Unit tests for {@link UserDetailsServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserDetailsServiceImplTest {
+
+    @Mock
+    private UsersRepository usersRepository;
+
+    @InjectMocks
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Test
+    @DisplayName("""
+            GIVEN existing username
+            WHEN loadUserByUsername is called
+            THEN returns credentials with user id and ROLE_USER from one query
+            """)
+    void loadUserByUsernameWhenUserExists() {
+        // GIVEN
+        given(usersRepository.findByUsername(USERNAME)).willReturn(Optional.of(EXISTING_USER));
+
+        // WHEN
+        UserDetails actualUserDetails = userDetailsService.loadUserByUsername(USERNAME);
+
+        // THEN
+        assertThat(actualUserDetails).isEqualTo(EXPECTED_USER_DETAILS);
+        assertThat(actualUserDetails.getAuthorities())
+                .extracting("authority")
+                .containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN unknown username
+            WHEN loadUserByUsername is called
+            THEN throws UsernameNotFoundException
+            """)
+    void loadUserByUsernameWhenUserNotFound() {
+        // GIVEN
+        given(usersRepository.findByUsername(USERNAME)).willReturn(Optional.empty());
+
+        // WHEN
+        // THEN
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername(USERNAME))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+}
@@ -7,7 +7,6 @@ import static org.mockito.BDDMockito.given;
 
 import com.anton.tsarenko.shortener.auth.entity.User;
 import com.anton.tsarenko.shortener.auth.repo.UsersRepository;
-import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,35 +28,18 @@ class UserServiceImplTest {
 
     @Test
     @DisplayName("""
-            GIVEN existing user id
-            WHEN getUserById is called
-            THEN returns found user
+            GIVEN user id
+            WHEN getUserReference is called
+            THEN returns lazy reference from repository
             """)
-    void getUserByIdWhenUserExists() {
+    void getUserReferenceValid() {
         // GIVEN
-        given(usersRepository.findById(USER_ID)).willReturn(Optional.of(EXISTING_USER));
+        given(usersRepository.getReferenceById(USER_ID)).willReturn(EXISTING_USER);
 
         // WHEN
-        User actualUser = userService.getUserById(USER_ID);
+        User actualUser = userService.getUserReference(USER_ID);
 
         // THEN
         assertThat(actualUser).isEqualTo(EXISTING_USER);
     }
-
-    @Test
-    @DisplayName("""
-            GIVEN unknown user id
-            WHEN getUserById is called
-            THEN returns null
-            """)
-    void getUserByIdWhenUserNotFound() {
-        // GIVEN
-        given(usersRepository.findById(USER_ID)).willReturn(Optional.empty());
-
-        // WHEN
-        User actualUser = userService.getUserById(USER_ID);
-
-        // THEN
-        assertThat(actualUser).isNull();
-    }
 }
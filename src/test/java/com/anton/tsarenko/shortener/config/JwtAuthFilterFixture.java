@@ -1,5 +1,7 @@
 package com.anton.tsarenko.shortener.config;
 
+import com.anton.tsarenko.shortener.auth.dto.AuthenticatedUser;
+
 /**
  * This class serves as a fixture for testing the JwtAuthFilter class.
  * It provides sample data to facilitate testing of the JwtAuthFilter.
@@ -9,4 +11,6 @@ public class JwtAuthFilterFixture {
     static final String TOKEN = "test-token";
     /** A sample username to be used in JWT claims. */
     static final String USERNAME = "TestUser12";
+    /** A sample authenticated user described by the token. */
+    static final AuthenticatedUser AUTHENTICATED_USER = new AuthenticatedUser(12L, USERNAME);
 }
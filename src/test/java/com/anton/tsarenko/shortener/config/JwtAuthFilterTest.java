@@ -1,5 +1,6 @@
 package com.anton.tsarenko.shortener.config;
 
+import static com.anton.tsarenko.shortener.config.JwtAuthFilterFixture.AUTHENTICATED_USER;
 import static com.anton.tsarenko.shortener.config.JwtAuthFilterFixture.TOKEN;
 import static com.anton.tsarenko.shortener.config.JwtAuthFilterFixture.USERNAME;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -10,6 +11,7 @@ import static org.mockito.Mockito.verify;
 import com.anton.tsarenko.shortener.auth.service.JwtService;
 import jakarta.servlet.FilterChain;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -63,8 +65,7 @@ class JwtAuthFilterTest {
 
         // THEN
         verify(filterChain).doFilter(request, response);
-        verify(jwtService, never()).isTokenValid(TOKEN);
-        verify(jwtService, never()).extractUsername(TOKEN);
+        verify(jwtService, never()).authenticate(TOKEN);
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
 
@@ -83,8 +84,7 @@ class JwtAuthFilterTest {
 
         // THEN
         verify(filterChain).doFilter(request, response);
-        verify(jwtService, never()).isTokenValid(TOKEN);
-        verify(jwtService, never()).extractUsername(TOKEN);
+        verify(jwtService, never()).authenticate(TOKEN);
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
 
@@ -97,14 +97,13 @@ class JwtAuthFilterTest {
     void filterInvalidToken() throws Exception {
         // GIVEN
         request.addHeader("Authorization", "Bearer " + TOKEN);
-        given(jwtService.isTokenValid(TOKEN)).willReturn(false);
+        given(jwtService.authenticate(TOKEN)).willReturn(Optional.empty());
 
         // WHEN
         filter.doFilterInternal(request, response, filterChain);
 
         // THEN
-        verify(jwtService).isTokenValid(TOKEN);
-        verify(jwtService, never()).extractUsername(TOKEN);
+        verify(jwtService).authenticate(TOKEN);
         verify(filterChain).doFilter(request, response);
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
@@ -119,21 +118,20 @@ class JwtAuthFilterTest {
         // GIVEN
         request.addHeader("Authorization", "Bearer " + TOKEN);
 
-        given(jwtService.isTokenValid(TOKEN)).willReturn(true);
-        given(jwtService.extractUsername(TOKEN)).willReturn(USERNAME);
+        given(jwtService.authenticate(TOKEN)).willReturn(Optional.of(AUTHENTICATED_USER));
 
         // WHEN
         filter.doFilterInternal(request, response, filterChain);
 
         // THEN
-        verify(jwtService).isTokenValid(TOKEN);
-        verify(jwtService).extractUsername(TOKEN);
+        verify(jwtService).authenticate(TOKEN);
         verify(filterChain).doFilter(request, response);
 
         var authentication = SecurityContextHolder.getContext().getAuthentication();
 
         assertThat(authentication).isNotNull();
         assertThat(authentication.getName()).isEqualTo(USERNAME);
+        assertThat(authentication.getPrincipal()).isEqualTo(AUTHENTICATED_USER);
         assertThat(authentication.getAuthorities())
                 .extracting("authority")
                 .containsExactly("ROLE_USER");
@@ -143,7 +141,7 @@ class JwtAuthFilterTest {
     @DisplayName("""
             GIVEN request with valid bearer token and existing authentication
             WHEN filter is invoked
-            THEN it keeps existing authentication and continues chain
+            THEN it keeps existing authentication without verifying the token
             """)
     void filterValidTokenAndExistingAuthentication() throws Exception {
         // GIVEN
@@ -156,15 +154,11 @@ class JwtAuthFilterTest {
         );
         SecurityContextHolder.getContext().setAuthentication(existingAuthentication);
 
-        given(jwtService.isTokenValid(TOKEN)).willReturn(true);
-        given(jwtService.extractUsername(TOKEN)).willReturn(USERNAME);
-
         // WHEN
         filter.doFilterInternal(request, response, filterChain);
 
         // THEN
-        verify(jwtService).isTokenValid(TOKEN);
-        verify(jwtService).extractUsername(TOKEN);
+        verify(jwtService, never()).authenticate(TOKEN);
         verify(filterChain).doFilter(request, response);
         assertThat(SecurityContextHolder.getContext().getAuthentication())
                 .isSameAs(existingAuthentication);
@@ -6,22 +6,22 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
-import javax.sql.DataSource;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.provisioning.JdbcUserDetailsManager;
 import org.springframework.security.web.DefaultSecurityFilterChain;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * Unit tests for {@link SecurityConfig}.
@@ -30,7 +30,10 @@ import org.springframework.test.util.ReflectionTestUtils;
 class SecurityConfigTest {
 
     @Mock
-    private DataSource dataSource;
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private UserCache userCache;
 
     @Mock
     private AuthenticationConfiguration authenticationConfiguration;
@@ -71,36 +74,21 @@ class SecurityConfigTest {
 
     @Test
     @DisplayName("""
-            GIVEN SecurityConfig and data source
-            WHEN userDetailsService bean is created
-            THEN returns JdbcUserDetailsManager with expected queries
+            GIVEN user details service, password encoder and user cache
+            WHEN authenticationProvider bean is created
+            THEN returns DaoAuthenticationProvider using the user cache
             """)
-    void dataSource_UserDetailsServiceCreated() {
+    void userDetailsService_AuthenticationProviderCreated() {
         // GIVEN
 
         // WHEN
-        UserDetailsService actualService = securityConfig.userDetailsService(dataSource);
+        AuthenticationProvider actualProvider = securityConfig.authenticationProvider(
+                userDetailsService, securityConfig.passwordEncoder(), userCache);
 
         // THEN
-        assertThat(actualService).isInstanceOf(JdbcUserDetailsManager.class);
-
-        String actualUsersByUsernameQuery = (String) ReflectionTestUtils.getField(
-                actualService,
-                "usersByUsernameQuery"
-        );
-        String actualAuthoritiesByUsernameQuery = (String) ReflectionTestUtils.getField(
-                actualService,
-                "authoritiesByUsernameQuery"
-        );
-
-        assertThat(actualUsersByUsernameQuery)
-                .isEqualTo("select username, password_hash as password, enabled "
-                        + "from users "
-                        + "where username = ?");
-        assertThat(actualAuthoritiesByUsernameQuery)
-                .isEqualTo("select username, 'ROLE_USER' as authority "
-                        + "from users "
-                        + "where username = ?");
+        assertThat(actualProvider).isInstanceOf(DaoAuthenticationProvider.class);
+        assertThat(((DaoAuthenticationProvider) actualProvider).getUserCache())
+                .isSameAs(userCache);
     }
 
     @Test
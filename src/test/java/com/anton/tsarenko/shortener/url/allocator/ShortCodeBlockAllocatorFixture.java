@@ -0,0 +1,26 @@
+package com.anton.tsarenko.shortener.url.allocator;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * This class is a fixture for testing {@link ShortCodeBlockAllocator}.
+ */
+class ShortCodeBlockAllocatorFixture {
+    /** Number of values reserved at once. */
+    static final int BLOCK_SIZE = 100;
+
+    /** Number of values left in the block when the next one is reserved. */
+    static final int REFILL_THRESHOLD = 20;
+
+    /** Number of threads taking values concurrently. */
+    static final int THREADS = 8;
+
+    /** Number of values taken by every thread. */
+    static final int VALUES_PER_THREAD = 1_000;
+
+    /** Executor rejecting every background reservation. */
+    static final TaskExecutor REJECTING_EXECUTOR = task -> {
+        throw new TaskRejectedException("Concurrency limit reached");
+    };
+}
@@ -0,0 +1,174 @@
+package com.anton.tsarenko.shortener.url.allocator;
+
+import static com.anton.tsarenko.shortener.url.allocator.ShortCodeBlockAllocatorFixture.BLOCK_SIZE;
+import static com.anton.tsarenko.shortener.url.allocator.ShortCodeBlockAllocatorFixture.REFILL_THRESHOLD;
+import static com.anton.tsarenko.shortener.url.allocator.ShortCodeBlockAllocatorFixture.REJECTING_EXECUTOR;
+import static com.anton.tsarenko.shortener.url.allocator.ShortCodeBlockAllocatorFixture.THREADS;
+import static com.anton.tsarenko.shortener.url.allocator.ShortCodeBlockAllocatorFixture.VALUES_PER_THREAD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.anton.tsarenko.shortener.url.repo.UrlRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * Unit tests for {@link ShortCodeBlockAllocator}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ShortCodeBlockAllocatorTest {
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final TaskExecutor prefetchExecutor = new SimpleAsyncTaskExecutor();
+
+    @Test
+    @DisplayName("""
+            GIVEN allocator with reserved block running low
+            WHEN values are taken past the refill threshold
+            THEN next block is reserved in background before the current one is exhausted
+            """)
+    void nextValuePrefetchesNextBlock() {
+        // GIVEN
+        ShortCodeBlockAllocator allocator = new ShortCodeBlockAllocator(
+                urlRepository, BLOCK_SIZE, REFILL_THRESHOLD, prefetchExecutor, meterRegistry);
+        given(urlRepository.reserveShortCodeBlock(BLOCK_SIZE)).willReturn(0L, 500L);
+
+        // WHEN
+        List<Long> values = LongStream.range(0, BLOCK_SIZE - REFILL_THRESHOLD + 1)
+                .map(i -> allocator.nextValue())
+                .boxed()
+                .toList();
+
+        // THEN
+        assertThat(values).containsExactlyElementsOf(
+                LongStream.range(0, BLOCK_SIZE - REFILL_THRESHOLD + 1).boxed().toList());
+        verify(urlRepository, timeout(1_000).times(2)).reserveShortCodeBlock(BLOCK_SIZE);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN allocator whose current block is exhausted
+            WHEN next value is taken
+            THEN value comes from the next reserved block
+            """)
+    void nextValueSwitchesToNextBlock() {
+        // GIVEN
+        ShortCodeBlockAllocator allocator = new ShortCodeBlockAllocator(
+                urlRepository, BLOCK_SIZE, REFILL_THRESHOLD, prefetchExecutor, meterRegistry);
+        given(urlRepository.reserveShortCodeBlock(BLOCK_SIZE)).willReturn(0L, 500L);
+        IntStream.range(0, BLOCK_SIZE).forEach(i -> allocator.nextValue());
+
+        // WHEN
+        long value = allocator.nextValue();
+
+        // THEN
+        assertThat(value).isEqualTo(500L);
+        verify(urlRepository, times(2)).reserveShortCodeBlock(BLOCK_SIZE);
+        assertThat(meterRegistry.get("shortener.short-code.blocks.reserved").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN background reservation of the next block failed
+            WHEN current block is exhausted
+            THEN next block is reserved again synchronously
+            """)
+    void nextValueRetriesFailedPrefetch() {
+        // GIVEN
+        ShortCodeBlockAllocator allocator = new ShortCodeBlockAllocator(
+                urlRepository, BLOCK_SIZE, REFILL_THRESHOLD, prefetchExecutor, meterRegistry);
+        given(urlRepository.reserveShortCodeBlock(BLOCK_SIZE))
+                .willReturn(0L)
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(500L);
+        IntStream.range(0, BLOCK_SIZE).forEach(i -> allocator.nextValue());
+
+        // WHEN
+        long value = allocator.nextValue();
+
+        // THEN
+        assertThat(value).isEqualTo(500L);
+        verify(urlRepository, times(3)).reserveShortCodeBlock(BLOCK_SIZE);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN background reservation of the next block rejected by the executor
+            WHEN current block is exhausted
+            THEN next block is reserved synchronously
+            """)
+    void nextValueReservesWhenPrefetchRejected() {
+        // GIVEN
+        ShortCodeBlockAllocator allocator = new ShortCodeBlockAllocator(
+                urlRepository, BLOCK_SIZE, REFILL_THRESHOLD, REJECTING_EXECUTOR, meterRegistry);
+        given(urlRepository.reserveShortCodeBlock(BLOCK_SIZE)).willReturn(0L, 500L);
+        IntStream.range(0, BLOCK_SIZE).forEach(i -> allocator.nextValue());
+        verify(urlRepository).reserveShortCodeBlock(BLOCK_SIZE);
+
+        // WHEN
+        long value = allocator.nextValue();
+
+        // THEN
+        assertThat(value).isEqualTo(500L);
+        verify(urlRepository, times(2)).reserveShortCodeBlock(BLOCK_SIZE);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN several threads taking values concurrently
+            WHEN blocks are exhausted and refilled
+            THEN every value is handed out exactly once
+            """)
+    void nextValueIsUniqueUnderContention() throws Exception {
+        // GIVEN
+        ShortCodeBlockAllocator allocator = new ShortCodeBlockAllocator(
+                urlRepository, BLOCK_SIZE, REFILL_THRESHOLD, prefetchExecutor, meterRegistry);
+        AtomicLong nextBlockStart = new AtomicLong();
+        willAnswer(invocation -> nextBlockStart.getAndAdd(BLOCK_SIZE))
+                .given(urlRepository).reserveShortCodeBlock(anyInt());
+        Set<Long> values = ConcurrentHashMap.newKeySet();
+
+        // WHEN
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<?>> futures = IntStream.range(0, THREADS)
+                    .<Future<?>>mapToObj(i -> executor.submit(() -> {
+                        for (int j = 0; j < VALUES_PER_THREAD; j++) {
+                            values.add(allocator.nextValue());
+                        }
+                    }))
+                    .toList();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // THEN
+        assertThat(values).hasSize(THREADS * VALUES_PER_THREAD);
+    }
+}
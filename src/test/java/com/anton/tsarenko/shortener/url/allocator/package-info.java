@@ -0,0 +1,4 @@
+/**
+ * This package contains unit tests for short code allocators.
+ */
+package com.anton.tsarenko.shortener.url.allocator;
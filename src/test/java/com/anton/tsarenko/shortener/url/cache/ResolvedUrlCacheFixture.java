@@ -0,0 +1,53 @@
+package com.anton.tsarenko.shortener.url.cache;
+
+import com.anton.tsarenko.shortener.url.dto.ResolvedUrl;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * This class is a fixture for testing {@link ResolvedUrlCache}.
+ */
+class ResolvedUrlCacheFixture {
+    /** Short code used in cache tests. */
+    static final String SHORT_CODE = "abc123";
+
+    /** Maximum number of cached entries. */
+    static final long MAX_SIZE = 100L;
+
+    /** Time-to-live of cached entries. */
+    static final Duration TTL = Duration.ofMinutes(10);
+
+    /** Resolution that expires far in the future. */
+    static final ResolvedUrl ACTIVE_URL = new ResolvedUrl(
+            "https://example.com/active",
+            Instant.parse("2100-01-01T00:00:00Z")
+    );
+
+    /** Resolution that is already expired. */
+    static final ResolvedUrl EXPIRED_URL = new ResolvedUrl(
+            "https://example.com/expired",
+            Instant.parse("2020-01-01T00:00:00Z")
+    );
+
+    /** Time after which a soon expiring resolution expires. */
+    static final Duration SOON = Duration.ofMillis(100);
+
+    /**
+     * Creates a resolution that expires after {@link #SOON}, long before the TTL.
+     *
+     * @return resolution that expires soon
+     */
+    static ResolvedUrl soonExpiringUrl() {
+        return new ResolvedUrl("https://example.com/soon", Instant.now().plus(SOON));
+    }
+
+    /**
+     * Creates a resolution that expires right now, as if it expired between loading it and
+     * inserting it into the cache.
+     *
+     * @return resolution that expires on the boundary
+     */
+    static ResolvedUrl boundaryExpiringUrl() {
+        return new ResolvedUrl("https://example.com/boundary", Instant.now());
+    }
+}
@@ -0,0 +1,158 @@
+package com.anton.tsarenko.shortener.url.cache;
+
+import static com.anton.tsarenko.shortener.url.cache.ResolvedUrlCacheFixture.ACTIVE_URL;
+import static com.anton.tsarenko.shortener.url.cache.ResolvedUrlCacheFixture.EXPIRED_URL;
+import static com.anton.tsarenko.shortener.url.cache.ResolvedUrlCacheFixture.MAX_SIZE;
+import static com.anton.tsarenko.shortener.url.cache.ResolvedUrlCacheFixture.SHORT_CODE;
+import static com.anton.tsarenko.shortener.url.cache.ResolvedUrlCacheFixture.SOON;
+import static com.anton.tsarenko.shortener.url.cache.ResolvedUrlCacheFixture.TTL;
+import static com.anton.tsarenko.shortener.url.cache.ResolvedUrlCacheFixture.boundaryExpiringUrl;
+import static com.anton.tsarenko.shortener.url.cache.ResolvedUrlCacheFixture.soonExpiringUrl;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.anton.tsarenko.shortener.url.dto.ResolvedUrl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ResolvedUrlCache}.
+ */
+class ResolvedUrlCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ResolvedUrlCache cache = new ResolvedUrlCache(MAX_SIZE, TTL, meterRegistry);
+
+    @Test
+    @DisplayName("""
+            GIVEN active resolution put into cache
+            WHEN get is called
+            THEN returns cached resolution and records a hit
+            """)
+    void getCachedResolution() {
+        // GIVEN
+        cache.put(SHORT_CODE, ACTIVE_URL);
+
+        // WHEN
+        var actualResolution = cache.get(SHORT_CODE);
+
+        // THEN
+        assertThat(actualResolution).contains(ACTIVE_URL);
+        assertThat(cache.stats().hitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN empty cache
+            WHEN get is called
+            THEN returns empty and records a miss
+            """)
+    void getMissingResolution() {
+        // GIVEN
+
+        // WHEN
+        var actualResolution = cache.get(SHORT_CODE);
+
+        // THEN
+        assertThat(actualResolution).isEmpty();
+        assertThat(cache.stats().missCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN already expired resolution
+            WHEN it is put into cache
+            THEN it is not cached
+            """)
+    void putExpiredResolution() {
+        // GIVEN
+
+        // WHEN
+        cache.put(SHORT_CODE, EXPIRED_URL);
+
+        // THEN
+        assertThat(cache.get(SHORT_CODE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN cached resolution that expires before the TTL
+            WHEN get is called after its expiration date
+            THEN returns empty without waiting for the TTL
+            """)
+    void getResolutionPastExpirationDate() throws InterruptedException {
+        // GIVEN
+        ResolvedUrl soonExpiringUrl = soonExpiringUrl();
+        cache.put(SHORT_CODE, soonExpiringUrl);
+        assertThat(cache.get(SHORT_CODE)).contains(soonExpiringUrl);
+
+        // WHEN
+        Thread.sleep(SOON.multipliedBy(2));
+
+        // THEN
+        assertThat(cache.get(SHORT_CODE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN resolution that expires right on the boundary of insertion
+            WHEN its time-to-live is computed
+            THEN returns zero instead of a negative duration
+            """)
+    void timeToLiveOfResolutionExpiringOnBoundary() {
+        // GIVEN
+        ResolvedUrl resolvedUrl = boundaryExpiringUrl();
+
+        // WHEN
+        Duration timeToLive = ResolvedUrlCache.timeToLive(resolvedUrl, TTL);
+
+        // THEN
+        assertThat(timeToLive).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN cached resolution
+            WHEN evict is called
+            THEN resolution is no longer cached
+            """)
+    void evictResolution() {
+        // GIVEN
+        cache.put(SHORT_CODE, ACTIVE_URL);
+
+        // WHEN
+        cache.evict(SHORT_CODE);
+
+        // THEN
+        assertThat(cache.get(SHORT_CODE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN cache bound to meter registry
+            WHEN lookups are performed
+            THEN hit and miss statistics are published as metrics
+            """)
+    void statisticsPublishedAsMetrics() {
+        // GIVEN
+        cache.put(SHORT_CODE, ACTIVE_URL);
+
+        // WHEN
+        cache.get(SHORT_CODE);
+        cache.get("unknown");
+
+        // THEN
+        assertThat(meterRegistry.get("cache.gets")
+                .tag("cache", ResolvedUrlCache.CACHE_NAME)
+                .tag("result", "hit")
+                .functionCounter()
+                .count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets")
+                .tag("cache", ResolvedUrlCache.CACHE_NAME)
+                .tag("result", "miss")
+                .functionCounter()
+                .count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,20 @@
+package com.anton.tsarenko.shortener.url.cache;
+
+import java.time.Duration;
+
+/**
+ * This class is a fixture for testing {@link UrlCountCache}.
+ */
+class UrlCountCacheFixture {
+    /** ID of the user whose count is cached. */
+    static final Long USER_ID = 1L;
+
+    /** Minimum cached count. */
+    static final long THRESHOLD = 1_000L;
+
+    /** Maximum number of cached users. */
+    static final long MAX_SIZE = 100L;
+
+    /** Time-to-live of cached counts. */
+    static final Duration TTL = Duration.ofMinutes(1);
+}
@@ -0,0 +1,73 @@
+package com.anton.tsarenko.shortener.url.cache;
+
+import static com.anton.tsarenko.shortener.url.cache.UrlCountCacheFixture.MAX_SIZE;
+import static com.anton.tsarenko.shortener.url.cache.UrlCountCacheFixture.THRESHOLD;
+import static com.anton.tsarenko.shortener.url.cache.UrlCountCacheFixture.TTL;
+import static com.anton.tsarenko.shortener.url.cache.UrlCountCacheFixture.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link UrlCountCache}.
+ */
+class UrlCountCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("""
+            GIVEN count reaching the threshold put into cache
+            WHEN get is called
+            THEN returns cached count
+            """)
+    void getLargeCount() {
+        // GIVEN
+        UrlCountCache cache = new UrlCountCache(true, THRESHOLD, MAX_SIZE, TTL, meterRegistry);
+        cache.put(USER_ID, THRESHOLD);
+
+        // WHEN
+        var actualCount = cache.get(USER_ID);
+
+        // THEN
+        assertThat(actualCount).hasValue(THRESHOLD);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN count below the threshold put into cache
+            WHEN get is called
+            THEN returns empty so the exact count is queried
+            """)
+    void getSmallCount() {
+        // GIVEN
+        UrlCountCache cache = new UrlCountCache(true, THRESHOLD, MAX_SIZE, TTL, meterRegistry);
+        cache.put(USER_ID, THRESHOLD - 1);
+
+        // WHEN
+        var actualCount = cache.get(USER_ID);
+
+        // THEN
+        assertThat(actualCount).isEmpty();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN disabled cache and large count put into it
+            WHEN get is called
+            THEN returns empty
+            """)
+    void getWhenDisabled() {
+        // GIVEN
+        UrlCountCache cache = new UrlCountCache(false, THRESHOLD, MAX_SIZE, TTL, meterRegistry);
+        cache.put(USER_ID, THRESHOLD);
+
+        // WHEN
+        var actualCount = cache.get(USER_ID);
+
+        // THEN
+        assertThat(actualCount).isEmpty();
+    }
+}
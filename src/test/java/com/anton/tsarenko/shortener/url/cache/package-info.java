@@ -0,0 +1,4 @@
+/**
+ * This package contains unit tests for URL caches.
+ */
+package com.anton.tsarenko.shortener.url.cache;
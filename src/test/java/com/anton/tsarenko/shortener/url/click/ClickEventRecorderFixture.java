@@ -0,0 +1,42 @@
+package com.anton.tsarenko.shortener.url.click;
+
+/**
+ * This class is a fixture for testing {@link ClickEventRecorder}.
+ */
+class ClickEventRecorderFixture {
+    /** Short code of the recorded redirects. */
+    static final String SHORT_CODE = "go1234";
+
+    /** Referer header of the recorded redirects. */
+    static final String REFERRER = "https://news.example.org/post";
+
+    /** User-Agent header longer than the stored field length. */
+    static final String LONG_USER_AGENT = "Mozilla/5.0 (X11; Linux x86_64) Gecko/20100101";
+
+    /** Maximum stored length of the referrer and user agent. */
+    static final int MAX_FIELD_LENGTH = 32;
+
+    /** Address of the client performing the redirects. */
+    static final String CLIENT_IP = "203.0.113.7";
+
+    /** Key of the client address hash. */
+    static final String IP_HASH_SECRET = "click-secret";
+
+    /** Capacity of the ring buffer. */
+    static final int BUFFER_CAPACITY = 4;
+
+    /** Fill ratio that never switches the recorder to sampling. */
+    static final double NO_OVERLOAD = 2.0;
+
+    /** Fill ratio that keeps the recorder sampling from the first event. */
+    static final double ALWAYS_OVERLOADED = 0.0;
+
+    /** Sampling rate that keeps every event. */
+    static final int KEEP_EVERY_EVENT = 1;
+
+    /** Sampling rate under which an event is practically never kept. */
+    static final int KEEP_ALMOST_NONE = Integer.MAX_VALUE;
+
+    /** Number of clicks appended with one statement. */
+    static final int BATCH_SIZE = 2;
+}
@@ -0,0 +1,186 @@
+package com.anton.tsarenko.shortener.url.click;
+
+import static com.anton.tsarenko.shortener.url.click.ClickEventRecorderFixture.ALWAYS_OVERLOADED;
+import static com.anton.tsarenko.shortener.url.click.ClickEventRecorderFixture.BATCH_SIZE;
+import static com.anton.tsarenko.shortener.url.click.ClickEventRecorderFixture.BUFFER_CAPACITY;
+import static com.anton.tsarenko.shortener.url.click.ClickEventRecorderFixture.CLIENT_IP;
+import static com.anton.tsarenko.shortener.url.click.ClickEventRecorderFixture.IP_HASH_SECRET;
+import static com.anton.tsarenko.shortener.url.click.ClickEventRecorderFixture.KEEP_ALMOST_NONE;
+import static com.anton.tsarenko.shortener.url.click.ClickEventRecorderFixture.KEEP_EVERY_EVENT;
+import static com.anton.tsarenko.shortener.url.click.ClickEventRecorderFixture.LONG_USER_AGENT;
+import static com.anton.tsarenko.shortener.url.click.ClickEventRecorderFixture.MAX_FIELD_LENGTH;
+import static com.anton.tsarenko.shortener.url.click.ClickEventRecorderFixture.NO_OVERLOAD;
+import static com.anton.tsarenko.shortener.url.click.ClickEventRecorderFixture.REFERRER;
+import static com.anton.tsarenko.shortener.url.click.ClickEventRecorderFixture.SHORT_CODE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.anton.tsarenko.shortener.url.dto.Click;
+import com.anton.tsarenko.shortener.url.repo.ClickRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * Unit tests for {@link ClickEventRecorder}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ClickEventRecorderTest {
+
+    @Mock
+    private ClickRepository clickRepository;
+
+    @Captor
+    private ArgumentCaptor<List<Click>> clicksCaptor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("""
+            GIVEN recorded redirect
+            WHEN flush is called
+            THEN click is written with hashed client address and truncated headers
+            """)
+    void flushWritesAnonymizedClicks() {
+        // GIVEN
+        ClickEventRecorder recorder = recorder(true, NO_OVERLOAD, KEEP_EVERY_EVENT);
+        recorder.record(SHORT_CODE, REFERRER, LONG_USER_AGENT, CLIENT_IP);
+        given(clickRepository.copyClicks(anyList())).willReturn(1L);
+
+        // WHEN
+        recorder.flush();
+
+        // THEN
+        verify(clickRepository).copyClicks(clicksCaptor.capture());
+        Click click = clicksCaptor.getValue().getFirst();
+        assertThat(click.shortCode()).isEqualTo(SHORT_CODE);
+        assertThat(click.referrer()).isEqualTo(REFERRER);
+        assertThat(click.userAgent()).isEqualTo(LONG_USER_AGENT.substring(0, MAX_FIELD_LENGTH));
+        assertThat(click.ipHash()).isNotBlank().doesNotContain(CLIENT_IP);
+        assertThat(click.weight()).isEqualTo(1);
+        assertThat(meterRegistry.get("shortener.clicks.written").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN more recorded redirects than batch size
+            WHEN flush is called
+            THEN clicks are written in several batches
+            """)
+    void flushSplitsIntoBatches() {
+        // GIVEN
+        ClickEventRecorder recorder = recorder(true, NO_OVERLOAD, KEEP_EVERY_EVENT);
+        for (int i = 0; i <= BATCH_SIZE; i++) {
+            recorder.record(SHORT_CODE, null, null, CLIENT_IP);
+        }
+
+        // WHEN
+        recorder.flush();
+
+        // THEN
+        verify(clickRepository, times(2)).copyClicks(anyList());
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN full buffer
+            WHEN redirect is recorded
+            THEN event is dropped and counted as dropped
+            """)
+    void recordDropsWhenBufferIsFull() {
+        // GIVEN
+        ClickEventRecorder recorder = recorder(true, NO_OVERLOAD, KEEP_EVERY_EVENT);
+        for (int i = 0; i < BUFFER_CAPACITY; i++) {
+            recorder.record(SHORT_CODE, null, null, CLIENT_IP);
+        }
+
+        // WHEN
+        recorder.record(SHORT_CODE, null, null, CLIENT_IP);
+
+        // THEN
+        assertThat(droppedCount("full")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("shortener.clicks.recorded").counter().count())
+                .isEqualTo(BUFFER_CAPACITY);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN overloaded buffer
+            WHEN redirect is recorded
+            THEN event is sampled out and counted as dropped
+            """)
+    void recordSamplesUnderOverload() {
+        // GIVEN
+        ClickEventRecorder recorder = recorder(true, ALWAYS_OVERLOADED, KEEP_ALMOST_NONE);
+
+        // WHEN
+        recorder.record(SHORT_CODE, null, null, CLIENT_IP);
+
+        // THEN
+        assertThat(droppedCount("sampled")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN write failing with data access exception
+            WHEN flush is called
+            THEN clicks of the batch are dropped and counted as dropped
+            """)
+    void flushDropsFailedBatch() {
+        // GIVEN
+        ClickEventRecorder recorder = recorder(true, NO_OVERLOAD, KEEP_EVERY_EVENT);
+        recorder.record(SHORT_CODE, null, null, CLIENT_IP);
+        given(clickRepository.copyClicks(anyList()))
+                .willThrow(new QueryTimeoutException("timeout"));
+
+        // WHEN
+        recorder.flush();
+        recorder.flush();
+
+        // THEN
+        verify(clickRepository, times(1)).copyClicks(anyList());
+        assertThat(droppedCount("failed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN disabled click log
+            WHEN redirect is recorded and flush is called
+            THEN nothing is written
+            """)
+    void disabledRecordsNothing() {
+        // GIVEN
+        ClickEventRecorder recorder = recorder(false, NO_OVERLOAD, KEEP_EVERY_EVENT);
+
+        // WHEN
+        recorder.record(SHORT_CODE, REFERRER, LONG_USER_AGENT, CLIENT_IP);
+        recorder.flush();
+
+        // THEN
+        verify(clickRepository, never()).copyClicks(anyList());
+    }
+
+    private ClickEventRecorder recorder(
+            boolean enabled, double overloadThreshold, int overloadSampleEvery) {
+        return new ClickEventRecorder(clickRepository, enabled, BUFFER_CAPACITY,
+                overloadThreshold, overloadSampleEvery, BATCH_SIZE, MAX_FIELD_LENGTH,
+                IP_HASH_SECRET, meterRegistry);
+    }
+
+    private double droppedCount(String reason) {
+        return meterRegistry.get("shortener.clicks.dropped").tag("reason", reason)
+                .counter().count();
+    }
+}
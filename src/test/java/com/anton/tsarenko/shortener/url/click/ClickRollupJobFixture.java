@@ -0,0 +1,17 @@
+package com.anton.tsarenko.shortener.url.click;
+
+import java.time.Duration;
+
+/**
+ * This class is a fixture for testing {@link ClickRollupJob}.
+ */
+class ClickRollupJobFixture {
+    /** Minimum age of a click before it is rolled up. */
+    static final Duration SETTLE_DELAY = Duration.ofMinutes(2);
+
+    /** Maximum time span of clicks rolled up in one transaction. */
+    static final Duration MAX_WINDOW = Duration.ofHours(1);
+
+    /** Maximum number of windows rolled up in one run. */
+    static final int MAX_WINDOWS_PER_RUN = 3;
+}
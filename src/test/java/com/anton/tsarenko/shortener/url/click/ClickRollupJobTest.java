@@ -0,0 +1,123 @@
+package com.anton.tsarenko.shortener.url.click;
+
+import static com.anton.tsarenko.shortener.url.click.ClickRollupJobFixture.MAX_WINDOW;
+import static com.anton.tsarenko.shortener.url.click.ClickRollupJobFixture.MAX_WINDOWS_PER_RUN;
+import static com.anton.tsarenko.shortener.url.click.ClickRollupJobFixture.SETTLE_DELAY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.anton.tsarenko.shortener.url.repo.ClickRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * Unit tests for {@link ClickRollupJob}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ClickRollupJobTest {
+
+    @Mock
+    private ClickRepository clickRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("""
+            GIVEN rollups two hours behind
+            WHEN rollUp is called
+            THEN windows are rolled up until the settled time is reached
+            """)
+    void rollUpUntilCaughtUp() {
+        // GIVEN
+        ClickRollupJob job = job(true);
+        Instant behind = Instant.now().minus(Duration.ofHours(2));
+        given(clickRepository.findRolledUpTo()).willReturn(behind);
+        given(clickRepository.rollUpClicks(any(Instant.class), eq(MAX_WINDOW)))
+                .willReturn(behind.plus(MAX_WINDOW), Instant.now());
+
+        // WHEN
+        job.rollUp();
+
+        // THEN
+        verify(clickRepository, times(2)).rollUpClicks(any(Instant.class), eq(MAX_WINDOW));
+        assertThat(meterRegistry.get("shortener.clicks.rollup.lag").gauge().value())
+                .isLessThan(SETTLE_DELAY.toSeconds());
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN rollups far behind
+            WHEN rollUp is called
+            THEN at most the configured number of windows is rolled up
+            """)
+    void rollUpStopsAtMaxWindows() {
+        // GIVEN
+        ClickRollupJob job = job(true);
+        Instant behind = Instant.now().minus(Duration.ofDays(1));
+        given(clickRepository.findRolledUpTo()).willReturn(behind);
+        given(clickRepository.rollUpClicks(any(Instant.class), eq(MAX_WINDOW)))
+                .willReturn(behind.plus(MAX_WINDOW));
+
+        // WHEN
+        job.rollUp();
+
+        // THEN
+        verify(clickRepository, times(MAX_WINDOWS_PER_RUN))
+                .rollUpClicks(any(Instant.class), eq(MAX_WINDOW));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN rollup failing with data access exception
+            WHEN rollUp is called
+            THEN the run ends without propagating the exception
+            """)
+    void rollUpSurvivesFailure() {
+        // GIVEN
+        ClickRollupJob job = job(true);
+        given(clickRepository.findRolledUpTo())
+                .willReturn(Instant.now().minus(Duration.ofHours(1)));
+        given(clickRepository.rollUpClicks(any(Instant.class), eq(MAX_WINDOW)))
+                .willThrow(new QueryTimeoutException("timeout"));
+
+        // WHEN
+        job.rollUp();
+
+        // THEN
+        verify(clickRepository, times(1)).rollUpClicks(any(Instant.class), eq(MAX_WINDOW));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN disabled rollups
+            WHEN rollUp is called
+            THEN repository is not called
+            """)
+    void rollUpDisabled() {
+        // GIVEN
+        ClickRollupJob job = job(false);
+
+        // WHEN
+        job.rollUp();
+
+        // THEN
+        verifyNoInteractions(clickRepository);
+    }
+
+    private ClickRollupJob job(boolean enabled) {
+        return new ClickRollupJob(clickRepository, enabled, SETTLE_DELAY, MAX_WINDOW,
+                MAX_WINDOWS_PER_RUN, meterRegistry);
+    }
+}
@@ -0,0 +1,21 @@
+package com.anton.tsarenko.shortener.url.click;
+
+/**
+ * This class is a fixture for testing {@link RingBuffer}.
+ */
+class RingBufferFixture {
+    /** Capacity of the small buffer used in single-threaded tests. */
+    static final int SMALL_CAPACITY = 4;
+
+    /** Capacity that is not a power of two. */
+    static final int INVALID_CAPACITY = 6;
+
+    /** Capacity of the buffer shared by concurrent producers. */
+    static final int CONCURRENT_CAPACITY = 1 << 16;
+
+    /** Number of concurrent producers. */
+    static final int PRODUCERS = 4;
+
+    /** Number of elements offered by every concurrent producer. */
+    static final int ELEMENTS_PER_PRODUCER = 10_000;
+}
@@ -0,0 +1,143 @@
+package com.anton.tsarenko.shortener.url.click;
+
+import static com.anton.tsarenko.shortener.url.click.RingBufferFixture.CONCURRENT_CAPACITY;
+import static com.anton.tsarenko.shortener.url.click.RingBufferFixture.ELEMENTS_PER_PRODUCER;
+import static com.anton.tsarenko.shortener.url.click.RingBufferFixture.INVALID_CAPACITY;
+import static com.anton.tsarenko.shortener.url.click.RingBufferFixture.PRODUCERS;
+import static com.anton.tsarenko.shortener.url.click.RingBufferFixture.SMALL_CAPACITY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RingBuffer}.
+ */
+class RingBufferTest {
+
+    @Test
+    @DisplayName("""
+            GIVEN elements offered to the buffer
+            WHEN drain is called
+            THEN elements are removed in insertion order
+            """)
+    void drainInInsertionOrder() {
+        // GIVEN
+        RingBuffer<Integer> buffer = new RingBuffer<>(SMALL_CAPACITY);
+        buffer.offer(1);
+        buffer.offer(2);
+        buffer.offer(3);
+        List<Integer> drained = new ArrayList<>();
+
+        // WHEN
+        int count = buffer.drain(drained::add, SMALL_CAPACITY);
+
+        // THEN
+        assertThat(count).isEqualTo(3);
+        assertThat(drained).containsExactly(1, 2, 3);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN full buffer
+            WHEN offer is called
+            THEN element is rejected until the buffer is drained
+            """)
+    void offerRejectsWhenFull() {
+        // GIVEN
+        RingBuffer<Integer> buffer = new RingBuffer<>(SMALL_CAPACITY);
+        for (int i = 0; i < SMALL_CAPACITY; i++) {
+            buffer.offer(i);
+        }
+
+        // WHEN
+        boolean offeredWhenFull = buffer.offer(SMALL_CAPACITY);
+        buffer.drain(element -> { }, 1);
+        boolean offeredAfterDrain = buffer.offer(SMALL_CAPACITY);
+
+        // THEN
+        assertThat(offeredWhenFull).isFalse();
+        assertThat(offeredAfterDrain).isTrue();
+        assertThat(buffer.size()).isEqualTo(SMALL_CAPACITY);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN more elements than the drain limit
+            WHEN drain is called
+            THEN at most the limit is removed and the rest stays buffered
+            """)
+    void drainRespectsLimit() {
+        // GIVEN
+        RingBuffer<Integer> buffer = new RingBuffer<>(SMALL_CAPACITY);
+        buffer.offer(1);
+        buffer.offer(2);
+        buffer.offer(3);
+        List<Integer> drained = new ArrayList<>();
+
+        // WHEN
+        buffer.drain(drained::add, 2);
+
+        // THEN
+        assertThat(drained).containsExactly(1, 2);
+        assertThat(buffer.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN capacity that is not a power of two
+            WHEN buffer is created
+            THEN IllegalArgumentException is thrown
+            """)
+    void rejectsInvalidCapacity() {
+        // GIVEN
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> new RingBuffer<>(INVALID_CAPACITY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN several producers offering concurrently
+            WHEN buffer is drained
+            THEN every offered element is drained exactly once
+            """)
+    void concurrentProducers() throws InterruptedException {
+        // GIVEN
+        RingBuffer<Integer> buffer = new RingBuffer<>(CONCURRENT_CAPACITY);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+        for (int producer = 0; producer < PRODUCERS; producer++) {
+            int first = producer * ELEMENTS_PER_PRODUCER;
+            producers.submit(() -> {
+                start.await();
+                for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                    buffer.offer(first + i);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        producers.shutdown();
+        producers.awaitTermination(10, TimeUnit.SECONDS);
+        Set<Integer> drained = new HashSet<>();
+
+        // WHEN
+        int count = buffer.drain(drained::add, CONCURRENT_CAPACITY);
+
+        // THEN
+        assertThat(count).isEqualTo(PRODUCERS * ELEMENTS_PER_PRODUCER);
+        assertThat(drained).hasSize(PRODUCERS * ELEMENTS_PER_PRODUCER);
+    }
+}
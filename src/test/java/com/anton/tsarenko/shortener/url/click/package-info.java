@@ -0,0 +1,4 @@
+/**
+ * This package contains unit tests for the asynchronous click event log.
+ */
+package com.anton.tsarenko.shortener.url.click;
@@ -12,4 +12,13 @@ class RedirectControllerFixture {
 
     /** Redirect endpoint by short code. */
     static final String REDIRECT_ENDPOINT = "/api/v1/s_link/" + SHORT_CODE;
+
+    /** Referer header of the redirect request. */
+    static final String REFERRER = "https://news.example.org/post";
+
+    /** User-Agent header of the redirect request. */
+    static final String USER_AGENT = "Mozilla/5.0 (X11; Linux x86_64)";
+
+    /** Address of the client performing the redirect request. */
+    static final String CLIENT_IP = "203.0.113.7";
 }
@@ -1,9 +1,14 @@
 package com.anton.tsarenko.shortener.url.controller;
 
+import static com.anton.tsarenko.shortener.url.controller.RedirectControllerFixture.CLIENT_IP;
 import static com.anton.tsarenko.shortener.url.controller.RedirectControllerFixture.ORIGINAL_URL;
 import static com.anton.tsarenko.shortener.url.controller.RedirectControllerFixture.REDIRECT_ENDPOINT;
+import static com.anton.tsarenko.shortener.url.controller.RedirectControllerFixture.REFERRER;
 import static com.anton.tsarenko.shortener.url.controller.RedirectControllerFixture.SHORT_CODE;
+import static com.anton.tsarenko.shortener.url.controller.RedirectControllerFixture.USER_AGENT;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
@@ -11,6 +16,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.anton.tsarenko.shortener.auth.service.JwtService;
 import com.anton.tsarenko.shortener.exceptions.custom.UrlNotFoundException;
+import com.anton.tsarenko.shortener.url.click.ClickEventRecorder;
+import com.anton.tsarenko.shortener.url.filter.ShortCodeFilter;
 import com.anton.tsarenko.shortener.url.service.UrlService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,33 +48,48 @@ class RedirectControllerTest {
     @MockitoBean(answers = Answers.RETURNS_SMART_NULLS)
     private JwtService jwtService;
 
+    @MockitoBean(answers = Answers.RETURNS_SMART_NULLS)
+    private ShortCodeFilter shortCodeFilter;
+
+    @MockitoBean(answers = Answers.RETURNS_SMART_NULLS)
+    private ClickEventRecorder clickEventRecorder;
+
     @Test
     @DisplayName("""
             GIVEN existing short code
             WHEN performing GET /api/v1/s_link/{shortCode}
-            THEN returns 302 with Location header to original URL
+            THEN returns 302 with Location header to original URL and records the click
             """)
     void redirectByShortCodeValid() throws Exception {
         // GIVEN
+        given(shortCodeFilter.mightContain(SHORT_CODE)).willReturn(true);
         given(urlService.resolveOriginalUrlAndIncreaseRedirectCount(SHORT_CODE))
                 .willReturn(ORIGINAL_URL);
 
         // WHEN / THEN
-        mockMvc.perform(get(REDIRECT_ENDPOINT))
+        mockMvc.perform(get(REDIRECT_ENDPOINT)
+                        .header("Referer", REFERRER)
+                        .header("User-Agent", USER_AGENT)
+                        .with(request -> {
+                            request.setRemoteAddr(CLIENT_IP);
+                            return request;
+                        }))
                 .andExpect(status().isFound())
                 .andExpect(header().string("Location", ORIGINAL_URL));
 
         verify(urlService).resolveOriginalUrlAndIncreaseRedirectCount(SHORT_CODE);
+        verify(clickEventRecorder).record(SHORT_CODE, REFERRER, USER_AGENT, CLIENT_IP);
     }
 
     @Test
     @DisplayName("""
             GIVEN unknown short code
             WHEN performing GET /api/v1/s_link/{shortCode}
-            THEN returns 404
+            THEN returns 404 without recording a click
             """)
     void redirectByShortCodeWhenShortCodeNotFound() throws Exception {
         // GIVEN
+        given(shortCodeFilter.mightContain(SHORT_CODE)).willReturn(true);
         given(urlService.resolveOriginalUrlAndIncreaseRedirectCount(SHORT_CODE))
                 .willThrow(new UrlNotFoundException(
                         "Url is not found by short code: " + SHORT_CODE
@@ -78,5 +100,23 @@ class RedirectControllerTest {
                 .andExpect(status().isNotFound());
 
         verify(urlService).resolveOriginalUrlAndIncreaseRedirectCount(SHORT_CODE);
+        verify(clickEventRecorder, never()).record(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN short code rejected by short code filter
+            WHEN performing GET /api/v1/s_link/{shortCode}
+            THEN returns 404 without resolving short code
+            """)
+    void redirectByShortCodeWhenRejectedByFilter() throws Exception {
+        // GIVEN
+        given(shortCodeFilter.mightContain(SHORT_CODE)).willReturn(false);
+
+        // WHEN / THEN
+        mockMvc.perform(get(REDIRECT_ENDPOINT))
+                .andExpect(status().isNotFound());
+
+        verify(urlService, never()).resolveOriginalUrlAndIncreaseRedirectCount(SHORT_CODE);
     }
 }
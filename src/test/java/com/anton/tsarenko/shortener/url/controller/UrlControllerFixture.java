@@ -1,14 +1,22 @@
 package com.anton.tsarenko.shortener.url.controller;
 
 import com.anton.tsarenko.shortener.auth.entity.User;
+import com.anton.tsarenko.shortener.url.dto.ImportReport;
 import com.anton.tsarenko.shortener.url.dto.PageResponse;
+import com.anton.tsarenko.shortener.url.dto.SliceResponse;
+import com.anton.tsarenko.shortener.url.dto.StatsBucket;
 import com.anton.tsarenko.shortener.url.dto.UrlRequest;
 import com.anton.tsarenko.shortener.url.dto.UrlResponse;
+import com.anton.tsarenko.shortener.url.dto.UrlStatsResponse;
 import com.anton.tsarenko.shortener.url.entity.Url;
+import com.anton.tsarenko.shortener.url.util.KeysetCursor;
+import com.anton.tsarenko.shortener.url.util.StatsGranularity;
 import java.time.Instant;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 /**
  * This class is a fixture for testing the UrlController.
@@ -35,9 +43,27 @@ class UrlControllerFixture {
     /** Endpoint for URL collection operations. */
     static final String LINKS_ENDPOINT = "/api/v1/shortener/" + USER_ID + "/links";
 
+    /** Endpoint for URL operations of another user. */
+    static final String OTHER_USER_LINKS_ENDPOINT = "/api/v1/shortener/" + (USER_ID + 1) + "/links";
+
+    /** Endpoint for bulk URL creation. */
+    static final String BULK_LINKS_ENDPOINT = LINKS_ENDPOINT + "/bulk";
+
+    /** Endpoint for streaming URL import. */
+    static final String IMPORT_LINKS_ENDPOINT = LINKS_ENDPOINT + "/import";
+
+    /** Endpoint for streaming URL export. */
+    static final String EXPORT_LINKS_ENDPOINT = LINKS_ENDPOINT + "/export";
+
+    /** Endpoint for keyset URL listing. */
+    static final String CURSOR_LINKS_ENDPOINT = LINKS_ENDPOINT + "/cursor";
+
     /** Endpoint for URL item operations. */
     static final String LINK_BY_ID_ENDPOINT = LINKS_ENDPOINT + "/" + URL_ID;
 
+    /** Endpoint for URL statistics. */
+    static final String LINK_STATS_ENDPOINT = LINK_BY_ID_ENDPOINT + "/stats";
+
     /** A valid user object used by controller tests. */
     static final User VALID_USER = User.builder()
             .id(USER_ID)
@@ -93,4 +119,51 @@ class UrlControllerFixture {
             1,
             1
     );
+
+    /** Valid bulk create request. */
+    static final List<UrlRequest> VALID_BULK_REQUEST = List.of(VALID_URL_REQUEST);
+
+    /** Bulk create request with one invalid element. */
+    static final List<UrlRequest> INVALID_BULK_REQUEST =
+            List.of(VALID_URL_REQUEST, INVALID_BLANK_URL_REQUEST);
+
+    /** URL entities returned by service after bulk creation. */
+    static final List<Url> CREATED_URLS = List.of(STORED_URL);
+
+    /** NDJSON import body. */
+    static final String NDJSON_IMPORT_BODY = """
+            {"originalUrl":"https://example.com/1"}
+            {"originalUrl":"not a url"}
+            """;
+
+    /** Report returned by import service. */
+    static final ImportReport IMPORT_REPORT = new ImportReport(
+            2, 1, 1, 1,
+            List.of(new ImportReport.ImportError(2, "originalUrl: Must be a valid URL")),
+            false
+    );
+
+    /** Cursor of the slice following the stored URL. */
+    static final String NEXT_CURSOR = KeysetCursor.encode(URL_ID);
+
+    /** URL slice used in keyset listing test. */
+    static final Slice<Url> URL_SLICE = new SliceImpl<>(List.of(STORED_URL));
+
+    /** Keyset slice response returned by mapper. */
+    static final SliceResponse<UrlResponse> SLICE_RESPONSE = new SliceResponse<>(
+            List.of(URL_RESPONSE),
+            1,
+            NEXT_CURSOR
+    );
+
+    /** Daily statistics of the stored URL for two days. */
+    static final UrlStatsResponse STATS_RESPONSE = new UrlStatsResponse(
+            URL_ID,
+            StatsGranularity.DAY,
+            Instant.parse("2026-10-18T10:58:00Z"),
+            5,
+            List.of(
+                    new StatsBucket(Instant.parse("2026-10-17T00:00:00Z"), 0),
+                    new StatsBucket(Instant.parse("2026-10-18T00:00:00Z"), 5))
+    );
 }
@@ -2,15 +2,31 @@ package com.anton.tsarenko.shortener.url.controller;
 
 import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.AUTHORIZATION_HEADER;
 import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.BEARER_PREFIX;
+import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.BULK_LINKS_ENDPOINT;
+import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.CREATED_URLS;
+import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.CURSOR_LINKS_ENDPOINT;
+import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.EXPORT_LINKS_ENDPOINT;
+import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.IMPORT_LINKS_ENDPOINT;
+import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.IMPORT_REPORT;
 import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.INVALID_BLANK_URL_REQUEST;
+import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.INVALID_BULK_REQUEST;
 import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.LINKS_ENDPOINT;
 import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.LINK_BY_ID_ENDPOINT;
+import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.LINK_STATS_ENDPOINT;
+import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.NDJSON_IMPORT_BODY;
+import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.NEXT_CURSOR;
+import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.OTHER_USER_LINKS_ENDPOINT;
 import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.PAGE_RESPONSE;
+import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.SLICE_RESPONSE;
+import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.STATS_RESPONSE;
 import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.STORED_URL;
 import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.URL_ID;
 import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.URL_PAGE;
+import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.URL_RESPONSE;
+import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.URL_SLICE;
 import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.URL_TO_CREATE;
 import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.USER_ID;
+import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.VALID_BULK_REQUEST;
 import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.VALID_TOKEN;
 import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.VALID_URL_REQUEST;
 import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.VALID_USER;
@@ -18,8 +34,11 @@ import static com.anton.tsarenko.shortener.url.controller.UrlControllerFixture.V
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -27,30 +46,45 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.anton.tsarenko.shortener.auth.dto.AuthenticatedUser;
 import com.anton.tsarenko.shortener.auth.service.JwtService;
 import com.anton.tsarenko.shortener.auth.service.UserService;
 import com.anton.tsarenko.shortener.url.mapper.UrlMapper;
+import com.anton.tsarenko.shortener.url.service.UrlExportService;
+import com.anton.tsarenko.shortener.url.service.UrlImportService;
 import com.anton.tsarenko.shortener.url.service.UrlService;
+import com.anton.tsarenko.shortener.url.service.UrlStatsService;
+import com.anton.tsarenko.shortener.url.util.StatsGranularity;
+import com.anton.tsarenko.shortener.url.util.UrlFileFormat;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
  * Test class for UrlController.
@@ -59,6 +93,7 @@ import org.springframework.test.web.servlet.MockMvc;
 @AutoConfigureMockMvc
 @WebMvcTest(controllers = UrlController.class)
 @ActiveProfiles("test")
+@Import(UrlControllerTest.AuthenticationPrincipalConfig.class)
 class UrlControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -66,6 +101,15 @@ class UrlControllerTest {
     @MockitoBean(answers = Answers.RETURNS_SMART_NULLS)
     private UrlService urlService;
 
+    @MockitoBean(answers = Answers.RETURNS_SMART_NULLS)
+    private UrlImportService urlImportService;
+
+    @MockitoBean(answers = Answers.RETURNS_SMART_NULLS)
+    private UrlExportService urlExportService;
+
+    @MockitoBean(answers = Answers.RETURNS_SMART_NULLS)
+    private UrlStatsService urlStatsService;
+
     @MockitoBean(answers = Answers.RETURNS_SMART_NULLS)
     private UserService userService;
 
@@ -81,8 +125,13 @@ class UrlControllerTest {
 
     @BeforeEach
     void setupAuthentication() {
-        given(jwtService.isTokenValid(VALID_TOKEN)).willReturn(true);
-        given(jwtService.extractUsername(VALID_TOKEN)).willReturn(VALID_USERNAME);
+        given(jwtService.authenticate(VALID_TOKEN))
+                .willReturn(Optional.of(new AuthenticatedUser(USER_ID, VALID_USERNAME)));
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
     }
 
     @Test
@@ -93,7 +142,7 @@ class UrlControllerTest {
             """)
     void createValid() throws Exception {
         // GIVEN
-        given(userService.getUserById(USER_ID)).willReturn(VALID_USER);
+        given(userService.getUserReference(USER_ID)).willReturn(VALID_USER);
         given(urlMapper.toUrl(VALID_URL_REQUEST, VALID_USER)).willReturn(URL_TO_CREATE);
         given(urlService.createUrl(URL_TO_CREATE)).willReturn(URL_ID);
 
@@ -113,6 +162,92 @@ class UrlControllerTest {
         assertThat(actualResponse.getContentAsString()).isEmpty();
     }
 
+    @Test
+    @DisplayName("""
+            GIVEN valid bulk create request
+            WHEN performing POST /api/v1/shortener/{userId}/links/bulk
+            THEN returns 201 with created urls and their short codes
+            """)
+    void createBulkValid() throws Exception {
+        // GIVEN
+        given(userService.getUserReference(USER_ID)).willReturn(VALID_USER);
+        given(urlMapper.toUrl(VALID_URL_REQUEST, VALID_USER)).willReturn(URL_TO_CREATE);
+        given(urlService.createUrls(List.of(URL_TO_CREATE))).willReturn(CREATED_URLS);
+        given(urlMapper.toUrlResponse(STORED_URL)).willReturn(URL_RESPONSE);
+
+        // WHEN
+        mockMvc.perform(post(BULK_LINKS_ENDPOINT)
+                        .header(AUTHORIZATION_HEADER, BEARER_PREFIX + VALID_TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(VALID_BULK_REQUEST)))
+                // THEN
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$[0].id").value(URL_ID))
+                .andExpect(jsonPath("$[0].shortCode").value(STORED_URL.getShortCode()));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN bulk create request with blank originalUrl in one element
+            WHEN performing POST /api/v1/shortener/{userId}/links/bulk
+            THEN returns 400 with validation message and creates nothing
+            """)
+    void createBulkWhenOriginalUrlBlank() throws Exception {
+        // GIVEN
+
+        // WHEN / THEN
+        mockMvc.perform(post(BULK_LINKS_ENDPOINT)
+                        .header(AUTHORIZATION_HEADER, BEARER_PREFIX + VALID_TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(INVALID_BULK_REQUEST)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("originalUrl")));
+        verifyNoInteractions(urlService);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN NDJSON import body
+            WHEN performing POST /api/v1/shortener/{userId}/links/import
+            THEN returns 200 with import report
+            """)
+    void importUrlsValid() throws Exception {
+        // GIVEN
+        given(userService.getUserReference(USER_ID)).willReturn(VALID_USER);
+        given(urlImportService.importUrls(eq(VALID_USER), any(), eq(UrlFileFormat.NDJSON)))
+                .willReturn(IMPORT_REPORT);
+
+        // WHEN
+        mockMvc.perform(post(IMPORT_LINKS_ENDPOINT)
+                        .header(AUTHORIZATION_HEADER, BEARER_PREFIX + VALID_TOKEN)
+                        .contentType("application/x-ndjson")
+                        .content(NDJSON_IMPORT_BODY))
+                // THEN
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(2));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN CSV export format
+            WHEN performing GET /api/v1/shortener/{userId}/links/export
+            THEN returns 200 with CSV attachment streamed by export service
+            """)
+    void exportUrlsValid() throws Exception {
+        // GIVEN
+
+        // WHEN
+        mockMvc.perform(get(EXPORT_LINKS_ENDPOINT)
+                        .param("format", "CSV")
+                        .header(AUTHORIZATION_HEADER, BEARER_PREFIX + VALID_TOKEN))
+                // THEN
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", containsString("text/csv")))
+                .andExpect(header().string("Content-Disposition", containsString("urls.csv")));
+        verify(urlExportService).exportUrls(eq(USER_ID), eq(UrlFileFormat.CSV), any());
+    }
+
     @Test
     @DisplayName("""
             GIVEN existing user urls
@@ -121,7 +256,7 @@ class UrlControllerTest {
             """)
     void getAllUrlsValid() throws Exception {
         // GIVEN
-        given(userService.getUserById(USER_ID)).willReturn(VALID_USER);
+        given(userService.getUserReference(USER_ID)).willReturn(VALID_USER);
         given(urlService.retrieveAllUrlsByUser(any(), any())).willReturn(URL_PAGE);
         given(urlMapper.toPageResponse(URL_PAGE)).willReturn(PAGE_RESPONSE);
 
@@ -139,6 +274,108 @@ class UrlControllerTest {
                 .andExpect(jsonPath("$.content[0].shortCode").value(STORED_URL.getShortCode()));
     }
 
+    @Test
+    @DisplayName("""
+            GIVEN token of another user
+            WHEN performing GET /api/v1/shortener/{userId}/links
+            THEN returns 403 without resolving the user or querying urls
+            """)
+    void getAllUrlsWhenNotOwner() throws Exception {
+        // GIVEN
+
+        // WHEN
+        mockMvc.perform(get(OTHER_USER_LINKS_ENDPOINT)
+                        .header(AUTHORIZATION_HEADER, BEARER_PREFIX + VALID_TOKEN))
+                // THEN
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(userService, urlService);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN cursor of the previous slice
+            WHEN performing GET /api/v1/shortener/{userId}/links/cursor
+            THEN returns 200 with slice seeking past the cursor
+            """)
+    void getUrlsByCursorValid() throws Exception {
+        // GIVEN
+        given(userService.getUserReference(USER_ID)).willReturn(VALID_USER);
+        given(urlService.retrieveUrlsByUserAfter(VALID_USER, URL_ID, 1)).willReturn(URL_SLICE);
+        given(urlMapper.toSliceResponse(URL_SLICE)).willReturn(SLICE_RESPONSE);
+
+        // WHEN
+        mockMvc.perform(get(CURSOR_LINKS_ENDPOINT)
+                        .param("cursor", NEXT_CURSOR)
+                        .param("size", "1")
+                        .header(AUTHORIZATION_HEADER, BEARER_PREFIX + VALID_TOKEN))
+                // THEN
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.nextCursor").value(NEXT_CURSOR))
+                .andExpect(jsonPath("$.content[0].id").value(URL_ID));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN malformed cursor
+            WHEN performing GET /api/v1/shortener/{userId}/links/cursor
+            THEN returns 400 without querying urls
+            """)
+    void getUrlsByCursorWhenCursorInvalid() throws Exception {
+        // GIVEN
+        given(userService.getUserReference(USER_ID)).willReturn(VALID_USER);
+
+        // WHEN
+        mockMvc.perform(get(CURSOR_LINKS_ENDPOINT)
+                        .param("cursor", "not a cursor")
+                        .header(AUTHORIZATION_HEADER, BEARER_PREFIX + VALID_TOKEN))
+                // THEN
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(urlService);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN url with rolled up redirects
+            WHEN performing GET /api/v1/shortener/{userId}/links/{id}/stats
+            THEN returns 200 with buckets of the requested granularity
+            """)
+    void getStatsValid() throws Exception {
+        // GIVEN
+        given(urlStatsService.getStats(USER_ID, URL_ID, StatsGranularity.DAY, 2))
+                .willReturn(STATS_RESPONSE);
+
+        // WHEN
+        mockMvc.perform(get(LINK_STATS_ENDPOINT)
+                        .param("granularity", "DAY")
+                        .param("buckets", "2")
+                        .header(AUTHORIZATION_HEADER, BEARER_PREFIX + VALID_TOKEN))
+                // THEN
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.urlId").value(URL_ID))
+                .andExpect(jsonPath("$.totalClicks").value(5))
+                .andExpect(jsonPath("$.buckets.length()").value(2))
+                .andExpect(jsonPath("$.buckets[1].clicks").value(5));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN more buckets than allowed
+            WHEN performing GET /api/v1/shortener/{userId}/links/{id}/stats
+            THEN returns 400 without reading statistics
+            """)
+    void getStatsWhenTooManyBuckets() throws Exception {
+        // GIVEN
+
+        // WHEN
+        mockMvc.perform(get(LINK_STATS_ENDPOINT)
+                        .param("buckets", String.valueOf(UrlController.MAX_STATS_BUCKETS + 1))
+                        .header(AUTHORIZATION_HEADER, BEARER_PREFIX + VALID_TOKEN))
+                // THEN
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(urlStatsService);
+    }
+
     @Test
     @DisplayName("""
             GIVEN existing url id
@@ -147,8 +384,7 @@ class UrlControllerTest {
             """)
     void deleteUrlValid() throws Exception {
         // GIVEN
-        given(userService.getUserById(USER_ID)).willReturn(VALID_USER);
-        doNothing().when(urlService).deleteUrl(URL_ID);
+        doNothing().when(urlService).deleteUrl(USER_ID, URL_ID);
 
         // WHEN
         MockHttpServletResponse actualResponse =
@@ -196,4 +432,16 @@ class UrlControllerTest {
     private <T> T fromJson(String string, Class<T> type) {
         return Objects.nonNull(string) ? objectMapper.readValue(string, type) : null;
     }
+
+    /**
+     * Resolves {@code @AuthenticationPrincipal} parameters, which the MVC slice does not
+     * register without the servlet security configuration.
+     */
+    @TestConfiguration
+    static class AuthenticationPrincipalConfig implements WebMvcConfigurer {
+        @Override
+        public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+            resolvers.add(new AuthenticationPrincipalArgumentResolver());
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package com.anton.tsarenko.shortener.url.counter;
+
+import java.util.Map;
+
+/**
+ * This class is a fixture for testing {@link RedirectCounter}.
+ */
+class RedirectCounterFixture {
+    /** First short code used in counter tests. */
+    static final String FIRST_SHORT_CODE = "first1";
+
+    /** Second short code used in counter tests. */
+    static final String SECOND_SHORT_CODE = "second2";
+
+    /** Flush batch size that splits two short codes into two batches. */
+    static final int SINGLE_CODE_FLUSH_SIZE = 1;
+
+    /** Flush batch size that fits all short codes into one batch. */
+    static final int LARGE_FLUSH_SIZE = 500;
+
+    /** Expected flushed deltas after two redirects by the first code and one by the second. */
+    static final Map<String, Long> EXPECTED_DELTAS = Map.of(
+            FIRST_SHORT_CODE, 2L,
+            SECOND_SHORT_CODE, 1L
+    );
+}
@@ -0,0 +1,168 @@
+package com.anton.tsarenko.shortener.url.counter;
+
+import static com.anton.tsarenko.shortener.url.counter.RedirectCounterFixture.EXPECTED_DELTAS;
+import static com.anton.tsarenko.shortener.url.counter.RedirectCounterFixture.FIRST_SHORT_CODE;
+import static com.anton.tsarenko.shortener.url.counter.RedirectCounterFixture.LARGE_FLUSH_SIZE;
+import static com.anton.tsarenko.shortener.url.counter.RedirectCounterFixture.SECOND_SHORT_CODE;
+import static com.anton.tsarenko.shortener.url.counter.RedirectCounterFixture.SINGLE_CODE_FLUSH_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.anton.tsarenko.shortener.url.repo.UrlRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+/**
+ * Unit tests for {@link RedirectCounter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class RedirectCounterTest {
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("""
+            GIVEN redirects registered for several short codes
+            WHEN flush is called
+            THEN accumulated counts are written in one batch
+            """)
+    void flushAccumulatedCounts() {
+        // GIVEN
+        RedirectCounter counter = new RedirectCounter(
+                urlRepository, true, LARGE_FLUSH_SIZE, meterRegistry);
+        counter.increment(FIRST_SHORT_CODE);
+        counter.increment(FIRST_SHORT_CODE);
+        counter.increment(SECOND_SHORT_CODE);
+
+        // WHEN
+        counter.flush();
+
+        // THEN
+        verify(urlRepository).incrementRedirectsCounts(EXPECTED_DELTAS);
+        assertThat(meterRegistry.get("shortener.redirects.flushed").counter().count())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN no registered redirects
+            WHEN flush is called
+            THEN repository is not called
+            """)
+    void flushNothingPending() {
+        // GIVEN
+        RedirectCounter counter = new RedirectCounter(
+                urlRepository, true, LARGE_FLUSH_SIZE, meterRegistry);
+
+        // WHEN
+        counter.flush();
+
+        // THEN
+        verify(urlRepository, never()).incrementRedirectsCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN more pending short codes than flush size
+            WHEN flush is called
+            THEN counts are written in several batches
+            """)
+    void flushSplitsIntoBatches() {
+        // GIVEN
+        RedirectCounter counter = new RedirectCounter(
+                urlRepository, true, SINGLE_CODE_FLUSH_SIZE, meterRegistry);
+        counter.increment(FIRST_SHORT_CODE);
+        counter.increment(SECOND_SHORT_CODE);
+
+        // WHEN
+        counter.flush();
+
+        // THEN
+        verify(urlRepository).incrementRedirectsCounts(Map.of(FIRST_SHORT_CODE, 1L));
+        verify(urlRepository).incrementRedirectsCounts(Map.of(SECOND_SHORT_CODE, 1L));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN flush failing with data access exception
+            WHEN flush is called again
+            THEN failed counts are retried together with new redirects
+            """)
+    void flushRetriesFailedBatch() {
+        // GIVEN
+        RedirectCounter counter = new RedirectCounter(
+                urlRepository, true, LARGE_FLUSH_SIZE, meterRegistry);
+        counter.increment(FIRST_SHORT_CODE);
+        willThrow(new QueryTimeoutException("timeout"))
+                .given(urlRepository).incrementRedirectsCounts(Map.of(FIRST_SHORT_CODE, 1L));
+        counter.flush();
+        counter.increment(FIRST_SHORT_CODE);
+
+        // WHEN
+        counter.flush();
+
+        // THEN
+        verify(urlRepository, times(1)).incrementRedirectsCounts(Map.of(FIRST_SHORT_CODE, 2L));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN several batches and transaction that cannot be created
+            WHEN flush is called again
+            THEN counts of every batch are kept and retried
+            """)
+    void flushKeepsCountsWhenTransactionCannotBeCreated() {
+        // GIVEN
+        RedirectCounter counter = new RedirectCounter(
+                urlRepository, true, SINGLE_CODE_FLUSH_SIZE, meterRegistry);
+        counter.increment(FIRST_SHORT_CODE);
+        counter.increment(SECOND_SHORT_CODE);
+        willThrow(new CannotCreateTransactionException("database is down"))
+                .given(urlRepository).incrementRedirectsCounts(anyMap());
+        counter.flush();
+        willDoNothing().given(urlRepository).incrementRedirectsCounts(anyMap());
+
+        // WHEN
+        counter.flush();
+
+        // THEN
+        verify(urlRepository, times(2)).incrementRedirectsCounts(Map.of(FIRST_SHORT_CODE, 1L));
+        verify(urlRepository, times(2)).incrementRedirectsCounts(Map.of(SECOND_SHORT_CODE, 1L));
+        assertThat(meterRegistry.get("shortener.redirects.flushed").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN pending redirects
+            WHEN application shuts down
+            THEN pending counts are flushed
+            """)
+    void flushOnShutdown() {
+        // GIVEN
+        RedirectCounter counter = new RedirectCounter(
+                urlRepository, true, LARGE_FLUSH_SIZE, meterRegistry);
+        counter.increment(SECOND_SHORT_CODE);
+
+        // WHEN
+        counter.flushOnShutdown();
+
+        // THEN
+        verify(urlRepository).incrementRedirectsCounts(Map.of(SECOND_SHORT_CODE, 1L));
+    }
+}
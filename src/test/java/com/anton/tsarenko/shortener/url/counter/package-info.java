@@ -0,0 +1,4 @@
+/**
+ * This package contains unit tests for URL redirect counters.
+ */
+package com.anton.tsarenko.shortener.url.counter;
@@ -0,0 +1,25 @@
+package com.anton.tsarenko.shortener.url.filter;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * This class is a fixture for testing {@link BloomFilter}.
+ */
+class BloomFilterFixture {
+    /** Number of elements the filter is sized for. */
+    static final int EXPECTED_INSERTIONS = 10_000;
+
+    /** Desired false positive probability. */
+    static final double FPP = 0.01;
+
+    /** Short codes added to the filter. */
+    static final List<String> ADDED_SHORT_CODES = IntStream.range(0, EXPECTED_INSERTIONS)
+            .mapToObj(i -> "in" + i)
+            .toList();
+
+    /** Short codes never added to the filter. */
+    static final List<String> UNKNOWN_SHORT_CODES = IntStream.range(0, EXPECTED_INSERTIONS)
+            .mapToObj(i -> "out" + i)
+            .toList();
+}
@@ -0,0 +1,59 @@
+package com.anton.tsarenko.shortener.url.filter;
+
+import static com.anton.tsarenko.shortener.url.filter.BloomFilterFixture.ADDED_SHORT_CODES;
+import static com.anton.tsarenko.shortener.url.filter.BloomFilterFixture.EXPECTED_INSERTIONS;
+import static com.anton.tsarenko.shortener.url.filter.BloomFilterFixture.FPP;
+import static com.anton.tsarenko.shortener.url.filter.BloomFilterFixture.UNKNOWN_SHORT_CODES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BloomFilter}.
+ */
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("""
+            GIVEN filter filled with expected number of short codes
+            WHEN checking added and unknown short codes
+            THEN all added codes are found and unknown codes are rejected at about desired rate
+            """)
+    void mightContainHasNoFalseNegativesAndBoundedFalsePositives() {
+        // GIVEN
+        BloomFilter filter = BloomFilter.create(EXPECTED_INSERTIONS, FPP);
+        ADDED_SHORT_CODES.forEach(filter::put);
+
+        // WHEN
+        boolean allAddedFound = ADDED_SHORT_CODES.stream().allMatch(filter::mightContain);
+        long falsePositives = UNKNOWN_SHORT_CODES.stream().filter(filter::mightContain).count();
+
+        // THEN
+        assertThat(allAddedFound).isTrue();
+        assertThat((double) falsePositives / UNKNOWN_SHORT_CODES.size()).isLessThan(FPP * 2);
+        assertThat(filter.expectedFpp()).isCloseTo(FPP, within(FPP / 2));
+        assertThat(filter.approximateElementCount())
+                .isCloseTo((long) EXPECTED_INSERTIONS, within(EXPECTED_INSERTIONS / 20L));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN empty filter
+            WHEN checking any short code
+            THEN short code is rejected and estimates are zero
+            """)
+    void emptyFilterRejectsEverything() {
+        // GIVEN
+        BloomFilter filter = BloomFilter.create(EXPECTED_INSERTIONS, FPP);
+
+        // WHEN
+        boolean found = filter.mightContain(UNKNOWN_SHORT_CODES.getFirst());
+
+        // THEN
+        assertThat(found).isFalse();
+        assertThat(filter.expectedFpp()).isZero();
+        assertThat(filter.approximateElementCount()).isZero();
+    }
+}
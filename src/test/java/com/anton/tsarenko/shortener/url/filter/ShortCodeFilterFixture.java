@@ -0,0 +1,21 @@
+package com.anton.tsarenko.shortener.url.filter;
+
+/**
+ * This class is a fixture for testing {@link ShortCodeFilter}.
+ */
+class ShortCodeFilterFixture {
+    /** Short code stored in the urls table. */
+    static final String STORED_SHORT_CODE = "stored1";
+
+    /** Short code created after the filter was built. */
+    static final String CREATED_SHORT_CODE = "created1";
+
+    /** Short code that does not exist. */
+    static final String UNKNOWN_SHORT_CODE = "unknown1";
+
+    /** Minimum number of short codes the filter is sized for. */
+    static final long EXPECTED_INSERTIONS = 1_000;
+
+    /** Desired false positive probability. */
+    static final double FPP = 0.001;
+}
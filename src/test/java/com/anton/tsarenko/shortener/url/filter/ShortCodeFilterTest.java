@@ -0,0 +1,130 @@
+package com.anton.tsarenko.shortener.url.filter;
+
+import static com.anton.tsarenko.shortener.url.filter.ShortCodeFilterFixture.CREATED_SHORT_CODE;
+import static com.anton.tsarenko.shortener.url.filter.ShortCodeFilterFixture.EXPECTED_INSERTIONS;
+import static com.anton.tsarenko.shortener.url.filter.ShortCodeFilterFixture.FPP;
+import static com.anton.tsarenko.shortener.url.filter.ShortCodeFilterFixture.STORED_SHORT_CODE;
+import static com.anton.tsarenko.shortener.url.filter.ShortCodeFilterFixture.UNKNOWN_SHORT_CODE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.anton.tsarenko.shortener.url.repo.UrlRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link ShortCodeFilter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ShortCodeFilterTest {
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("""
+            GIVEN filter built from stored short codes
+            WHEN a short code is created and lookups are made
+            THEN stored and created codes pass, unknown code is rejected and counted
+            """)
+    void mightContainAfterBuild() {
+        // GIVEN
+        ShortCodeFilter filter = new ShortCodeFilter(
+                urlRepository, true, EXPECTED_INSERTIONS, FPP, meterRegistry);
+        given(urlRepository.count()).willReturn(1L);
+        willAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(0);
+            consumer.accept(STORED_SHORT_CODE);
+            return null;
+        }).given(urlRepository).forEachShortCode(any());
+        filter.buildOnStartup();
+
+        // WHEN
+        filter.put(CREATED_SHORT_CODE);
+
+        // THEN
+        assertThat(filter.mightContain(STORED_SHORT_CODE)).isTrue();
+        assertThat(filter.mightContain(CREATED_SHORT_CODE)).isTrue();
+        assertThat(filter.mightContain(UNKNOWN_SHORT_CODE)).isFalse();
+        assertThat(filter.stats().approximateSize()).isEqualTo(2L);
+        assertThat(meterRegistry.get("shortener.short-code-filter.rejected").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN filter that has not been built yet
+            WHEN checking unknown short code
+            THEN short code is reported as possibly existing
+            """)
+    void mightContainBeforeBuild() {
+        // GIVEN
+        ShortCodeFilter filter = new ShortCodeFilter(
+                urlRepository, true, EXPECTED_INSERTIONS, FPP, meterRegistry);
+
+        // WHEN
+        boolean found = filter.mightContain(UNKNOWN_SHORT_CODE);
+
+        // THEN
+        assertThat(found).isTrue();
+        assertThat(filter.stats().ready()).isFalse();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN disabled filter
+            WHEN application is ready, a rebuild is requested and short codes are changed
+            THEN filter is never built and short code is reported as possibly existing
+            """)
+    void disabledFilterPassesEverything() {
+        // GIVEN
+        ShortCodeFilter filter = new ShortCodeFilter(
+                urlRepository, false, EXPECTED_INSERTIONS, FPP, meterRegistry);
+
+        // WHEN
+        filter.buildOnStartup();
+        filter.rebuild();
+        filter.put(CREATED_SHORT_CODE);
+        filter.markDeleted(CREATED_SHORT_CODE);
+
+        // THEN
+        assertThat(filter.mightContain(UNKNOWN_SHORT_CODE)).isTrue();
+        assertThat(filter.stats().ready()).isFalse();
+        assertThat(filter.stats().deletedSinceRebuild()).isZero();
+        verifyNoInteractions(urlRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN built filter and a deleted short code
+            WHEN filter is rebuilt
+            THEN deleted short code is rejected and deletion counter is reset
+            """)
+    void rebuildDropsDeletedShortCodes() {
+        // GIVEN
+        ShortCodeFilter filter = new ShortCodeFilter(
+                urlRepository, true, EXPECTED_INSERTIONS, FPP, meterRegistry);
+        given(urlRepository.count()).willReturn(0L);
+        filter.rebuild();
+        filter.put(CREATED_SHORT_CODE);
+        filter.markDeleted(CREATED_SHORT_CODE);
+        assertThat(filter.stats().deletedSinceRebuild()).isEqualTo(1L);
+
+        // WHEN
+        filter.rebuild();
+
+        // THEN
+        assertThat(filter.mightContain(CREATED_SHORT_CODE)).isFalse();
+        assertThat(filter.stats().deletedSinceRebuild()).isZero();
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * This package contains unit tests for short code filters.
+ */
+package com.anton.tsarenko.shortener.url.filter;
@@ -2,14 +2,18 @@ package com.anton.tsarenko.shortener.url.mapper.impl;
 
 import com.anton.tsarenko.shortener.auth.entity.User;
 import com.anton.tsarenko.shortener.url.dto.PageResponse;
+import com.anton.tsarenko.shortener.url.dto.SliceResponse;
 import com.anton.tsarenko.shortener.url.dto.UrlRequest;
 import com.anton.tsarenko.shortener.url.dto.UrlResponse;
 import com.anton.tsarenko.shortener.url.entity.Url;
+import com.anton.tsarenko.shortener.url.util.KeysetCursor;
 import java.time.Instant;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 /**
  * This class is a fixture for testing {@link UrlMapperImpl}.
@@ -84,4 +88,25 @@ class UrlMapperImplFixture {
             5L,
             3
     );
+
+    /** Slice object with further urls used in slice mapping tests. */
+    static final Slice<Url> URL_SLICE = new SliceImpl<>(
+            List.of(FIRST_URL, SECOND_URL),
+            PageRequest.of(0, 2),
+            true
+    );
+
+    /** Last slice object used in slice mapping tests. */
+    static final Slice<Url> LAST_URL_SLICE = new SliceImpl<>(
+            List.of(FIRST_URL),
+            PageRequest.of(0, 2),
+            false
+    );
+
+    /** Expected slice response pointing past the second URL. */
+    static final SliceResponse<UrlResponse> EXPECTED_SLICE_RESPONSE = new SliceResponse<>(
+            List.of(FIRST_URL_RESPONSE, SECOND_URL_RESPONSE),
+            2,
+            KeysetCursor.encode(11L)
+    );
 }
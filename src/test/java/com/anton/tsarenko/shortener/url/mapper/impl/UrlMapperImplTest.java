@@ -1,16 +1,21 @@
 package com.anton.tsarenko.shortener.url.mapper.impl;
 
 import static com.anton.tsarenko.shortener.url.mapper.impl.UrlMapperImplFixture.EXPECTED_PAGE_RESPONSE;
+import static com.anton.tsarenko.shortener.url.mapper.impl.UrlMapperImplFixture.EXPECTED_SLICE_RESPONSE;
 import static com.anton.tsarenko.shortener.url.mapper.impl.UrlMapperImplFixture.FIRST_URL;
 import static com.anton.tsarenko.shortener.url.mapper.impl.UrlMapperImplFixture.FIRST_URL_RESPONSE;
+import static com.anton.tsarenko.shortener.url.mapper.impl.UrlMapperImplFixture.LAST_URL_SLICE;
 import static com.anton.tsarenko.shortener.url.mapper.impl.UrlMapperImplFixture.URL_PAGE;
+import static com.anton.tsarenko.shortener.url.mapper.impl.UrlMapperImplFixture.URL_SLICE;
 import static com.anton.tsarenko.shortener.url.mapper.impl.UrlMapperImplFixture.VALID_URL_REQUEST;
 import static com.anton.tsarenko.shortener.url.mapper.impl.UrlMapperImplFixture.VALID_USER;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.anton.tsarenko.shortener.url.dto.PageResponse;
+import com.anton.tsarenko.shortener.url.dto.SliceResponse;
 import com.anton.tsarenko.shortener.url.dto.UrlResponse;
 import com.anton.tsarenko.shortener.url.entity.Url;
+import java.time.Instant;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -25,7 +30,7 @@ class UrlMapperImplTest {
     @DisplayName("""
             GIVEN valid UrlRequest and user
             WHEN toUrl is called
-            THEN maps request fields and user to Url entity
+            THEN maps request fields and user to Url entity with expiration in the future
             """)
     void toUrlValid() {
         // GIVEN
@@ -36,6 +41,7 @@ class UrlMapperImplTest {
         // THEN
         assertThat(actualUrl.getUser()).isEqualTo(VALID_USER);
         assertThat(actualUrl.getOriginalUrl()).isEqualTo(VALID_URL_REQUEST.originalUrl());
+        assertThat(actualUrl.getExpiredAt()).isAfter(Instant.now());
     }
 
     @Test
@@ -70,6 +76,39 @@ class UrlMapperImplTest {
         assertThat(actualResponse).isEqualTo(EXPECTED_PAGE_RESPONSE);
     }
 
+    @Test
+    @DisplayName("""
+            GIVEN slice with further url entities
+            WHEN toSliceResponse is called
+            THEN maps content and returns cursor of the last url
+            """)
+    void toSliceResponseWithNextSlice() {
+        // GIVEN
+
+        // WHEN
+        SliceResponse<UrlResponse> actualResponse = mapper.toSliceResponse(URL_SLICE);
+
+        // THEN
+        assertThat(actualResponse).isEqualTo(EXPECTED_SLICE_RESPONSE);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN last slice of url entities
+            WHEN toSliceResponse is called
+            THEN returns no next cursor
+            """)
+    void toSliceResponseLastSlice() {
+        // GIVEN
+
+        // WHEN
+        SliceResponse<UrlResponse> actualResponse = mapper.toSliceResponse(LAST_URL_SLICE);
+
+        // THEN
+        assertThat(actualResponse.content()).containsExactly(FIRST_URL_RESPONSE);
+        assertThat(actualResponse.nextCursor()).isNull();
+    }
+
     @Test
     @DisplayName("""
             GIVEN valid Url entity
@@ -0,0 +1,34 @@
+package com.anton.tsarenko.shortener.url.purge;
+
+import com.anton.tsarenko.shortener.url.dto.PurgedBatch;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * This class is a fixture for testing {@link ExpiredUrlPurger}.
+ */
+class ExpiredUrlPurgerFixture {
+    /** Maximum number of URLs removed in one batch. */
+    static final int BATCH_SIZE = 2;
+
+    /** Maximum number of batches removed in one run. */
+    static final int MAX_BATCHES_PER_RUN = 3;
+
+    /** Pause between batches short enough for tests. */
+    static final Duration BATCH_PAUSE = Duration.ZERO;
+
+    /** Full first batch. */
+    static final PurgedBatch FIRST_BATCH =
+            new PurgedBatch(BATCH_SIZE, Instant.parse("2026-01-01T00:00:00Z"), 10L);
+
+    /** Full second batch. */
+    static final PurgedBatch SECOND_BATCH =
+            new PurgedBatch(BATCH_SIZE, Instant.parse("2026-01-02T00:00:00Z"), 7L);
+
+    /** Last batch that is not full. */
+    static final PurgedBatch LAST_BATCH =
+            new PurgedBatch(1, Instant.parse("2026-01-03T00:00:00Z"), 12L);
+
+    /** Expiration date of the oldest expired URL left behind. */
+    static final Duration OLDEST_LEFT_AGE = Duration.ofHours(1);
+}
@@ -0,0 +1,140 @@
+package com.anton.tsarenko.shortener.url.purge;
+
+import static com.anton.tsarenko.shortener.url.purge.ExpiredUrlPurger.KEYSET_START;
+import static com.anton.tsarenko.shortener.url.purge.ExpiredUrlPurgerFixture.BATCH_PAUSE;
+import static com.anton.tsarenko.shortener.url.purge.ExpiredUrlPurgerFixture.BATCH_SIZE;
+import static com.anton.tsarenko.shortener.url.purge.ExpiredUrlPurgerFixture.FIRST_BATCH;
+import static com.anton.tsarenko.shortener.url.purge.ExpiredUrlPurgerFixture.LAST_BATCH;
+import static com.anton.tsarenko.shortener.url.purge.ExpiredUrlPurgerFixture.MAX_BATCHES_PER_RUN;
+import static com.anton.tsarenko.shortener.url.purge.ExpiredUrlPurgerFixture.OLDEST_LEFT_AGE;
+import static com.anton.tsarenko.shortener.url.purge.ExpiredUrlPurgerFixture.SECOND_BATCH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.anton.tsarenko.shortener.url.repo.UrlRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * Unit tests for {@link ExpiredUrlPurger}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ExpiredUrlPurgerTest {
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ExpiredUrlPurger purger(boolean enabled) {
+        return new ExpiredUrlPurger(urlRepository, enabled, true, BATCH_SIZE,
+                MAX_BATCHES_PER_RUN, BATCH_PAUSE, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN expired urls spanning several batches
+            WHEN purge is called
+            THEN removes batches in keyset order until a batch is not full and counts them
+            """)
+    void purgeWalksBatchesByKeyset() {
+        // GIVEN
+        given(urlRepository.purgeExpiredBatch(
+                any(Instant.class), eq(KEYSET_START), eq(0L), eq(BATCH_SIZE), eq(true)))
+                .willReturn(Optional.of(FIRST_BATCH));
+        given(urlRepository.purgeExpiredBatch(any(Instant.class), eq(FIRST_BATCH.lastExpiredAt()),
+                eq(FIRST_BATCH.lastId()), eq(BATCH_SIZE), eq(true)))
+                .willReturn(Optional.of(LAST_BATCH));
+        given(urlRepository.findOldestExpiredAt(any(Instant.class))).willReturn(Optional.empty());
+
+        // WHEN
+        purger(true).purge();
+
+        // THEN
+        verify(urlRepository, times(2))
+                .purgeExpiredBatch(any(Instant.class), any(Instant.class), anyLong(), anyInt(),
+                        anyBoolean());
+        assertThat(meterRegistry.get("shortener.urls.purged").tag("mode", "archive")
+                .counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("shortener.urls.purge.lag").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN more expired urls than one run may remove
+            WHEN purge is called
+            THEN stops after the maximum number of batches and publishes the lag of the rest
+            """)
+    void purgeStopsAfterMaxBatches() {
+        // GIVEN
+        given(urlRepository.purgeExpiredBatch(
+                any(Instant.class), any(Instant.class), anyLong(), anyInt(), anyBoolean()))
+                .willReturn(Optional.of(FIRST_BATCH), Optional.of(SECOND_BATCH),
+                        Optional.of(FIRST_BATCH), Optional.of(SECOND_BATCH));
+        given(urlRepository.findOldestExpiredAt(any(Instant.class)))
+                .willReturn(Optional.of(Instant.now().minus(OLDEST_LEFT_AGE)));
+
+        // WHEN
+        purger(true).purge();
+
+        // THEN
+        verify(urlRepository, times(MAX_BATCHES_PER_RUN))
+                .purgeExpiredBatch(any(Instant.class), any(Instant.class), anyLong(), anyInt(),
+                        anyBoolean());
+        assertThat(meterRegistry.get("shortener.urls.purge.lag").gauge().value())
+                .isGreaterThanOrEqualTo(OLDEST_LEFT_AGE.toSeconds());
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN batch removal failing with data access exception
+            WHEN purge is called
+            THEN ends the run without propagating the exception
+            """)
+    void purgeStopsOnFailure() {
+        // GIVEN
+        given(urlRepository.purgeExpiredBatch(
+                any(Instant.class), any(Instant.class), anyLong(), anyInt(), anyBoolean()))
+                .willThrow(new QueryTimeoutException("timeout"));
+
+        // WHEN
+        purger(true).purge();
+
+        // THEN
+        verify(urlRepository).purgeExpiredBatch(
+                any(Instant.class), any(Instant.class), anyLong(), anyInt(), anyBoolean());
+        assertThat(meterRegistry.get("shortener.urls.purged").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN disabled purge
+            WHEN purge is called
+            THEN nothing is removed
+            """)
+    void purgeDisabled() {
+        // GIVEN
+        ExpiredUrlPurger purger = purger(false);
+
+        // WHEN
+        purger.purge();
+
+        // THEN
+        verifyNoInteractions(urlRepository);
+    }
+}
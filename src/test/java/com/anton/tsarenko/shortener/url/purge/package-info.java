@@ -0,0 +1,4 @@
+/**
+ * This package contains unit tests for the expired URL purge job.
+ */
+package com.anton.tsarenko.shortener.url.purge;
@@ -0,0 +1,80 @@
+package com.anton.tsarenko.shortener.url.repo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.anton.tsarenko.shortener.AppLauncher;
+import com.anton.tsarenko.shortener.PostgresTestContainer;
+import com.anton.tsarenko.shortener.auth.entity.User;
+import com.anton.tsarenko.shortener.auth.repo.UsersRepository;
+import com.anton.tsarenko.shortener.url.dto.Click;
+import com.anton.tsarenko.shortener.url.dto.StatsBucket;
+import com.anton.tsarenko.shortener.url.entity.Url;
+import com.anton.tsarenko.shortener.url.util.StatsGranularity;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Integration tests for ClickRepository with real PostgreSQL via Testcontainers.
+ */
+@SpringBootTest(classes = AppLauncher.class)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.flyway.enabled=true")
+class ClickRepositoryIntegrationTest extends PostgresTestContainer {
+
+    @Autowired
+    private ClickRepository clickRepository;
+
+    @Autowired
+    private UrlRepository urlRepository;
+
+    @Autowired
+    private UsersRepository usersRepository;
+
+    @Test
+    @DisplayName("""
+            GIVEN clicks copied into Postgres container
+            WHEN rolling clicks up to the current time
+            THEN hourly and daily rollups hold the weighted clicks of the url
+            """)
+    void copyAndRollUpClicks() {
+        // GIVEN
+        User user = usersRepository.save(User.builder()
+                .username("it_" + UUID.randomUUID().toString().substring(0, 8))
+                .passwordHash("hash")
+                .build());
+        Url url = urlRepository.save(Url.builder()
+                .user(user)
+                .originalUrl("https://example.com/" + UUID.randomUUID())
+                .shortCode("clk" + UUID.randomUUID().toString().substring(0, 5))
+                .expiredAt(Instant.now().plus(10, ChronoUnit.DAYS))
+                .build());
+        Instant clickedAt = Instant.now().minusSeconds(1);
+        long copied = clickRepository.copyClicks(List.of(
+                new Click(url.getShortCode(), clickedAt, "https://ref.example", "ua", "h", 1),
+                new Click(url.getShortCode(), clickedAt, null, null, "h", 10)));
+        Instant hour = StatsGranularity.HOUR.bucketStart(clickedAt);
+        Instant day = StatsGranularity.DAY.bucketStart(clickedAt);
+
+        // WHEN
+        Instant rolledUpTo = clickRepository.rollUpClicks(Instant.now(), Duration.ofDays(3650));
+
+        // THEN
+        assertThat(copied).isEqualTo(2);
+        assertThat(rolledUpTo).isAfter(clickedAt);
+        assertThat(clickRepository.findStats(
+                url.getId(), StatsGranularity.HOUR, hour, hour.plus(Duration.ofHours(1))))
+                .containsExactly(new StatsBucket(hour, 11));
+        assertThat(clickRepository.findStats(
+                url.getId(), StatsGranularity.DAY, day, day.plus(Duration.ofDays(1))))
+                .containsExactly(new StatsBucket(day, 11));
+    }
+}
@@ -6,15 +6,21 @@ import com.anton.tsarenko.shortener.AppLauncher;
 import com.anton.tsarenko.shortener.PostgresTestContainer;
 import com.anton.tsarenko.shortener.auth.entity.User;
 import com.anton.tsarenko.shortener.auth.repo.UsersRepository;
+import com.anton.tsarenko.shortener.url.dto.PurgedBatch;
+import com.anton.tsarenko.shortener.url.dto.ResolvedUrl;
 import com.anton.tsarenko.shortener.url.entity.Url;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
@@ -32,6 +38,9 @@ class UrlRepositoryIntegrationTest extends PostgresTestContainer {
     @Autowired
     private UsersRepository usersRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @DisplayName("""
             GIVEN persisted url in Postgres container
@@ -61,4 +70,271 @@ class UrlRepositoryIntegrationTest extends PostgresTestContainer {
         assertThat(found.orElseThrow().getOriginalUrl()).isEqualTo(url.getOriginalUrl());
         assertThat(found.orElseThrow().getUser().getId()).isEqualTo(user.getId());
     }
+
+    @Test
+    @DisplayName("""
+            GIVEN persisted not expired and expired urls in Postgres container
+            WHEN incrementing redirects count by short code
+            THEN not expired url is counted and resolved, expired url is not resolved
+            """)
+    void incrementRedirectsCountAndGetOriginalUrlHonorsExpiry() {
+        // GIVEN
+        User user = usersRepository.save(User.builder()
+                .username("it_" + UUID.randomUUID().toString().substring(0, 8))
+                .passwordHash("hash")
+                .build());
+        Url activeUrl = urlRepository.save(Url.builder()
+                .user(user)
+                .originalUrl("https://example.com/" + UUID.randomUUID())
+                .shortCode("act123xy")
+                .expiredAt(Instant.now().plus(10, ChronoUnit.DAYS))
+                .build());
+        urlRepository.save(Url.builder()
+                .user(user)
+                .originalUrl("https://example.com/" + UUID.randomUUID())
+                .shortCode("exp123xy")
+                .expiredAt(Instant.now().minus(1, ChronoUnit.DAYS))
+                .build());
+
+        // WHEN
+        urlRepository.incrementRedirectsCountAndGetOriginalUrl("act123xy");
+        Optional<String> resolved =
+                urlRepository.incrementRedirectsCountAndGetOriginalUrl("act123xy");
+        Optional<String> expired =
+                urlRepository.incrementRedirectsCountAndGetOriginalUrl("exp123xy");
+
+        // THEN
+        assertThat(resolved).contains(activeUrl.getOriginalUrl());
+        assertThat(expired).isEmpty();
+        assertThat(urlRepository.findByShortCode("act123xy").orElseThrow().getRedirectsCount())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN persisted url in Postgres container
+            WHEN finding resolution by short code
+            THEN repository returns only original url and expiration date
+            """)
+    void findResolvedByShortCodeReturnsProjection() {
+        // GIVEN
+        User user = usersRepository.save(User.builder()
+                .username("it_" + UUID.randomUUID().toString().substring(0, 8))
+                .passwordHash("hash")
+                .build());
+        Url url = urlRepository.save(Url.builder()
+                .user(user)
+                .originalUrl("https://example.com/" + UUID.randomUUID())
+                .shortCode("prj123xy")
+                .expiredAt(Instant.now().plus(10, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MILLIS))
+                .build());
+
+        // WHEN
+        Optional<ResolvedUrl> found = urlRepository.findResolvedByShortCode("prj123xy");
+
+        // THEN
+        assertThat(found).contains(new ResolvedUrl(url.getOriginalUrl(), url.getExpiredAt()));
+        assertThat(urlRepository.findResolvedByShortCode("unknown1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN persisted expired url in Postgres container
+            WHEN finding resolution by short code
+            THEN repository returns empty
+            """)
+    void findResolvedByShortCodeSkipsExpiredUrl() {
+        // GIVEN
+        User user = usersRepository.save(User.builder()
+                .username("it_" + UUID.randomUUID().toString().substring(0, 8))
+                .passwordHash("hash")
+                .build());
+        urlRepository.save(Url.builder()
+                .user(user)
+                .originalUrl("https://example.com/" + UUID.randomUUID())
+                .shortCode("exr123xy")
+                .expiredAt(Instant.now().minus(1, ChronoUnit.MINUTES))
+                .build());
+
+        // WHEN
+        Optional<ResolvedUrl> found = urlRepository.findResolvedByShortCode("exr123xy");
+
+        // THEN
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN persisted expired and not expired urls in Postgres container
+            WHEN purging expired urls in batches with archiving
+            THEN only expired urls are removed and copied to the archive
+            """)
+    void purgeExpiredBatchArchivesOnlyExpiredUrls() {
+        // GIVEN
+        User user = usersRepository.save(User.builder()
+                .username("it_" + UUID.randomUUID().toString().substring(0, 8))
+                .passwordHash("hash")
+                .build());
+        Instant cutoff = Instant.now().minus(28, ChronoUnit.DAYS);
+        urlRepository.saveAll(List.of(
+                Url.builder().user(user).originalUrl("https://example.com/old1")
+                        .shortCode("pur1xy12").expiredAt(cutoff.minus(2, ChronoUnit.DAYS)).build(),
+                Url.builder().user(user).originalUrl("https://example.com/old2")
+                        .shortCode("pur2xy12").expiredAt(cutoff.minus(1, ChronoUnit.DAYS)).build(),
+                Url.builder().user(user).originalUrl("https://example.com/live")
+                        .shortCode("pur3xy12").expiredAt(cutoff.plus(1, ChronoUnit.DAYS)).build()));
+
+        // WHEN
+        Optional<PurgedBatch> first =
+                urlRepository.purgeExpiredBatch(cutoff, Instant.EPOCH, 0, 1, true);
+        Optional<PurgedBatch> second = urlRepository.purgeExpiredBatch(cutoff,
+                first.orElseThrow().lastExpiredAt(), first.orElseThrow().lastId(), 1, true);
+        Optional<PurgedBatch> third = urlRepository.purgeExpiredBatch(cutoff,
+                second.orElseThrow().lastExpiredAt(), second.orElseThrow().lastId(), 1, true);
+
+        // THEN
+        assertThat(first).get().extracting(PurgedBatch::count).isEqualTo(1);
+        assertThat(second).get().extracting(PurgedBatch::count).isEqualTo(1);
+        assertThat(third).isEmpty();
+        assertThat(urlRepository.findByShortCode("pur1xy12")).isEmpty();
+        assertThat(urlRepository.findByShortCode("pur2xy12")).isEmpty();
+        assertThat(urlRepository.findByShortCode("pur3xy12")).isPresent();
+        assertThat(urlRepository.findOldestExpiredAt(cutoff)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN persisted url without a counter row in Postgres container
+            WHEN resolving its short code twice
+            THEN first redirect inserts the counter row and second one increments it
+            """)
+    void incrementRedirectsCountAndGetOriginalUrlUpsertsCounter() {
+        // GIVEN
+        Url url = urlRepository.save(Url.builder()
+                .user(saveUser())
+                .originalUrl("https://example.com/" + UUID.randomUUID())
+                .shortCode("cnt1xy12")
+                .expiredAt(Instant.now().plus(10, ChronoUnit.DAYS))
+                .build());
+        Long rowsBefore = countCounterRows(url.getId());
+
+        // WHEN
+        urlRepository.incrementRedirectsCountAndGetOriginalUrl("cnt1xy12");
+        Long afterFirstHit = counterOf(url.getId());
+        urlRepository.incrementRedirectsCountAndGetOriginalUrl("cnt1xy12");
+
+        // THEN
+        assertThat(rowsBefore).isZero();
+        assertThat(afterFirstHit).isEqualTo(1L);
+        assertThat(counterOf(url.getId())).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN persisted urls without counter rows in Postgres container
+            WHEN flushing redirect count deltas twice
+            THEN first flush inserts counter rows, second one adds to them and entity reads them
+            """)
+    void incrementRedirectsCountsUpsertsCounters() {
+        // GIVEN
+        User user = saveUser();
+        Url first = urlRepository.save(Url.builder()
+                .user(user)
+                .originalUrl("https://example.com/" + UUID.randomUUID())
+                .shortCode("cnt2xy12")
+                .expiredAt(Instant.now().plus(10, ChronoUnit.DAYS))
+                .build());
+        final Url second = urlRepository.save(Url.builder()
+                .user(user)
+                .originalUrl("https://example.com/" + UUID.randomUUID())
+                .shortCode("cnt3xy12")
+                .expiredAt(Instant.now().plus(10, ChronoUnit.DAYS))
+                .build());
+
+        // WHEN
+        urlRepository.incrementRedirectsCounts(Map.of("cnt2xy12", 3L, "cnt3xy12", 1L));
+        Long afterFirstFlush = counterOf(first.getId());
+        urlRepository.incrementRedirectsCounts(Map.of("cnt2xy12", 2L, "unknown1", 7L));
+
+        // THEN
+        assertThat(afterFirstFlush).isEqualTo(3L);
+        assertThat(counterOf(first.getId())).isEqualTo(5L);
+        assertThat(counterOf(second.getId())).isEqualTo(1L);
+        assertThat(urlRepository.findByShortCode("cnt2xy12").orElseThrow().getRedirectsCount())
+                .isEqualTo(5L);
+        assertThat(urlRepository.findByShortCode("cnt3xy12").orElseThrow().getRedirectsCount())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN persisted urls of a user with and without redirects in Postgres container
+            WHEN streaming urls of the user for export
+            THEN every url carries its redirect count from url_counters or zero
+            """)
+    void forEachUrlByUserCarriesRedirectsCount() {
+        // GIVEN
+        User user = saveUser();
+        urlRepository.saveAll(List.of(
+                Url.builder().user(user).originalUrl("https://example.com/hit")
+                        .shortCode("exp1xy12")
+                        .expiredAt(Instant.now().plus(1, ChronoUnit.DAYS)).build(),
+                Url.builder().user(user).originalUrl("https://example.com/idle")
+                        .shortCode("exp2xy12")
+                        .expiredAt(Instant.now().plus(1, ChronoUnit.DAYS)).build()));
+        urlRepository.incrementRedirectsCounts(Map.of("exp1xy12", 4L));
+        Map<String, Long> counts = new HashMap<>();
+
+        // WHEN
+        urlRepository.forEachUrlByUser(user.getId(), 1,
+                url -> counts.put(url.getShortCode(), url.getRedirectsCount()));
+
+        // THEN
+        assertThat(counts).containsExactlyInAnyOrderEntriesOf(
+                Map.of("exp1xy12", 4L, "exp2xy12", 0L));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN expired url with counted redirects in Postgres container
+            WHEN purging it with archiving
+            THEN archived row carries the redirect count and the counter row is removed
+            """)
+    void purgeExpiredBatchArchivesRedirectsCount() {
+        // GIVEN
+        Instant cutoff = Instant.now().minus(59, ChronoUnit.DAYS);
+        Url url = urlRepository.save(Url.builder()
+                .user(saveUser())
+                .originalUrl("https://example.com/" + UUID.randomUUID())
+                .shortCode("arc1xy12")
+                .expiredAt(cutoff.minus(1, ChronoUnit.DAYS))
+                .build());
+        urlRepository.incrementRedirectsCounts(Map.of("arc1xy12", 6L));
+
+        // WHEN
+        urlRepository.purgeExpiredBatch(cutoff, Instant.EPOCH, 0, 10, true);
+
+        // THEN
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT redirects_count FROM urls_archive WHERE id = ?", Long.class, url.getId()))
+                .isEqualTo(6L);
+        assertThat(countCounterRows(url.getId())).isZero();
+    }
+
+    private User saveUser() {
+        return usersRepository.save(User.builder()
+                .username("it_" + UUID.randomUUID().toString().substring(0, 8))
+                .passwordHash("hash")
+                .build());
+    }
+
+    private Long counterOf(Long urlId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT redirects_count FROM url_counters WHERE url_id = ?", Long.class, urlId);
+    }
+
+    private Long countCounterRows(Long urlId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM url_counters WHERE url_id = ?", Long.class, urlId);
+    }
 }
@@ -0,0 +1,26 @@
+package com.anton.tsarenko.shortener.url.repo.impl;
+
+import com.anton.tsarenko.shortener.url.dto.Click;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * This class is a fixture for testing {@link ClickRepositoryImpl}.
+ */
+class ClickRepositoryImplFixture {
+    /** Time of the clicks. */
+    static final Instant CLICKED_AT = Instant.parse("2026-10-18T10:15:30.250Z");
+
+    /** Clicks with absent, empty, quoted and NUL carrying fields. */
+    static final List<Click> CLICKS = List.of(
+            new Click("go1234", CLICKED_AT, null, "", "aGFzaA", 1),
+            new Click("go1234", CLICKED_AT, "https://a.example/?q=\"x\",y", "ua\0bot",
+                    "aGFzaA", 10)
+    );
+
+    /** Expected CSV rows of the clicks. */
+    static final String EXPECTED_CSV =
+            "\"go1234\",2026-10-18T10:15:30.250Z,,\"\",\"aGFzaA\",1\n"
+                    + "\"go1234\",2026-10-18T10:15:30.250Z,"
+                    + "\"https://a.example/?q=\"\"x\"\",y\",\"uabot\",\"aGFzaA\",10\n";
+}
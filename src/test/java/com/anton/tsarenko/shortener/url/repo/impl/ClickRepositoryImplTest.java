@@ -0,0 +1,30 @@
+package com.anton.tsarenko.shortener.url.repo.impl;
+
+import static com.anton.tsarenko.shortener.url.repo.impl.ClickRepositoryImplFixture.CLICKS;
+import static com.anton.tsarenko.shortener.url.repo.impl.ClickRepositoryImplFixture.EXPECTED_CSV;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ClickRepositoryImpl}.
+ */
+class ClickRepositoryImplTest {
+
+    @Test
+    @DisplayName("""
+            GIVEN clicks with absent, empty, quoted and NUL carrying fields
+            WHEN clicks are formatted for COPY
+            THEN absent fields are unquoted, quotes are doubled and NUL is dropped
+            """)
+    void toCsvEscapesFields() {
+        // GIVEN
+
+        // WHEN
+        String csv = ClickRepositoryImpl.toCsv(CLICKS);
+
+        // THEN
+        assertThat(csv).isEqualTo(EXPECTED_CSV);
+    }
+}
@@ -0,0 +1,28 @@
+package com.anton.tsarenko.shortener.url.repo.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class is a fixture for testing {@link UrlRepositoryCustomImpl}.
+ */
+class UrlRepositoryCustomImplFixture {
+    /** Expected statement used to add redirect deltas to the narrow counters table. */
+    static final String INCREMENT_REDIRECTS_COUNT_SQL =
+            "INSERT INTO url_counters (url_id, redirects_count) "
+                    + "SELECT id, ? FROM urls WHERE short_code = ? "
+                    + "ON CONFLICT (url_id) DO UPDATE SET redirects_count = "
+                    + "url_counters.redirects_count + EXCLUDED.redirects_count";
+
+    /** Redirect deltas keyed by short code. */
+    static final Map<String, Long> DELTAS = new LinkedHashMap<>(Map.of("first1", 2L));
+
+    /** Redirect deltas keyed by short code, in reverse short code order. */
+    static final Map<String, Long> UNORDERED_DELTAS = new LinkedHashMap<>();
+
+    static {
+        UNORDERED_DELTAS.put("third3", 1L);
+        UNORDERED_DELTAS.put("first1", 2L);
+        UNORDERED_DELTAS.put("second2", 3L);
+    }
+}
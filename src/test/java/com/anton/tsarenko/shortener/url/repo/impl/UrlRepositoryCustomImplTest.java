@@ -0,0 +1,80 @@
+package com.anton.tsarenko.shortener.url.repo.impl;
+
+import static com.anton.tsarenko.shortener.url.repo.impl.UrlRepositoryCustomImplFixture.DELTAS;
+import static com.anton.tsarenko.shortener.url.repo.impl.UrlRepositoryCustomImplFixture.INCREMENT_REDIRECTS_COUNT_SQL;
+import static com.anton.tsarenko.shortener.url.repo.impl.UrlRepositoryCustomImplFixture.UNORDERED_DELTAS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Unit tests for {@link UrlRepositoryCustomImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+class UrlRepositoryCustomImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> batchArgsCaptor;
+
+    @InjectMocks
+    private UrlRepositoryCustomImpl repository;
+
+    @Test
+    @DisplayName("""
+            GIVEN redirect deltas keyed by short code
+            WHEN incrementRedirectsCounts is called
+            THEN executes one batched update with delta and short code arguments
+            """)
+    void incrementRedirectsCountsValid() {
+        // GIVEN
+
+        // WHEN
+        repository.incrementRedirectsCounts(DELTAS);
+
+        // THEN
+        verify(jdbcTemplate).batchUpdate(
+                eq(INCREMENT_REDIRECTS_COUNT_SQL),
+                batchArgsCaptor.capture()
+        );
+        assertThat(batchArgsCaptor.getValue())
+                .containsExactly(new Object[] {2L, "first1"});
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN redirect deltas not ordered by short code
+            WHEN incrementRedirectsCounts is called
+            THEN batch arguments are ordered by short code
+            """)
+    void incrementRedirectsCountsOrdersByShortCode() {
+        // GIVEN
+
+        // WHEN
+        repository.incrementRedirectsCounts(UNORDERED_DELTAS);
+
+        // THEN
+        verify(jdbcTemplate).batchUpdate(
+                eq(INCREMENT_REDIRECTS_COUNT_SQL),
+                batchArgsCaptor.capture()
+        );
+        assertThat(batchArgsCaptor.getValue())
+                .containsExactly(
+                        new Object[] {2L, "first1"},
+                        new Object[] {3L, "second2"},
+                        new Object[] {1L, "third3"});
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * This package contains unit tests for JDBC implementations of custom URL repository operations.
+ */
+package com.anton.tsarenko.shortener.url.repo.impl;
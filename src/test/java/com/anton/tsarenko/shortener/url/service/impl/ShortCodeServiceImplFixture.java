@@ -0,0 +1,12 @@
+package com.anton.tsarenko.shortener.url.service.impl;
+
+/**
+ * This class is a fixture for testing {@link ShortCodeServiceImpl}.
+ */
+class ShortCodeServiceImplFixture {
+    /** Value taken from the short code sequence. */
+    static final long SEQUENCE_VALUE = 42L;
+
+    /** Allowed characters in generated short codes. */
+    static final String SHORT_CODE_REGEX = "^[A-Za-z0-9]{6,8}$";
+}
@@ -0,0 +1,90 @@
+package com.anton.tsarenko.shortener.url.service.impl;
+
+import static com.anton.tsarenko.shortener.url.service.impl.ShortCodeServiceImplFixture.SEQUENCE_VALUE;
+import static com.anton.tsarenko.shortener.url.service.impl.ShortCodeServiceImplFixture.SHORT_CODE_REGEX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.anton.tsarenko.shortener.url.allocator.ShortCodeBlockAllocator;
+import com.anton.tsarenko.shortener.url.repo.UrlRepository;
+import com.anton.tsarenko.shortener.url.util.ShortCodeStrategy;
+import com.anton.tsarenko.shortener.url.util.ShortUrlGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link ShortCodeServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ShortCodeServiceImplTest {
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    @Mock
+    private ShortCodeBlockAllocator blockAllocator;
+
+    @Test
+    @DisplayName("""
+            GIVEN sequence strategy
+            WHEN nextShortCode is called
+            THEN derives short code from the next sequence value without existence check
+            """)
+    void nextShortCodeFromSequence() {
+        // GIVEN
+        ShortCodeServiceImpl service =
+                new ShortCodeServiceImpl(urlRepository, blockAllocator, ShortCodeStrategy.SEQUENCE);
+        given(urlRepository.nextShortCodeSequenceValue()).willReturn(SEQUENCE_VALUE);
+
+        // WHEN
+        String shortCode = service.nextShortCode();
+
+        // THEN
+        assertThat(shortCode).isEqualTo(ShortUrlGenerator.generateShortCode(SEQUENCE_VALUE));
+        verify(urlRepository).nextShortCodeSequenceValue();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN random strategy
+            WHEN nextShortCode is called
+            THEN generates random short code without database queries
+            """)
+    void nextShortCodeRandomWithoutExistenceCheck() {
+        // GIVEN
+        ShortCodeServiceImpl service =
+                new ShortCodeServiceImpl(urlRepository, blockAllocator, ShortCodeStrategy.RANDOM);
+
+        // WHEN
+        String shortCode = service.nextShortCode();
+
+        // THEN
+        assertThat(shortCode).matches(SHORT_CODE_REGEX);
+        verifyNoInteractions(urlRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN block strategy
+            WHEN nextShortCode is called
+            THEN derives short code from the locally reserved block without database queries
+            """)
+    void nextShortCodeFromBlock() {
+        // GIVEN
+        ShortCodeServiceImpl service =
+                new ShortCodeServiceImpl(urlRepository, blockAllocator, ShortCodeStrategy.BLOCK);
+        given(blockAllocator.nextValue()).willReturn(SEQUENCE_VALUE);
+
+        // WHEN
+        String shortCode = service.nextShortCode();
+
+        // THEN
+        assertThat(shortCode).isEqualTo(ShortUrlGenerator.generateShortCode(SEQUENCE_VALUE));
+        verifyNoInteractions(urlRepository);
+    }
+}
@@ -0,0 +1,46 @@
+package com.anton.tsarenko.shortener.url.service.impl;
+
+import com.anton.tsarenko.shortener.url.entity.Url;
+import java.time.Instant;
+
+/**
+ * This class is a fixture for testing {@link UrlExportServiceImpl}.
+ */
+class UrlExportServiceImplFixture {
+    /** ID of the user whose URLs are exported. */
+    static final Long USER_ID = 1L;
+
+    /** Number of rows fetched from the cursor at once. */
+    static final int FETCH_SIZE = 100;
+
+    /** Exported URL with a comma and a quote in the original URL. */
+    static final Url EXPORTED_URL = Url.builder()
+            .id(7L)
+            .originalUrl("https://example.com/q?a=1,b=\"2\"")
+            .shortCode("abc123xy")
+            .redirectsCount(5L)
+            .expiredAt(Instant.parse("2030-01-01T00:00:00Z"))
+            .createdAt(Instant.parse("2026-01-01T00:00:00Z"))
+            .build();
+
+    /** Expected CSV export of the URL. */
+    static final String EXPECTED_CSV = """
+            id,originalUrl,shortCode,redirectsCount,expiredAt,createdAt
+            7,"https://example.com/q?a=1,b=""2\"\"\",abc123xy,5,2030-01-01T00:00:00Z,\
+            2026-01-01T00:00:00Z
+            """;
+
+    /** Exported URL with a bare carriage return in the original URL. */
+    static final Url CARRIAGE_RETURN_URL = Url.builder()
+            .id(8L)
+            .originalUrl("https://example.com/a\rb")
+            .shortCode("def456zw")
+            .redirectsCount(0L)
+            .expiredAt(Instant.parse("2030-01-01T00:00:00Z"))
+            .createdAt(Instant.parse("2026-01-01T00:00:00Z"))
+            .build();
+
+    /** Expected CSV row of the URL with a carriage return. */
+    static final String CARRIAGE_RETURN_ROW =
+            "8,\"https://example.com/a\rb\",def456zw,0,2030-01-01T00:00:00Z,2026-01-01T00:00:00Z";
+}
@@ -0,0 +1,113 @@
+package com.anton.tsarenko.shortener.url.service.impl;
+
+import static com.anton.tsarenko.shortener.url.service.impl.UrlExportServiceImplFixture.CARRIAGE_RETURN_ROW;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlExportServiceImplFixture.CARRIAGE_RETURN_URL;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlExportServiceImplFixture.EXPECTED_CSV;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlExportServiceImplFixture.EXPORTED_URL;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlExportServiceImplFixture.FETCH_SIZE;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlExportServiceImplFixture.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+
+import com.anton.tsarenko.shortener.url.entity.Url;
+import com.anton.tsarenko.shortener.url.mapper.impl.UrlMapperImpl;
+import com.anton.tsarenko.shortener.url.repo.UrlRepository;
+import com.anton.tsarenko.shortener.url.util.UrlFileFormat;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Unit tests for {@link UrlExportServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+class UrlExportServiceImplTest {
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    private UrlExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new UrlExportServiceImpl(
+                urlRepository, new UrlMapperImpl(), jsonMapper, FETCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN user url streamed from the cursor
+            WHEN exportUrls is called with NDJSON format
+            THEN writes one JSON object per url
+            """)
+    void exportUrlsAsNdjson() {
+        // GIVEN
+        streamUrl(EXPORTED_URL);
+
+        // WHEN
+        exportService.exportUrls(USER_ID, UrlFileFormat.NDJSON, outputStream);
+
+        // THEN
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(1);
+        assertThat(jsonMapper.readTree(lines[0]).get("shortCode").asString())
+                .isEqualTo(EXPORTED_URL.getShortCode());
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN user url streamed from the cursor
+            WHEN exportUrls is called with CSV format
+            THEN writes header and escaped url row
+            """)
+    void exportUrlsAsCsv() {
+        // GIVEN
+        streamUrl(EXPORTED_URL);
+
+        // WHEN
+        exportService.exportUrls(USER_ID, UrlFileFormat.CSV, outputStream);
+
+        // THEN
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(EXPECTED_CSV);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN user url with a bare carriage return in the original URL
+            WHEN exportUrls is called with CSV format
+            THEN the field is quoted so the row is not split
+            """)
+    void exportUrlsAsCsvQuotesCarriageReturn() {
+        // GIVEN
+        streamUrl(CARRIAGE_RETURN_URL);
+
+        // WHEN
+        exportService.exportUrls(USER_ID, UrlFileFormat.CSV, outputStream);
+
+        // THEN
+        assertThat(outputStream.toString(StandardCharsets.UTF_8).split("\n"))
+                .hasSize(2)
+                .endsWith(CARRIAGE_RETURN_ROW);
+    }
+
+    private void streamUrl(Url url) {
+        willAnswer(invocation -> {
+            Consumer<Url> consumer = invocation.getArgument(2);
+            consumer.accept(url);
+            return null;
+        }).given(urlRepository).forEachUrlByUser(eq(USER_ID), eq(FETCH_SIZE), any());
+    }
+}
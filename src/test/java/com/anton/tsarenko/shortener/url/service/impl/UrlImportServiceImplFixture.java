@@ -0,0 +1,49 @@
+package com.anton.tsarenko.shortener.url.service.impl;
+
+import com.anton.tsarenko.shortener.auth.entity.User;
+
+/**
+ * This class is a fixture for testing {@link UrlImportServiceImpl}.
+ */
+class UrlImportServiceImplFixture {
+    /** Number of URLs committed in one batch. */
+    static final int BATCH_SIZE = 2;
+
+    /** Maximum number of errors included in the report. */
+    static final int MAX_REPORTED_ERRORS = 1;
+
+    /** Owner of imported URLs. */
+    static final User VALID_USER = User.builder()
+            .id(1L)
+            .username("ValidUser11")
+            .passwordHash("hash")
+            .build();
+
+    /** NDJSON body with three valid lines, one invalid URL, one malformed line and a blank. */
+    static final String NDJSON_BODY = """
+            {"originalUrl":"https://example.com/1"}
+            {"originalUrl":"not a url"}
+            {"originalUrl":"https://example.com/2"}
+
+            {broken
+            {"originalUrl":"https://example.com/3"}
+            """;
+
+    /** CSV body with header, quoted field containing a comma and a plain field. */
+    static final String CSV_BODY = """
+            originalUrl,comment
+            "https://example.com/q?a=1,b=2",first
+            https://example.com/plain
+            """;
+
+    /** URL from the quoted CSV field. */
+    static final String QUOTED_CSV_URL = "https://example.com/q?a=1,b=2";
+
+    /** URL from the plain CSV field. */
+    static final String PLAIN_CSV_URL = "https://example.com/plain";
+
+    /** NDJSON body with an over-long line between two valid lines. */
+    static final String OVER_LONG_BODY = "{\"originalUrl\":\"https://example.com/1\"}\n"
+            + "{\"originalUrl\":\"https://example.com/" + "a".repeat(10_000) + "\"}\n"
+            + "{\"originalUrl\":\"https://example.com/2\"}\n";
+}
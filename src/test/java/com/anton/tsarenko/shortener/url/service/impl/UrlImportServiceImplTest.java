@@ -0,0 +1,165 @@
+package com.anton.tsarenko.shortener.url.service.impl;
+
+import static com.anton.tsarenko.shortener.url.service.impl.UrlImportServiceImplFixture.BATCH_SIZE;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlImportServiceImplFixture.CSV_BODY;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlImportServiceImplFixture.MAX_REPORTED_ERRORS;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlImportServiceImplFixture.NDJSON_BODY;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlImportServiceImplFixture.OVER_LONG_BODY;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlImportServiceImplFixture.PLAIN_CSV_URL;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlImportServiceImplFixture.QUOTED_CSV_URL;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlImportServiceImplFixture.VALID_USER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.anton.tsarenko.shortener.url.dto.ImportReport;
+import com.anton.tsarenko.shortener.url.entity.Url;
+import com.anton.tsarenko.shortener.url.mapper.impl.UrlMapperImpl;
+import com.anton.tsarenko.shortener.url.service.UrlService;
+import com.anton.tsarenko.shortener.url.util.UrlFileFormat;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Unit tests for {@link UrlImportServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+class UrlImportServiceImplTest {
+
+    @Mock
+    private UrlService urlService;
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private final List<List<String>> committedBatches = new ArrayList<>();
+
+    private UrlImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new UrlImportServiceImpl(
+                urlService,
+                new UrlMapperImpl(),
+                validator,
+                JsonMapper.builder().build(),
+                BATCH_SIZE,
+                MAX_REPORTED_ERRORS
+        );
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN NDJSON body with valid, invalid, malformed and blank lines
+            WHEN importUrls is called
+            THEN valid lines are created in fixed-size batches and errors are capped
+            """)
+    void importUrlsFromNdjson() {
+        // GIVEN
+        captureBatches();
+
+        // WHEN
+        ImportReport report = importService.importUrls(
+                VALID_USER, new StringReader(NDJSON_BODY), UrlFileFormat.NDJSON);
+
+        // THEN
+        assertThat(committedBatches).containsExactly(
+                List.of("https://example.com/1", "https://example.com/2"),
+                List.of("https://example.com/3"));
+        assertThat(report.linesRead()).isEqualTo(5L);
+        assertThat(report.imported()).isEqualTo(3L);
+        assertThat(report.failed()).isEqualTo(2L);
+        assertThat(report.batches()).isEqualTo(2);
+        assertThat(report.errors()).containsExactly(
+                new ImportReport.ImportError(2, "originalUrl: Must be a valid URL"));
+        assertThat(report.errorsTruncated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN CSV body with header and quoted field
+            WHEN importUrls is called
+            THEN header is skipped and first column of every line is created
+            """)
+    void importUrlsFromCsv() {
+        // GIVEN
+        captureBatches();
+
+        // WHEN
+        ImportReport report = importService.importUrls(
+                VALID_USER, new StringReader(CSV_BODY), UrlFileFormat.CSV);
+
+        // THEN
+        assertThat(committedBatches).containsExactly(List.of(QUOTED_CSV_URL, PLAIN_CSV_URL));
+        assertThat(report.imported()).isEqualTo(2L);
+        assertThat(report.failed()).isZero();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN batch creation failing in the database
+            WHEN importUrls is called
+            THEN the whole batch is reported as failed and the next batch is still created
+            """)
+    void importUrlsContinuesAfterFailedBatch() {
+        // GIVEN
+        willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(List.of())
+                .given(urlService).createUrls(anyList());
+
+        // WHEN
+        ImportReport report = importService.importUrls(
+                VALID_USER, new StringReader(NDJSON_BODY), UrlFileFormat.NDJSON);
+
+        // THEN
+        verify(urlService, times(2)).createUrls(anyList());
+        assertThat(report.imported()).isEqualTo(1L);
+        assertThat(report.failed()).isEqualTo(4L);
+        assertThat(report.batches()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN NDJSON body with a line longer than the line limit
+            WHEN importUrls is called
+            THEN the line is reported as failed and the following lines are still imported
+            """)
+    void importUrlsSkipsOverLongLine() {
+        // GIVEN
+        captureBatches();
+
+        // WHEN
+        ImportReport report = importService.importUrls(
+                VALID_USER, new StringReader(OVER_LONG_BODY), UrlFileFormat.NDJSON);
+
+        // THEN
+        assertThat(committedBatches).containsExactly(
+                List.of("https://example.com/1", "https://example.com/2"));
+        assertThat(report.linesRead()).isEqualTo(3L);
+        assertThat(report.failed()).isEqualTo(1L);
+        assertThat(report.errors()).singleElement()
+                .satisfies(error -> assertThat(error.line()).isEqualTo(2L))
+                .satisfies(error -> assertThat(error.message()).startsWith("Line is longer"));
+    }
+
+    private void captureBatches() {
+        given(urlService.createUrls(anyList())).willAnswer(invocation -> {
+            List<Url> urls = invocation.getArgument(0);
+            committedBatches.add(urls.stream().map(Url::getOriginalUrl).toList());
+            return urls;
+        });
+    }
+}
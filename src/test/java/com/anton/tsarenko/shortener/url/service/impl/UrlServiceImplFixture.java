@@ -1,13 +1,17 @@
 package com.anton.tsarenko.shortener.url.service.impl;
 
 import com.anton.tsarenko.shortener.auth.entity.User;
+import com.anton.tsarenko.shortener.url.dto.ResolvedUrl;
 import com.anton.tsarenko.shortener.url.entity.Url;
+import java.sql.SQLException;
 import java.time.Instant;
 import java.util.List;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 /**
  * This class is a fixture for testing {@link UrlServiceImpl}.
@@ -16,6 +20,9 @@ class UrlServiceImplFixture {
     /** Existing short code used in resolve tests. */
     static final String SHORT_CODE = "abc123";
 
+    /** Second short code used in bulk create tests. */
+    static final String SECOND_SHORT_CODE = "def456";
+
     /** Original URL used in resolve tests. */
     static final String ORIGINAL_URL = "https://example.com/create";
 
@@ -50,10 +57,36 @@ class UrlServiceImplFixture {
     /** Expected created URL identifier. */
     static final Long CREATED_URL_ID = 15L;
 
-    /** Sample URL page returned by repository. */
-    static final Page<Url> URL_PAGE = new PageImpl<>(
-            List.of(SAVED_URL),
-            PAGEABLE,
-            1
+    /** Total number of URLs of the user. */
+    static final long URL_COUNT = 7L;
+
+    /** Id of the last URL of the previous slice. */
+    static final long AFTER_ID = 14L;
+
+    /** Sample URL slice returned by repository. */
+    static final Slice<Url> URL_SLICE = new SliceImpl<>(List.of(SAVED_URL));
+
+    /** Resolution of the saved URL short code. */
+    static final ResolvedUrl RESOLVED_URL = new ResolvedUrl(
+            ORIGINAL_URL,
+            Instant.parse("2030-01-01T00:00:00Z")
     );
+
+    /** URL entities used as input in bulk create scenario. */
+    static final List<Url> URLS_TO_CREATE = List.of(
+            Url.builder().user(VALID_USER).originalUrl(ORIGINAL_URL).build(),
+            Url.builder().user(VALID_USER).originalUrl(ORIGINAL_URL).build()
+    );
+
+    /** Insert failure caused by a short code that is already taken. */
+    static final DataIntegrityViolationException SHORT_CODE_VIOLATION =
+            new DataIntegrityViolationException("could not execute statement",
+                    new ConstraintViolationException("duplicate key value",
+                            new SQLException("duplicate key value"), "ux_urls_short_code"));
+
+    /** Insert failure caused by a constraint other than the short code one. */
+    static final DataIntegrityViolationException USER_VIOLATION =
+            new DataIntegrityViolationException("could not execute statement",
+                    new ConstraintViolationException("foreign key violation",
+                            new SQLException("foreign key violation"), "urls_user_id_fkey"));
 }
@@ -1,30 +1,55 @@
 package com.anton.tsarenko.shortener.url.service.impl;
 
+import static com.anton.tsarenko.shortener.url.service.impl.UrlServiceImplFixture.AFTER_ID;
 import static com.anton.tsarenko.shortener.url.service.impl.UrlServiceImplFixture.CREATED_URL_ID;
 import static com.anton.tsarenko.shortener.url.service.impl.UrlServiceImplFixture.ORIGINAL_URL;
 import static com.anton.tsarenko.shortener.url.service.impl.UrlServiceImplFixture.PAGEABLE;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlServiceImplFixture.RESOLVED_URL;
 import static com.anton.tsarenko.shortener.url.service.impl.UrlServiceImplFixture.SAVED_URL;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlServiceImplFixture.SECOND_SHORT_CODE;
 import static com.anton.tsarenko.shortener.url.service.impl.UrlServiceImplFixture.SHORT_CODE;
-import static com.anton.tsarenko.shortener.url.service.impl.UrlServiceImplFixture.URL_PAGE;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlServiceImplFixture.SHORT_CODE_VIOLATION;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlServiceImplFixture.URLS_TO_CREATE;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlServiceImplFixture.URL_COUNT;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlServiceImplFixture.URL_SLICE;
 import static com.anton.tsarenko.shortener.url.service.impl.UrlServiceImplFixture.URL_TO_CREATE;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlServiceImplFixture.USER_VIOLATION;
 import static com.anton.tsarenko.shortener.url.service.impl.UrlServiceImplFixture.VALID_USER;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.anton.tsarenko.shortener.exceptions.custom.UrlNotFoundException;
+import com.anton.tsarenko.shortener.exceptions.custom.UserNotFoundException;
+import com.anton.tsarenko.shortener.url.cache.ResolvedUrlCache;
+import com.anton.tsarenko.shortener.url.cache.UrlCountCache;
+import com.anton.tsarenko.shortener.url.counter.RedirectCounter;
 import com.anton.tsarenko.shortener.url.entity.Url;
+import com.anton.tsarenko.shortener.url.filter.ShortCodeFilter;
 import com.anton.tsarenko.shortener.url.repo.UrlRepository;
+import com.anton.tsarenko.shortener.url.service.ShortCodeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 /**
  * Unit tests for {@link UrlServiceImpl}.
@@ -35,6 +60,27 @@ class UrlServiceImplTest {
     @Mock
     private UrlRepository urlRepository;
 
+    @Mock
+    private ResolvedUrlCache resolvedUrlCache;
+
+    @Mock
+    private RedirectCounter redirectCounter;
+
+    @Mock
+    private ShortCodeFilter shortCodeFilter;
+
+    @Mock
+    private ShortCodeService shortCodeService;
+
+    @Mock
+    private UrlCountCache urlCountCache;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry;
+
+    @Spy
+    private SyncTaskExecutor urlCountExecutor;
+
     @InjectMocks
     private UrlServiceImpl urlService;
 
@@ -42,11 +88,11 @@ class UrlServiceImplTest {
     @DisplayName("""
             GIVEN valid Url entity
             WHEN createUrl is called
-            THEN sets short code, saves url and returns created id
+            THEN sets short code, saves url, adds short code to filter and returns created id
             """)
     void createUrlValid() {
         // GIVEN
-        given(urlRepository.existsByShortCode(anyString())).willReturn(false);
+        given(shortCodeService.nextShortCode()).willReturn(SHORT_CODE);
         given(urlRepository.save(URL_TO_CREATE)).willReturn(SAVED_URL);
 
         // WHEN
@@ -54,53 +100,247 @@ class UrlServiceImplTest {
 
         // THEN
         assertThat(actualId).isEqualTo(CREATED_URL_ID);
-        assertThat(URL_TO_CREATE.getShortCode()).isNotBlank();
+        assertThat(URL_TO_CREATE.getShortCode()).isEqualTo(SHORT_CODE);
+        verify(urlRepository).save(URL_TO_CREATE);
+        verify(shortCodeFilter).put(SHORT_CODE);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN valid Url entity and first generated short code already taken
+            WHEN createUrl is called
+            THEN retries the insert with a new short code and counts the collision
+            """)
+    void createUrlRetriesShortCodeCollision() {
+        // GIVEN
+        given(shortCodeService.nextShortCode()).willReturn(SHORT_CODE, SECOND_SHORT_CODE);
+        given(urlRepository.save(URL_TO_CREATE))
+                .willThrow(SHORT_CODE_VIOLATION)
+                .willReturn(SAVED_URL);
+
+        // WHEN
+        Long actualId = urlService.createUrl(URL_TO_CREATE);
+
+        // THEN
+        assertThat(actualId).isEqualTo(CREATED_URL_ID);
+        assertThat(URL_TO_CREATE.getShortCode()).isEqualTo(SECOND_SHORT_CODE);
+        verify(urlRepository, times(2)).save(URL_TO_CREATE);
+        verify(shortCodeFilter, never()).put(SHORT_CODE);
+        verify(shortCodeFilter).put(SECOND_SHORT_CODE);
+        assertThat(meterRegistry.get("shortener.short-code.collisions").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN generated short codes that are always taken
+            WHEN createUrl is called
+            THEN gives up after bounded number of attempts and rethrows the violation
+            """)
+    void createUrlGivesUpAfterMaxAttempts() {
+        // GIVEN
+        given(shortCodeService.nextShortCode()).willReturn(SHORT_CODE);
+        given(urlRepository.save(URL_TO_CREATE)).willThrow(SHORT_CODE_VIOLATION);
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> urlService.createUrl(URL_TO_CREATE))
+                .isSameAs(SHORT_CODE_VIOLATION);
+        verify(urlRepository, times(5)).save(URL_TO_CREATE);
+        verify(shortCodeFilter, never()).put(SHORT_CODE);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN insert failing on the owner foreign key of a deleted user
+            WHEN createUrl is called
+            THEN throws UserNotFoundException without retrying
+            """)
+    void createUrlWhenUserDeleted() {
+        // GIVEN
+        given(shortCodeService.nextShortCode()).willReturn(SHORT_CODE);
+        given(urlRepository.save(URL_TO_CREATE)).willThrow(USER_VIOLATION);
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> urlService.createUrl(URL_TO_CREATE))
+                .isInstanceOf(UserNotFoundException.class)
+                .hasMessageContaining(String.valueOf(VALID_USER.getId()));
         verify(urlRepository).save(URL_TO_CREATE);
     }
 
     @Test
     @DisplayName("""
-            GIVEN existing user and pageable
+            GIVEN several valid Url entities
+            WHEN createUrls is called
+            THEN sets short codes, saves all urls at once and adds codes to filter
+            """)
+    void createUrlsValid() {
+        // GIVEN
+        given(shortCodeService.nextShortCode()).willReturn(SHORT_CODE, SECOND_SHORT_CODE);
+        given(urlRepository.saveAll(URLS_TO_CREATE)).willReturn(URLS_TO_CREATE);
+
+        // WHEN
+        List<Url> actualUrls = urlService.createUrls(URLS_TO_CREATE);
+
+        // THEN
+        assertThat(actualUrls).extracting(Url::getShortCode)
+                .containsExactly(SHORT_CODE, SECOND_SHORT_CODE);
+        verify(shortCodeFilter).put(SHORT_CODE);
+        verify(shortCodeFilter).put(SECOND_SHORT_CODE);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN existing user without cached url count and pageable
             WHEN retrieveAllUrlsByUser is called
-            THEN delegates to repository and returns page
+            THEN combines page content with counted total and offers total to the cache
             """)
     void retrieveAllUrlsByUserValid() {
         // GIVEN
-        given(urlRepository.findAllByUser(VALID_USER, PAGEABLE)).willReturn(URL_PAGE);
+        given(urlCountCache.get(VALID_USER.getId())).willReturn(OptionalLong.empty());
+        given(urlRepository.findAllByUser(VALID_USER, PAGEABLE)).willReturn(List.of(SAVED_URL));
+        given(urlRepository.countByUser(VALID_USER)).willReturn(URL_COUNT);
+
+        // WHEN
+        Page<Url> actualPage = urlService.retrieveAllUrlsByUser(VALID_USER, PAGEABLE);
+
+        // THEN
+        assertThat(actualPage.getContent()).containsExactly(SAVED_URL);
+        assertThat(actualPage.getTotalElements()).isEqualTo(URL_COUNT);
+        verify(urlCountCache).put(VALID_USER.getId(), URL_COUNT);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN existing user without cached url count and saturated count executor
+            WHEN retrieveAllUrlsByUser is called
+            THEN counts urls inline on the calling thread
+            """)
+    void retrieveAllUrlsByUserWhenCountExecutorSaturated() {
+        // GIVEN
+        given(urlCountCache.get(VALID_USER.getId())).willReturn(OptionalLong.empty());
+        willThrow(new TaskRejectedException("Concurrency limit reached"))
+                .given(urlCountExecutor).execute(any(Runnable.class));
+        given(urlRepository.findAllByUser(VALID_USER, PAGEABLE)).willReturn(List.of(SAVED_URL));
+        given(urlRepository.countByUser(VALID_USER)).willReturn(URL_COUNT);
+
+        // WHEN
+        Page<Url> actualPage = urlService.retrieveAllUrlsByUser(VALID_USER, PAGEABLE);
+
+        // THEN
+        assertThat(actualPage.getTotalElements()).isEqualTo(URL_COUNT);
+        verify(urlRepository).countByUser(VALID_USER);
+        verify(urlCountCache).put(VALID_USER.getId(), URL_COUNT);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN existing user with cached url count and pageable
+            WHEN retrieveAllUrlsByUser is called
+            THEN returns cached total without counting urls
+            """)
+    void retrieveAllUrlsByUserWithCachedCount() {
+        // GIVEN
+        given(urlCountCache.get(VALID_USER.getId())).willReturn(OptionalLong.of(URL_COUNT));
+        given(urlRepository.findAllByUser(VALID_USER, PAGEABLE)).willReturn(List.of(SAVED_URL));
 
         // WHEN
         Page<Url> actualPage = urlService.retrieveAllUrlsByUser(VALID_USER, PAGEABLE);
 
         // THEN
-        assertThat(actualPage).isEqualTo(URL_PAGE);
+        assertThat(actualPage.getTotalElements()).isEqualTo(URL_COUNT);
+        verify(urlRepository, never()).countByUser(VALID_USER);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN existing user, last id of the previous slice and size
+            WHEN retrieveUrlsByUserAfter is called
+            THEN seeks past the id ordered by id and returns slice
+            """)
+    void retrieveUrlsByUserAfterValid() {
+        // GIVEN
+        given(urlRepository.findAllByUserAndIdGreaterThan(
+                VALID_USER, AFTER_ID, PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "id"))))
+                .willReturn(URL_SLICE);
+
+        // WHEN
+        Slice<Url> actualSlice = urlService.retrieveUrlsByUserAfter(VALID_USER, AFTER_ID, 2);
+
+        // THEN
+        assertThat(actualSlice).isEqualTo(URL_SLICE);
     }
 
     @Test
     @DisplayName("""
-            GIVEN existing url id
+            GIVEN existing url id of the user
             WHEN deleteUrl is called
-            THEN delegates deletion to repository
+            THEN deletes url and evicts its short code from cache
             """)
     void deleteUrlValid() {
         // GIVEN
+        given(urlRepository.findByIdAndUserId(CREATED_URL_ID, VALID_USER.getId()))
+                .willReturn(Optional.of(SAVED_URL));
 
         // WHEN
-        urlService.deleteUrl(CREATED_URL_ID);
+        urlService.deleteUrl(VALID_USER.getId(), CREATED_URL_ID);
 
         // THEN
-        verify(urlRepository).deleteById(CREATED_URL_ID);
+        verify(urlRepository).delete(SAVED_URL);
+        verify(resolvedUrlCache).evict(SHORT_CODE);
+        verify(shortCodeFilter).markDeleted(SHORT_CODE);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN url id of another user
+            WHEN deleteUrl is called
+            THEN UrlNotFoundException is thrown and nothing is deleted
+            """)
+    void deleteUrlWhenUrlOfAnotherUser() {
+        // GIVEN
+        given(urlRepository.findByIdAndUserId(CREATED_URL_ID, VALID_USER.getId()))
+                .willReturn(Optional.empty());
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> urlService.deleteUrl(VALID_USER.getId(), CREATED_URL_ID))
+                .isInstanceOf(UrlNotFoundException.class);
+        verify(urlRepository, never()).delete(any(Url.class));
     }
 
     @Test
     @DisplayName("""
             GIVEN existing short code
             WHEN resolveOriginalUrlAndIncreaseRedirectCount is called
-            THEN increments redirects and returns original url
+            THEN caches resolution, counts redirect and returns original url
             """)
     void resolveOriginalUrlAndIncreaseRedirectCountValid() {
         // GIVEN
-        given(urlRepository.findByShortCode(SHORT_CODE)).willReturn(Optional.of(SAVED_URL));
-        given(urlRepository.save(SAVED_URL)).willReturn(SAVED_URL);
+        given(redirectCounter.isWriteBehind()).willReturn(true);
+        given(urlRepository.findResolvedByShortCode(SHORT_CODE))
+                .willReturn(Optional.of(RESOLVED_URL));
+
+        // WHEN
+        String actualOriginalUrl = urlService.resolveOriginalUrlAndIncreaseRedirectCount(
+                SHORT_CODE
+        );
+
+        // THEN
+        assertThat(actualOriginalUrl).isEqualTo(ORIGINAL_URL);
+        verify(resolvedUrlCache).put(SHORT_CODE, RESOLVED_URL);
+        verify(redirectCounter).increment(SHORT_CODE);
+        verify(urlRepository, never()).save(SAVED_URL);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN short code resolution present in cache
+            WHEN resolveOriginalUrlAndIncreaseRedirectCount is called
+            THEN counts redirect without loading url and returns cached original url
+            """)
+    void resolveOriginalUrlAndIncreaseRedirectCountFromCache() {
+        // GIVEN
+        given(redirectCounter.isWriteBehind()).willReturn(true);
+        given(resolvedUrlCache.get(SHORT_CODE)).willReturn(Optional.of(RESOLVED_URL));
 
         // WHEN
         String actualOriginalUrl = urlService.resolveOriginalUrlAndIncreaseRedirectCount(
@@ -109,8 +349,8 @@ class UrlServiceImplTest {
 
         // THEN
         assertThat(actualOriginalUrl).isEqualTo(ORIGINAL_URL);
-        assertThat(SAVED_URL.getRedirectsCount()).isEqualTo(4L);
-        verify(urlRepository).save(SAVED_URL);
+        verify(redirectCounter).increment(SHORT_CODE);
+        verify(urlRepository, never()).findResolvedByShortCode(SHORT_CODE);
     }
 
     @Test
@@ -121,7 +361,48 @@ class UrlServiceImplTest {
             """)
     void resolveOriginalUrlAndIncreaseRedirectCountWhenShortCodeNotFound() {
         // GIVEN
-        given(urlRepository.findByShortCode(SHORT_CODE)).willReturn(Optional.empty());
+        given(redirectCounter.isWriteBehind()).willReturn(true);
+        given(urlRepository.findResolvedByShortCode(SHORT_CODE)).willReturn(Optional.empty());
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> urlService.resolveOriginalUrlAndIncreaseRedirectCount(SHORT_CODE))
+                .isInstanceOf(UrlNotFoundException.class)
+                .hasMessageContaining(SHORT_CODE);
+        verify(redirectCounter, never()).increment(SHORT_CODE);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN write-behind counting disabled and existing short code
+            WHEN resolveOriginalUrlAndIncreaseRedirectCount is called
+            THEN resolves and counts redirect with a single repository statement
+            """)
+    void resolveOriginalUrlAndIncreaseRedirectCountWithoutWriteBehind() {
+        // GIVEN
+        given(urlRepository.incrementRedirectsCountAndGetOriginalUrl(SHORT_CODE))
+                .willReturn(Optional.of(ORIGINAL_URL));
+
+        // WHEN
+        String actualOriginalUrl = urlService.resolveOriginalUrlAndIncreaseRedirectCount(
+                SHORT_CODE
+        );
+
+        // THEN
+        assertThat(actualOriginalUrl).isEqualTo(ORIGINAL_URL);
+        verify(urlRepository, never()).findResolvedByShortCode(SHORT_CODE);
+        verify(redirectCounter, never()).increment(SHORT_CODE);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN write-behind counting disabled and unknown or expired short code
+            WHEN resolveOriginalUrlAndIncreaseRedirectCount is called
+            THEN throws UrlNotFoundException
+            """)
+    void resolveOriginalUrlAndIncreaseRedirectCountWithoutWriteBehindNotFound() {
+        // GIVEN
+        given(urlRepository.incrementRedirectsCountAndGetOriginalUrl(SHORT_CODE))
+                .willReturn(Optional.empty());
 
         // WHEN / THEN
         assertThatThrownBy(() -> urlService.resolveOriginalUrlAndIncreaseRedirectCount(SHORT_CODE))
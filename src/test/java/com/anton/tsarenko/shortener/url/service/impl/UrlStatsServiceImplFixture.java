@@ -0,0 +1,23 @@
+package com.anton.tsarenko.shortener.url.service.impl;
+
+import java.time.Instant;
+
+/**
+ * This class is a fixture for testing {@link UrlStatsServiceImpl}.
+ */
+class UrlStatsServiceImplFixture {
+    /** Owner of the URL. */
+    static final Long USER_ID = 1L;
+
+    /** ID of the URL. */
+    static final Long URL_ID = 10L;
+
+    /** Number of requested buckets. */
+    static final int BUCKETS = 3;
+
+    /** Number of redirects in the only non-empty bucket. */
+    static final long CLICKS = 7;
+
+    /** Rollup watermark. */
+    static final Instant ROLLED_UP_TO = Instant.parse("2026-10-18T10:58:00Z");
+}
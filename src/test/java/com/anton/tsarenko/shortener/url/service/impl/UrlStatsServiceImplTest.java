@@ -0,0 +1,90 @@
+package com.anton.tsarenko.shortener.url.service.impl;
+
+import static com.anton.tsarenko.shortener.url.service.impl.UrlStatsServiceImplFixture.BUCKETS;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlStatsServiceImplFixture.CLICKS;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlStatsServiceImplFixture.ROLLED_UP_TO;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlStatsServiceImplFixture.URL_ID;
+import static com.anton.tsarenko.shortener.url.service.impl.UrlStatsServiceImplFixture.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.anton.tsarenko.shortener.exceptions.custom.UrlNotFoundException;
+import com.anton.tsarenko.shortener.url.dto.StatsBucket;
+import com.anton.tsarenko.shortener.url.dto.UrlStatsResponse;
+import com.anton.tsarenko.shortener.url.repo.ClickRepository;
+import com.anton.tsarenko.shortener.url.repo.UrlRepository;
+import com.anton.tsarenko.shortener.url.util.StatsGranularity;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link UrlStatsServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+class UrlStatsServiceImplTest {
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    @Mock
+    private ClickRepository clickRepository;
+
+    @InjectMocks
+    private UrlStatsServiceImpl urlStatsService;
+
+    @Test
+    @DisplayName("""
+            GIVEN url of the user with redirects in the current hour only
+            WHEN getStats is called
+            THEN returns consecutive hourly buckets with empty buckets filled with zeros
+            """)
+    void getStatsFillsEmptyBuckets() {
+        // GIVEN
+        Instant currentHour = StatsGranularity.HOUR.bucketStart(Instant.now());
+        given(urlRepository.existsByIdAndUserId(URL_ID, USER_ID)).willReturn(true);
+        given(clickRepository.findStats(
+                eq(URL_ID), eq(StatsGranularity.HOUR), any(Instant.class), any(Instant.class)))
+                .willReturn(List.of(new StatsBucket(currentHour, CLICKS)));
+        given(clickRepository.findRolledUpTo()).willReturn(ROLLED_UP_TO);
+
+        // WHEN
+        UrlStatsResponse stats =
+                urlStatsService.getStats(USER_ID, URL_ID, StatsGranularity.HOUR, BUCKETS);
+
+        // THEN
+        assertThat(stats.buckets()).containsExactly(
+                new StatsBucket(currentHour.minus(Duration.ofHours(2)), 0),
+                new StatsBucket(currentHour.minus(Duration.ofHours(1)), 0),
+                new StatsBucket(currentHour, CLICKS));
+        assertThat(stats.totalClicks()).isEqualTo(CLICKS);
+        assertThat(stats.rolledUpTo()).isEqualTo(ROLLED_UP_TO);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN url that does not belong to the user
+            WHEN getStats is called
+            THEN UrlNotFoundException is thrown without reading rollups
+            """)
+    void getStatsWhenUrlOfAnotherUser() {
+        // GIVEN
+        given(urlRepository.existsByIdAndUserId(URL_ID, USER_ID)).willReturn(false);
+
+        // WHEN / THEN
+        assertThatThrownBy(() ->
+                urlStatsService.getStats(USER_ID, URL_ID, StatsGranularity.DAY, BUCKETS))
+                .isInstanceOf(UrlNotFoundException.class);
+        verifyNoInteractions(clickRepository);
+    }
+}
@@ -0,0 +1,15 @@
+package com.anton.tsarenko.shortener.url.util;
+
+/**
+ * This class is a fixture for testing {@link BoundedLineReader}.
+ */
+class BoundedLineReaderFixture {
+    /** Maximum number of characters of a line kept in memory. */
+    static final int MAX_LINE_LENGTH = 5;
+
+    /** Body mixing all line terminators, an empty line and no trailing terminator. */
+    static final String MIXED_TERMINATORS = "one\ntwo\r\nthree\r\rfour";
+
+    /** Body with a line over the limit between two short lines. */
+    static final String OVER_LONG_LINE = "one\n123456789\r\ntwo\n";
+}
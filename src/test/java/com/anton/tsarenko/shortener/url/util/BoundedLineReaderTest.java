@@ -0,0 +1,70 @@
+package com.anton.tsarenko.shortener.url.util;
+
+import static com.anton.tsarenko.shortener.url.util.BoundedLineReaderFixture.MAX_LINE_LENGTH;
+import static com.anton.tsarenko.shortener.url.util.BoundedLineReaderFixture.MIXED_TERMINATORS;
+import static com.anton.tsarenko.shortener.url.util.BoundedLineReaderFixture.OVER_LONG_LINE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BoundedLineReader}.
+ */
+class BoundedLineReaderTest {
+
+    @Test
+    @DisplayName("""
+            GIVEN body with LF, CRLF and CR terminators and no trailing terminator
+            WHEN lines are read
+            THEN returns every line without its terminator
+            """)
+    void readLineSplitsOnAllTerminators() throws IOException {
+        // GIVEN
+        List<String> lines = new ArrayList<>();
+
+        // WHEN
+        try (BoundedLineReader reader = new BoundedLineReader(
+                new StringReader(MIXED_TERMINATORS), MAX_LINE_LENGTH)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lines.add(line);
+            }
+        }
+
+        // THEN
+        assertThat(lines).containsExactly("one", "two", "three", "", "four");
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN body with a line longer than the limit
+            WHEN lines are read
+            THEN the line is cut off, flagged as too long and reading resumes at the next line
+            """)
+    void readLineFlagsOverLongLine() throws IOException {
+        // GIVEN
+        BoundedLineReader reader = new BoundedLineReader(
+                new StringReader(OVER_LONG_LINE), MAX_LINE_LENGTH);
+
+        // WHEN
+        String first = reader.readLine();
+        boolean firstTooLong = reader.isLineTooLong();
+        String second = reader.readLine();
+        boolean secondTooLong = reader.isLineTooLong();
+        String third = reader.readLine();
+        boolean thirdTooLong = reader.isLineTooLong();
+
+        // THEN
+        assertThat(first).isEqualTo("one");
+        assertThat(firstTooLong).isFalse();
+        assertThat(second).isEqualTo("12345");
+        assertThat(secondTooLong).isTrue();
+        assertThat(third).isEqualTo("two");
+        assertThat(thirdTooLong).isFalse();
+        assertThat(reader.readLine()).isNull();
+    }
+}
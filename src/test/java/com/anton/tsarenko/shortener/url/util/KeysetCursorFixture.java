@@ -0,0 +1,12 @@
+package com.anton.tsarenko.shortener.url.util;
+
+/**
+ * This class is a fixture for testing {@link KeysetCursor}.
+ */
+class KeysetCursorFixture {
+    /** Id of the last URL of a slice. */
+    static final long LAST_ID = 42L;
+
+    /** Cursors that were not produced by the encoder. */
+    static final String[] INVALID_CURSORS = {"not base64!", "aWQ6", "Zm9vOjQy", "aWQ6LTE"};
+}
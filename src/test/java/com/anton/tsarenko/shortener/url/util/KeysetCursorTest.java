@@ -0,0 +1,68 @@
+package com.anton.tsarenko.shortener.url.util;
+
+import static com.anton.tsarenko.shortener.url.util.KeysetCursorFixture.INVALID_CURSORS;
+import static com.anton.tsarenko.shortener.url.util.KeysetCursorFixture.LAST_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.anton.tsarenko.shortener.exceptions.custom.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link KeysetCursor}.
+ */
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("""
+            GIVEN id of the last URL of a slice
+            WHEN cursor is encoded and decoded
+            THEN returns the same id
+            """)
+    void encodeDecodeRoundTrip() {
+        // GIVEN
+
+        // WHEN
+        String cursor = KeysetCursor.encode(LAST_ID);
+
+        // THEN
+        assertThat(cursor).matches("^[A-Za-z0-9_-]+$");
+        assertThat(KeysetCursor.decode(cursor)).isEqualTo(LAST_ID);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN absent or blank cursor
+            WHEN decode is called
+            THEN returns 0 to start from the first slice
+            """)
+    void decodeAbsentCursor() {
+        // GIVEN
+
+        // WHEN
+        long fromNull = KeysetCursor.decode(null);
+        long fromBlank = KeysetCursor.decode(" ");
+
+        // THEN
+        assertThat(fromNull).isZero();
+        assertThat(fromBlank).isZero();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN cursors not produced by the encoder
+            WHEN decode is called
+            THEN throws InvalidCursorException
+            """)
+    void decodeInvalidCursor() {
+        // GIVEN
+
+        // WHEN
+        // THEN
+        for (String cursor : INVALID_CURSORS) {
+            assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+                    .isInstanceOf(InvalidCursorException.class);
+        }
+    }
+}
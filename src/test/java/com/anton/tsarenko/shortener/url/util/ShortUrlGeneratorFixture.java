@@ -15,4 +15,10 @@ class ShortUrlGeneratorFixture {
 
     /** Allowed characters in generated short codes. */
     static final String SHORT_CODE_REGEX = "^[A-Za-z0-9]+$";
+
+    /** Number of consecutive sequence values checked for distinct codes. */
+    static final int SEQUENCE_ITERATIONS = 100_000;
+
+    /** Sequence values at the edges of the sequence domain. */
+    static final long[] EDGE_SEQUENCE_VALUES = {0L, 1L, ShortUrlGenerator.MAX_SEQUENCE_VALUE};
 }
@@ -1,11 +1,16 @@
 package com.anton.tsarenko.shortener.url.util;
 
+import static com.anton.tsarenko.shortener.url.util.ShortUrlGeneratorFixture.EDGE_SEQUENCE_VALUES;
 import static com.anton.tsarenko.shortener.url.util.ShortUrlGeneratorFixture.GENERATION_ITERATIONS;
 import static com.anton.tsarenko.shortener.url.util.ShortUrlGeneratorFixture.MAX_SHORT_CODE_LENGTH;
 import static com.anton.tsarenko.shortener.url.util.ShortUrlGeneratorFixture.MIN_SHORT_CODE_LENGTH;
+import static com.anton.tsarenko.shortener.url.util.ShortUrlGeneratorFixture.SEQUENCE_ITERATIONS;
 import static com.anton.tsarenko.shortener.url.util.ShortUrlGeneratorFixture.SHORT_CODE_REGEX;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.HashSet;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -48,4 +53,63 @@ class ShortUrlGeneratorTest {
             assertThat(shortCode).matches(SHORT_CODE_REGEX);
         }
     }
+
+    @Test
+    @DisplayName("""
+            GIVEN consecutive sequence values
+            WHEN generateShortCode is called with each value
+            THEN codes are distinct, 8 characters long and not consecutive
+            """)
+    void generateShortCodeFromSequenceIsUnique() {
+        // GIVEN
+        Set<String> shortCodes = new HashSet<>();
+
+        // WHEN
+        for (long value = 0; value < SEQUENCE_ITERATIONS; value++) {
+            shortCodes.add(ShortUrlGenerator.generateShortCode(value));
+        }
+
+        // THEN
+        assertThat(shortCodes).hasSize(SEQUENCE_ITERATIONS)
+                .allMatch(shortCode -> shortCode.length()
+                        == ShortUrlGenerator.SEQUENCE_SHORT_CODE_LENGTH)
+                .allMatch(shortCode -> shortCode.matches(SHORT_CODE_REGEX));
+        assertThat(ShortUrlGenerator.generateShortCode(2L))
+                .doesNotStartWith(ShortUrlGenerator.generateShortCode(1L).substring(0, 4));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN sequence values at the edges of the sequence domain
+            WHEN short code is derived and converted back
+            THEN the original sequence value is restored
+            """)
+    void generateShortCodeFromSequenceIsReversible() {
+        // GIVEN
+
+        // WHEN / THEN
+        for (long value : EDGE_SEQUENCE_VALUES) {
+            String shortCode = ShortUrlGenerator.generateShortCode(value);
+            assertThat(ShortUrlGenerator.toSequenceValue(shortCode)).isEqualTo(value);
+        }
+        for (int i = 0; i < GENERATION_ITERATIONS; i++) {
+            String shortCode = ShortUrlGenerator.generateShortCode(i * 7_919L);
+            assertThat(ShortUrlGenerator.toSequenceValue(shortCode)).isEqualTo(i * 7_919L);
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN sequence value out of the sequence domain
+            WHEN generateShortCode is called
+            THEN throws IllegalArgumentException
+            """)
+    void generateShortCodeFromSequenceOutOfRange() {
+        // GIVEN
+        long value = ShortUrlGenerator.MAX_SEQUENCE_VALUE + 1;
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> ShortUrlGenerator.generateShortCode(value))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }